@@ -0,0 +1,191 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import java.util.Comparator;
+
+import br.edu.ifs.ed2.dados.no.NoAVL;
+import br.edu.ifs.ed2.dados.no.NoTriplo;
+
+/**
+ * Classe que implementa as operaes de uma rvore AVL, ou seja, uma rvore
+ * binria de busca que efetua rotaes aps cada insero e remoo, de modo
+ * que a diferena entre as alturas das subrvores de qualquer n seja no mximo
+ * um. Dessa forma, a altura da rvore permanece O(log n), mesmo quando os
+ * elementos so inseridos de forma ordenada.
+ *
+ * @author Marlos Tacio Silva.
+ *
+ */
+public class ArvoreAVL<G> extends ArvoreBinaria<G> {
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe.
+	 */
+	public ArvoreAVL() {
+
+		super();
+	}
+
+	/**
+	 * Construtor da classe, com os elementos ordenados por um comparador.
+	 *
+	 * @param comparador Comparador dos elementos, ou nulo, para a ordem natural.
+	 */
+	public ArvoreAVL(Comparator<? super G> comparador) {
+
+		super(null, comparador);
+	}
+
+	/*
+	 * Mtodos pblicos ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna a altura da rvore a partir da altura armazenada na raiz.
+	 *
+	 * @return Altura da rvore, ou zero, caso a rvore esteja vazia.
+	 */
+	@Override
+	public int altura() {
+
+		return this.altura(this.getRaiz());
+	}
+
+	/*
+	 * Mtodos protegidos ----------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que constri um n capaz de armazenar a altura de sua subrvore.
+	 */
+	@Override
+	protected NoTriplo<G> criarNo(G conteudo) {
+
+		return new NoAVL<>(conteudo);
+	}
+
+	/**
+	 * Mtodo que rebalanceia a rvore a partir do pai do n inserido.
+	 */
+	@Override
+	protected void aposInsercao(NoTriplo<G> no) {
+
+		this.balancear(no.getPai());
+	}
+
+	/**
+	 * Mtodo que rebalanceia a rvore a partir do n alterado pela remoo.
+	 */
+	@Override
+	protected void aposRemocao(NoTriplo<G> no) {
+
+		this.balancear(no);
+	}
+
+	/**
+	 * Mtodo que recalcula a altura de um n a partir das alturas de seus filhos.
+	 */
+	@Override
+	protected void atualizar(NoTriplo<G> no) {
+
+		int esquerda = this.altura(no.getEsquerdo());
+		int direita = this.altura(no.getDireito());
+
+		((NoAVL<G>) no).setAltura(1 + Math.max(esquerda, direita));
+	}
+
+	/*
+	 * Mtodos privados ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna a altura de um n.
+	 *
+	 * @param no N em foco.
+	 *
+	 * @return Altura do n, ou zero, caso o n seja nulo.
+	 */
+	private int altura(NoTriplo<G> no) {
+
+		if (no == null) {
+
+			return 0;
+		}
+
+		return ((NoAVL<G>) no).getAltura();
+	}
+
+	/**
+	 * Mtodo que retorna o fator de balanceamento de um n, ou seja, a diferena
+	 * entre as alturas de suas subrvores esquerda e direita.
+	 *
+	 * @param no N em foco.
+	 *
+	 * @return Fator de balanceamento do n.
+	 */
+	private int fatorBalanceamento(NoTriplo<G> no) {
+
+		return this.altura(no.getEsquerdo()) - this.altura(no.getDireito());
+	}
+
+	/**
+	 * Mtodo que percorre o caminho entre um determinado n e a raiz, atualizando
+	 * as alturas e aplicando as rotaes necessrias para restabelecer o
+	 * balanceamento de cada n.
+	 *
+	 * @param no N de incio do percurso.
+	 */
+	private void balancear(NoTriplo<G> no) {
+
+		/*
+		 * Deslocamento at o n mais superior da rvore.
+		 */
+		while (no != null) {
+
+			this.atualizar(no);
+
+			int fator = this.fatorBalanceamento(no);
+
+			/*
+			 * Se a subrvore esquerda for mais alta, ento aplicar uma rotao  direita,
+			 * precedida por uma rotao  esquerda no filho esquerdo, caso este esteja
+			 * pendendo para a direita (rotao dupla).
+			 */
+			if (fator > 1) {
+
+				if (this.fatorBalanceamento(no.getEsquerdo()) < 0) {
+
+					this.rotacionarEsquerda(no.getEsquerdo());
+				}
+
+				no = this.rotacionarDireita(no);
+			}
+
+			/*
+			 * Se a subrvore direita for mais alta, ento aplicar uma rotao  esquerda,
+			 * precedida por uma rotao  direita no filho direito, caso este esteja
+			 * pendendo para a esquerda (rotao dupla).
+			 */
+			else if (fator < -1) {
+
+				if (this.fatorBalanceamento(no.getDireito()) > 0) {
+
+					this.rotacionarDireita(no.getDireito());
+				}
+
+				no = this.rotacionarEsquerda(no);
+			}
+
+			/*
+			 * Atualizao do n em foco pelo seu pai.
+			 */
+			no = no.getPai();
+		}
+	}
+}
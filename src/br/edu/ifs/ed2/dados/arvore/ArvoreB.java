@@ -0,0 +1,780 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import br.edu.ifs.ed2.dados.no.NoB;
+
+/**
+ * Classe que implementa as operaes de uma rvore B. Cada n armazena um
+ * conjunto de chaves em vetores contguos, cuja quantidade mxima  definida na
+ * construo da rvore, sendo a busca dentro de cada n efetuada de forma
+ * binria. Dessa forma, a quantidade de ns visitados por operao  reduzida
+ * de log2(n) para aproximadamente log(n) na base da capacidade dos ns.
+ *
+ * Diferentemente da rvore binria de busca, a rvore B no armazena chaves
+ * repetidas.
+ *
+ * @author Marlos Tacio Silva.
+ *
+ */
+public class ArvoreB<G extends Comparable<G>> {
+
+	/*
+	 * Atributos -------------------------------------------------------------------
+	 */
+
+	/**
+	 * Capacidade padro dos ns da rvore.
+	 */
+	public static final int CAPACIDADE_PADRAO = 64;
+
+	/**
+	 * Atributo que contm uma referncia para o n raiz da rvore.
+	 */
+	private NoB<G> raiz;
+
+	/**
+	 * Quantidade mxima de chaves de cada n.
+	 */
+	private int capacidade;
+
+	/**
+	 * Quantidade mnima de chaves de cada n, com exceo da raiz.
+	 */
+	private int minimoChaves;
+
+	/**
+	 * Quantidade de chaves armazenadas na rvore.
+	 */
+	private int tamanho;
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe.
+	 */
+	public ArvoreB() {
+
+		this(CAPACIDADE_PADRAO);
+	}
+
+	/**
+	 * Construtor da classe.
+	 *
+	 * @param capacidade Quantidade mxima de chaves de cada n (e.g., 32 a 256).
+	 *
+	 * @throws IllegalArgumentException Caso a capacidade seja menor do que 3.
+	 */
+	public ArvoreB(int capacidade) {
+
+		if (capacidade < 3) {
+
+			throw new IllegalArgumentException("A capacidade dos ns deve ser de no mnimo 3 chaves.");
+		}
+
+		this.capacidade = capacidade;
+		this.minimoChaves = (capacidade - 1) / 2;
+	}
+
+	/*
+	 * Mtodos pblicos ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo para a insero de um elemento na rvore B. Os ns cheios
+	 * encontrados no caminho entre a raiz e a folha so divididos durante a
+	 * descida, de modo que a insero seja efetuada em uma nica passagem.
+	 *
+	 * @param conteudo Contedo a ser inserido.
+	 *
+	 * @return Verdadeiro, para insero bem sucedida, ou falso, caso o contedo
+	 *         seja nulo ou j esteja na rvore.
+	 */
+	public boolean inserir(G conteudo) {
+
+		/*
+		 * Verificao e indicao de insero mal sucedida, caso o contedo seja nulo.
+		 */
+		if (conteudo == null) {
+
+			return false;
+		}
+
+		/*
+		 * Estabelece uma folha como raiz, caso a rvore esteja vazia.
+		 */
+		if (this.raiz == null) {
+
+			this.raiz = new NoB<>(this.capacidade, true);
+		}
+
+		/*
+		 * Se a raiz estiver cheia, ento a rvore cresce em altura, com uma nova raiz
+		 * que recebe a chave mediana da antiga.
+		 */
+		if (this.raiz.getQuantidade() == this.capacidade) {
+
+			NoB<G> novaRaiz = new NoB<>(this.capacidade, false);
+			novaRaiz.setFilho(0, this.raiz);
+
+			this.dividir(novaRaiz, 0);
+			this.raiz = novaRaiz;
+		}
+
+		/*
+		 * Percorre a rvore a partir da raiz at a folha de insero.
+		 */
+		NoB<G> no = this.raiz;
+
+		while (true) {
+
+			int posicao = this.posicao(no, conteudo);
+
+			/*
+			 * Verificao e indicao de insero mal sucedida, caso o contedo j esteja
+			 * na rvore.
+			 */
+			if (posicao >= 0) {
+
+				return false;
+			}
+
+			posicao = -posicao - 1;
+
+			/*
+			 * Insero do contedo na folha.
+			 */
+			if (no.ehFolha()) {
+
+				no.inserirChave(posicao, conteudo);
+				++this.tamanho;
+
+				return true;
+			}
+
+			/*
+			 * Se o filho em que a descida deve prosseguir estiver cheio, ento dividi-lo e
+			 * escolher a metade adequada.
+			 */
+			if (no.getFilho(posicao).getQuantidade() == this.capacidade) {
+
+				this.dividir(no, posicao);
+
+				int comparacao = conteudo.compareTo(no.getChave(posicao));
+
+				if (comparacao == 0) {
+
+					return false;
+				}
+
+				if (comparacao > 0) {
+
+					++posicao;
+				}
+			}
+
+			no = no.getFilho(posicao);
+		}
+	}
+
+	/**
+	 * Mtodo para a remoo de um elemento na rvore B. Os ns com a quantidade
+	 * mnima de chaves encontrados no caminho entre a raiz e a folha recebem uma
+	 * chave de um irmo ou so fundidos durante a descida, de modo que a remoo
+	 * seja efetuada em uma nica passagem.
+	 *
+	 * @param conteudo Contedo a ser removido.
+	 *
+	 * @return Verdadeiro, para remoo bem sucedida, ou falso, caso contrrio.
+	 */
+	public boolean remover(G conteudo) {
+
+		/*
+		 * Verificao e indicao de remoo mal sucedida, caso o contedo seja nulo
+		 * ou a rvore esteja vazia.
+		 */
+		if (conteudo == null || this.raiz == null) {
+
+			return false;
+		}
+
+		NoB<G> no = this.raiz;
+
+		while (true) {
+
+			int posicao = this.posicao(no, conteudo);
+
+			/*
+			 * Caso o contedo esteja no n em foco.
+			 */
+			if (posicao >= 0) {
+
+				/*
+				 * Se o n for uma folha, ento basta remover a chave.
+				 */
+				if (no.ehFolha()) {
+
+					no.removerChave(posicao);
+					break;
+				}
+
+				NoB<G> esquerdo = no.getFilho(posicao);
+				NoB<G> direito = no.getFilho(posicao + 1);
+
+				/*
+				 * Se um dos filhos adjacentes possuir chaves excedentes, ento a chave 
+				 * substituda por seu predecessor (ou sucessor), que passa a ser removido
+				 * da subrvore correspondente.
+				 */
+				if (esquerdo.getQuantidade() > this.minimoChaves) {
+
+					conteudo = this.maximo(esquerdo);
+					no.setChave(posicao, conteudo);
+					no = esquerdo;
+				}
+
+				else if (direito.getQuantidade() > this.minimoChaves) {
+
+					conteudo = this.minimo(direito);
+					no.setChave(posicao, conteudo);
+					no = direito;
+				}
+
+				/*
+				 * Caso contrrio, os filhos so fundidos com a chave, que passa a ser
+				 * removida do n resultante.
+				 */
+				else {
+
+					this.fundir(no, posicao);
+					no = esquerdo;
+				}
+			}
+
+			/*
+			 * Caso o contedo no esteja no n em foco.
+			 */
+			else {
+
+				/*
+				 * Indicao de remoo mal sucedida, caso a busca tenha alcanado uma folha.
+				 */
+				if (no.ehFolha()) {
+
+					return false;
+				}
+
+				/*
+				 * Garante que o filho em que a descida deve prosseguir possua chaves
+				 * excedentes.
+				 */
+				posicao = -posicao - 1;
+
+				if (no.getFilho(posicao).getQuantidade() == this.minimoChaves) {
+
+					posicao = this.completar(no, posicao);
+				}
+
+				no = no.getFilho(posicao);
+			}
+
+			/*
+			 * Se a raiz ficar sem chaves aps uma fuso, ento a rvore diminui em altura.
+			 */
+			if (this.raiz.getQuantidade() == 0 && !this.raiz.ehFolha()) {
+
+				this.raiz = this.raiz.getFilho(0);
+			}
+		}
+
+		--this.tamanho;
+
+		/*
+		 * Estabelece a rvore como vazia, caso a ltima chave tenha sido removida.
+		 */
+		if (this.tamanho == 0) {
+
+			this.raiz = null;
+		}
+
+		/*
+		 * Indicao de remoo bem sucedida.
+		 */
+		return true;
+	}
+
+	/**
+	 * Mtodo para a busca de um elemento na rvore B.
+	 *
+	 * @param conteudo Contedo a ser buscado.
+	 *
+	 * @return Contedo armazenado na rvore, para busca bem sucedida, ou nulo, caso
+	 *         contrrio.
+	 */
+	public G buscar(G conteudo) {
+
+		if (conteudo == null) {
+
+			return null;
+		}
+
+		NoB<G> no = this.raiz;
+
+		/*
+		 * Percorre a rvore a partir da raiz, efetuando uma busca binria em cada n.
+		 */
+		while (no != null) {
+
+			int posicao = this.posicao(no, conteudo);
+
+			if (posicao >= 0) {
+
+				return no.getChave(posicao);
+			}
+
+			no = no.ehFolha() ? null : no.getFilho(-posicao - 1);
+		}
+
+		/*
+		 * Indicao de busca mal sucedida.
+		 */
+		return null;
+	}
+
+	/**
+	 * Mtodo que retorna o valor mximo da rvore.
+	 *
+	 * @return Valor mximo, ou nulo, caso a rvore esteja vazia.
+	 */
+	public G maximo() {
+
+		return this.raiz == null ? null : this.maximo(this.raiz);
+	}
+
+	/**
+	 * Mtodo que retorna o valor mnimo da rvore.
+	 *
+	 * @return Valor mnimo, ou nulo, caso a rvore esteja vazia.
+	 */
+	public G minimo() {
+
+		return this.raiz == null ? null : this.minimo(this.raiz);
+	}
+
+	/**
+	 * Mtodo que retorna o sucessor de um determinado contedo na rvore.
+	 *
+	 * @param conteudo Contedo em foco.
+	 *
+	 * @return O sucessor, caso o contedo esteja na rvore e no seja o mximo, ou
+	 *         nulo, caso contrrio.
+	 */
+	public G sucessor(G conteudo) {
+
+		if (conteudo == null) {
+
+			return null;
+		}
+
+		/*
+		 * Menor chave maior do que o contedo encontrada durante a descida.
+		 */
+		G candidato = null;
+		NoB<G> no = this.raiz;
+
+		while (no != null) {
+
+			int posicao = this.posicao(no, conteudo);
+
+			/*
+			 * Se o contedo estiver no n em foco, ento o sucessor  o mnimo da
+			 * subrvore  sua direita, caso exista, ou a chave seguinte do n, ou ainda o
+			 * candidato encontrado nos nveis superiores.
+			 */
+			if (posicao >= 0) {
+
+				if (!no.ehFolha()) {
+
+					return this.minimo(no.getFilho(posicao + 1));
+				}
+
+				return posicao + 1 < no.getQuantidade() ? no.getChave(posicao + 1) : candidato;
+			}
+
+			posicao = -posicao - 1;
+
+			if (posicao < no.getQuantidade()) {
+
+				candidato = no.getChave(posicao);
+			}
+
+			no = no.ehFolha() ? null : no.getFilho(posicao);
+		}
+
+		/*
+		 * Indicao de busca mal sucedida.
+		 */
+		return null;
+	}
+
+	/**
+	 * Mtodo que retorna o predecessor de um determinado contedo na rvore.
+	 *
+	 * @param conteudo Contedo em foco.
+	 *
+	 * @return O predecessor, caso o contedo esteja na rvore e no seja o mnimo,
+	 *         ou nulo, caso contrrio.
+	 */
+	public G predecessor(G conteudo) {
+
+		if (conteudo == null) {
+
+			return null;
+		}
+
+		/*
+		 * Maior chave menor do que o contedo encontrada durante a descida.
+		 */
+		G candidato = null;
+		NoB<G> no = this.raiz;
+
+		while (no != null) {
+
+			int posicao = this.posicao(no, conteudo);
+
+			/*
+			 * Se o contedo estiver no n em foco, ento o predecessor  o mximo da
+			 * subrvore  sua esquerda, caso exista, ou a chave anterior do n, ou ainda o
+			 * candidato encontrado nos nveis superiores.
+			 */
+			if (posicao >= 0) {
+
+				if (!no.ehFolha()) {
+
+					return this.maximo(no.getFilho(posicao));
+				}
+
+				return posicao > 0 ? no.getChave(posicao - 1) : candidato;
+			}
+
+			posicao = -posicao - 1;
+
+			if (posicao > 0) {
+
+				candidato = no.getChave(posicao - 1);
+			}
+
+			no = no.ehFolha() ? null : no.getFilho(posicao);
+		}
+
+		/*
+		 * Indicao de busca mal sucedida.
+		 */
+		return null;
+	}
+
+	/**
+	 * Mtodo que efetua a limpeza da rvore B.
+	 */
+	public void limpar() {
+
+		this.raiz = null;
+		this.tamanho = 0;
+	}
+
+	/**
+	 * Mtodo que retorna a quantidade de chaves armazenadas na rvore.
+	 *
+	 * @return Quantidade de chaves.
+	 */
+	public int tamanho() {
+
+		return this.tamanho;
+	}
+
+	/**
+	 * Mtodo que retorna a altura da rvore, ou seja, a quantidade de nveis entre
+	 * a raiz e as folhas.
+	 *
+	 * @return Altura da rvore, ou zero, caso a rvore esteja vazia.
+	 */
+	public int altura() {
+
+		int altura = 0;
+
+		for (NoB<G> no = this.raiz; no != null; no = no.ehFolha() ? null : no.getFilho(0)) {
+
+			++altura;
+		}
+
+		return altura;
+	}
+
+	/*
+	 * Gets e Sets -----------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna uma referncia para a raz da rvore.
+	 *
+	 * @return A raz da rvore.
+	 */
+	public NoB<G> getRaiz() {
+
+		return this.raiz;
+	}
+
+	/**
+	 * Mtodo que retorna a quantidade mxima de chaves de cada n.
+	 *
+	 * @return Capacidade dos ns.
+	 */
+	public int getCapacidade() {
+
+		return this.capacidade;
+	}
+
+	/*
+	 * Mtodos Sobrescritos --------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna uma representao da rvore no formato texto (string).
+	 * Para essa representao  utilizado o mtodo de caminhamento em pr-ordem,
+	 * com os filhos de cada n separados por vrgula.
+	 */
+	@Override
+	public String toString() {
+
+		if (this.raiz == null) {
+
+			return "";
+		}
+
+		StringBuilder string = new StringBuilder();
+		this.mostrarPreOrdem(this.raiz, string);
+
+		return string.toString();
+	}
+
+	/*
+	 * Mtodos privados ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que efetua uma busca binria por um contedo nas chaves de um n.
+	 *
+	 * @param no       N em foco.
+	 *
+	 * @param conteudo Contedo a ser buscado.
+	 *
+	 * @return Posio da chave, caso o contedo seja encontrado, ou (-(ponto de
+	 *         insero) - 1), caso contrrio.
+	 */
+	private int posicao(NoB<G> no, G conteudo) {
+
+		int inicio = 0;
+		int fim = no.getQuantidade() - 1;
+
+		while (inicio <= fim) {
+
+			int meio = (inicio + fim) >>> 1;
+			int comparacao = no.getChave(meio).compareTo(conteudo);
+
+			if (comparacao < 0) {
+
+				inicio = meio + 1;
+			}
+
+			else if (comparacao > 0) {
+
+				fim = meio - 1;
+			}
+
+			else {
+
+				return meio;
+			}
+		}
+
+		return -(inicio + 1);
+	}
+
+	/**
+	 * Mtodo que divide um filho cheio de um n, promovendo sua chave mediana ao
+	 * n pai.
+	 *
+	 * @param pai     N pai, que no pode estar cheio.
+	 *
+	 * @param posicao Posio do filho a ser dividido.
+	 */
+	private void dividir(NoB<G> pai, int posicao) {
+
+		NoB<G> esquerdo = pai.getFilho(posicao);
+		NoB<G> direito = new NoB<>(this.capacidade, esquerdo.ehFolha());
+
+		/*
+		 * As chaves posteriores  mediana so transferidas para o novo n e a mediana
+		 *  promovida ao n pai.
+		 */
+		int mediana = esquerdo.getQuantidade() / 2;
+
+		esquerdo.transferir(mediana + 1, direito);
+
+		pai.inserirChave(posicao, esquerdo.removerChave(mediana));
+		pai.inserirFilho(posicao + 1, direito);
+	}
+
+	/**
+	 * Mtodo que funde dois filhos adjacentes de um n, juntamente com a chave que
+	 * os separa.
+	 *
+	 * @param pai     N pai.
+	 *
+	 * @param posicao Posio da chave separadora.
+	 */
+	private void fundir(NoB<G> pai, int posicao) {
+
+		NoB<G> esquerdo = pai.getFilho(posicao);
+		NoB<G> direito = pai.getFilho(posicao + 1);
+
+		esquerdo.inserirChave(esquerdo.getQuantidade(), pai.getChave(posicao));
+		direito.transferir(0, esquerdo);
+
+		pai.removerFilho(posicao + 1);
+		pai.removerChave(posicao);
+	}
+
+	/**
+	 * Mtodo que garante que um filho com a quantidade mnima de chaves receba uma
+	 * chave adicional, emprestada de um irmo ou obtida pela fuso com um irmo.
+	 *
+	 * @param pai     N pai.
+	 *
+	 * @param posicao Posio do filho.
+	 *
+	 * @return Posio do filho aps a operao.
+	 */
+	private int completar(NoB<G> pai, int posicao) {
+
+		NoB<G> filho = pai.getFilho(posicao);
+
+		/*
+		 * Emprstimo de uma chave do irmo esquerdo, por meio do pai.
+		 */
+		if (posicao > 0 && pai.getFilho(posicao - 1).getQuantidade() > this.minimoChaves) {
+
+			NoB<G> irmao = pai.getFilho(posicao - 1);
+			int ultima = irmao.getQuantidade() - 1;
+
+			filho.inserirChave(0, pai.getChave(posicao - 1));
+			pai.setChave(posicao - 1, irmao.getChave(ultima));
+
+			if (!filho.ehFolha()) {
+
+				filho.inserirFilho(0, irmao.getFilho(ultima + 1));
+				irmao.setFilho(ultima + 1, null);
+			}
+
+			irmao.removerChave(ultima);
+
+			return posicao;
+		}
+
+		/*
+		 * Emprstimo de uma chave do irmo direito, por meio do pai.
+		 */
+		if (posicao < pai.getQuantidade() && pai.getFilho(posicao + 1).getQuantidade() > this.minimoChaves) {
+
+			NoB<G> irmao = pai.getFilho(posicao + 1);
+
+			filho.inserirChave(filho.getQuantidade(), pai.getChave(posicao));
+			pai.setChave(posicao, irmao.getChave(0));
+
+			if (!filho.ehFolha()) {
+
+				filho.setFilho(filho.getQuantidade(), irmao.removerFilho(0));
+			}
+
+			irmao.removerChave(0);
+
+			return posicao;
+		}
+
+		/*
+		 * Fuso com o irmo direito, caso exista, ou com o irmo esquerdo.
+		 */
+		if (posicao < pai.getQuantidade()) {
+
+			this.fundir(pai, posicao);
+
+			return posicao;
+		}
+
+		this.fundir(pai, posicao - 1);
+
+		return posicao - 1;
+	}
+
+	/**
+	 * Mtodo que retorna a maior chave de uma subrvore.
+	 *
+	 * @param no Raiz da subrvore.
+	 *
+	 * @return Maior chave.
+	 */
+	private G maximo(NoB<G> no) {
+
+		while (!no.ehFolha()) {
+
+			no = no.getFilho(no.getQuantidade());
+		}
+
+		return no.getChave(no.getQuantidade() - 1);
+	}
+
+	/**
+	 * Mtodo que retorna a menor chave de uma subrvore.
+	 *
+	 * @param no Raiz da subrvore.
+	 *
+	 * @return Menor chave.
+	 */
+	private G minimo(NoB<G> no) {
+
+		while (!no.ehFolha()) {
+
+			no = no.getFilho(0);
+		}
+
+		return no.getChave(0);
+	}
+
+	/**
+	 * Mtodo que efetua o caminhamento em pr-ordem a partir de um determinado n.
+	 *
+	 * @param no     N de incio do percurso.
+	 *
+	 * @param string Estrutura de texto que recebe a representao.
+	 */
+	private void mostrarPreOrdem(NoB<G> no, StringBuilder string) {
+
+		string.append(no);
+
+		if (!no.ehFolha()) {
+
+			string.append("( ");
+
+			for (int i = 0; i <= no.getQuantidade(); ++i) {
+
+				string.append(i == 0 ? "" : " , ");
+				this.mostrarPreOrdem(no.getFilho(i), string);
+			}
+
+			string.append(" )");
+		}
+	}
+}
@@ -3,15 +3,38 @@
  */
 package br.edu.ifs.ed2.dados.arvore;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import br.edu.ifs.ed2.dados.no.NoTriplo;
 
 /**
- * Classe que implementa as operaes de uma rvore binria de busca.
+ * Classe que implementa as operaes de uma rvore binria de busca. Os
+ * elementos so ordenados pela sua ordem natural ou, quando informado na
+ * construo, por um comparador, o que dispensa objetos intermedirios para
+ * tipos que no implementem {@link Comparable} ou para ordenaes invertidas e
+ * compostas.
  * 
  * @author Marlos Tacio Silva.
  *
  */
-public class ArvoreBinaria<G extends Comparable<G>> {
+public class ArvoreBinaria<G> implements Iterable<G> {
 
 	/*
 	 * Atributos -------------------------------------------------------------------
@@ -22,6 +45,37 @@ public class ArvoreBinaria<G extends Comparable<G>> {
 	 */
 	private NoTriplo<G> raiz;
 
+	/**
+	 * Atributo que contabiliza as modificaes estruturais da rvore, utilizado
+	 * pelos iteradores para detectar modificaes concorrentes.
+	 */
+	private int modificacoes;
+
+	/**
+	 * Atributo que armazena a quantidade de elementos da rvore, ou -1, caso a
+	 * quantidade seja desconhecida e deva ser recontada.
+	 */
+	private int quantidade;
+
+	/**
+	 * Atributo que indica se os elementos da rvore so comprovadamente distintos,
+	 * ou seja, se nenhum elemento repetido foi inserido desde que a rvore esteve
+	 * vazia pela ltima vez.
+	 */
+	private boolean distintos;
+
+	/**
+	 * Atributo que contm o comparador que ordena os elementos, ou nulo, caso seja
+	 * utilizada a ordem natural.
+	 */
+	private final Comparator<? super G> comparador;
+
+	/**
+	 * Quantidade de elementos a partir da qual a construo paralela de uma
+	 * subrvore  dividida em tarefas independentes.
+	 */
+	private static final int LIMIAR_CONSTRUCAO_PARALELA = 1 << 13;
+
 	/*
 	 * Construtores ----------------------------------------------------------------
 	 */
@@ -31,7 +85,7 @@ public class ArvoreBinaria<G extends Comparable<G>> {
 	 */
 	public ArvoreBinaria() {
 
-		this(null);
+		this(null, null);
 	}
 
 	/**
@@ -41,92 +95,141 @@ public class ArvoreBinaria<G extends Comparable<G>> {
 	 */
 	public ArvoreBinaria(NoTriplo<G> raiz) {
 
+		this(raiz, null);
+	}
+
+	/**
+	 * Construtor da classe.
+	 * 
+	 * @param raiz       N raiz da rvore.
+	 * 
+	 * @param comparador Comparador dos elementos, ou nulo, para a ordem natural.
+	 */
+	public ArvoreBinaria(NoTriplo<G> raiz, Comparator<? super G> comparador) {
+
+		this.comparador = comparador;
 		this.setRaiz(raiz);
+
+		/*
+		 * A quantidade e a distino dos elementos de uma rvore pr-existente so
+		 * desconhecidas.
+		 */
+		this.quantidade = raiz == null ? 0 : -1;
+		this.distintos = raiz == null;
 	}
 
 	/*
-	 * Mtodos pblicos ------------------------------------------------------------
+	 * Mtodos estticos -----------------------------------------------------------
 	 */
 
 	/**
-	 * Mtodo para a insero de um elemento na rvore binria de busca.
-	 * 
-	 * @param conteudo Contedo a ser inserido.
+	 * Mtodo que constri uma rvore vazia com os elementos ordenados por um
+	 * comparador. Um construtor com esse nico parmetro tornaria ambgua, devido
+	 * ao construtor que recebe a raiz, a construo com o argumento nulo.
 	 *
-	 * @return Verdadeiro, para insero bem sucedida, ou falso, caso contrrio.
+	 * @param comparador Comparador dos elementos, ou nulo, para a ordem natural.
+	 *
+	 * @return rvore construda.
 	 */
-	public boolean inserir(G conteudo) {
-
-		/*
-		 * Verificao e indicao de insero mal sucedida, caso o contedo seja nulo.
-		 */
-		if (conteudo == null) {
-			return false;
-		}
+	public static <G> ArvoreBinaria<G> comComparador(Comparator<? super G> comparador) {
 
-		/*
-		 * Estabelece o contedo como raiz, caso a rvore esteja vazia.
-		 */
-		if (this.getRaiz() == null) {
-			setRaiz(new NoTriplo<>(conteudo));
-			return true;
-		}
+		return new ArvoreBinaria<G>(null, comparador);
+	}
 
-		/*
-		 * Estabelece dois ns auxiliares para percorrer a rvore em busca do ponto de
-		 * insero.
-		 */
-		NoTriplo<G> aux1 = this.getRaiz();
-		NoTriplo<G> aux2 = null;
+	/**
+	 * Mtodo que constri uma rvore perfeitamente balanceada a partir de um vetor
+	 * ordenado, em tempo linear.
+	 *
+	 * @param ordenados Elementos em ordem crescente.
+	 *
+	 * @return rvore construda.
+	 *
+	 * @throws IllegalArgumentException Caso os elementos no estejam ordenados ou
+	 *                                  algum deles seja nulo.
+	 */
+	public static <G extends Comparable<G>> ArvoreBinaria<G> construir(G[] ordenados) {
 
-		/*
-		 * Percorre a rvore binria de busca a partir da raiz at encontrar o ponto de
-		 * insero, ou seja, o n nulo.
-		 */
-		while (aux1 != null) {
+		return construir(ordenados, false);
+	}
 
-			/*
-			 * Iguala os ns auxiliares.
-			 */
+	/**
+	 * Mtodo que constri uma rvore perfeitamente balanceada a partir de um vetor
+	 * ordenado, em tempo linear, opcionalmente dividindo a construo das
+	 * subrvores em tarefas paralelas (fork/join).
+	 *
+	 * @param ordenados Elementos em ordem crescente.
+	 *
+	 * @param paralelo  Verdadeiro, para a construo paralela, ou falso, caso
+	 *                  contrrio.
+	 *
+	 * @return rvore construda.
+	 *
+	 * @throws IllegalArgumentException Caso os elementos no estejam ordenados ou
+	 *                                  algum deles seja nulo.
+	 */
+	public static <G extends Comparable<G>> ArvoreBinaria<G> construir(G[] ordenados, boolean paralelo) {
 
-			aux2 = aux1;
+		ArvoreBinaria<G> arvore = new ArvoreBinaria<>();
+		arvore.carregar(Arrays.asList(ordenados), paralelo);
 
-			/*
-			 * Comparao do contedo a ser inserido com o contedo do n em foco.
-			 * 
-			 * Obtm o filho direito, caso o contedo a ser inserido seja maior do que ou
-			 * igual ao do n em foco, e o filho esquerdo, caso contrrio.
-			 */
-			if (conteudo.compareTo(aux1.getConteudo()) >= 0) {
+		return arvore;
+	}
 
-				aux1 = aux1.getDireito();
+	/**
+	 * Mtodo que constri uma rvore perfeitamente balanceada a partir de uma
+	 * coleo ordenada, em tempo linear.
+	 *
+	 * @param ordenados Elementos em ordem crescente.
+	 *
+	 * @return rvore construda.
+	 *
+	 * @throws IllegalArgumentException Caso os elementos no estejam ordenados ou
+	 *                                  algum deles seja nulo.
+	 */
+	public static <G extends Comparable<G>> ArvoreBinaria<G> construir(Iterable<G> ordenados) {
 
-			}
+		List<G> elementos = new ArrayList<>();
+		ordenados.forEach(elementos::add);
 
-			else {
+		ArvoreBinaria<G> arvore = new ArvoreBinaria<>();
+		arvore.carregar(elementos, false);
 
-				aux1 = aux1.getEsquerdo();
+		return arvore;
+	}
 
-			}
-		}
+	/**
+	 * Mtodo que constri uma rvore perfeitamente balanceada a partir de um fluxo
+	 * ordenado, em tempo linear.
+	 *
+	 * @param ordenados Elementos em ordem crescente.
+	 *
+	 * @return rvore construda.
+	 *
+	 * @throws IllegalArgumentException Caso os elementos no estejam ordenados ou
+	 *                                  algum deles seja nulo.
+	 */
+	public static <G extends Comparable<G>> ArvoreBinaria<G> construir(Stream<G> ordenados) {
 
-		/*
-		 * Aps obter o ponto de insero, compara o contedo com o do n em foco.
-		 * 
-		 * Insero do contedo do no filho direito, caso o contedo seja maior do que
-		 * ou igual ao do n em foco, ou no filho esquerdo, caso contrrio.
-		 */
-		if (conteudo.compareTo(aux2.getConteudo()) >= 0) {
+		ArvoreBinaria<G> arvore = new ArvoreBinaria<>();
+		arvore.carregar(ordenados.collect(Collectors.toList()), false);
 
-			aux2.setDireito(new NoTriplo<>(conteudo));
-		}
+		return arvore;
+	}
 
-		else {
-			aux2.setEsquerdo(new NoTriplo<>(conteudo));
+	/*
+	 * Mtodos pblicos ------------------------------------------------------------
+	 */
 
-		}
+	/**
+	 * Mtodo para a insero de um elemento na rvore binria de busca.
+	 * 
+	 * @param conteudo Contedo a ser inserido.
+	 *
+	 * @return Verdadeiro, para insero bem sucedida, ou falso, caso contrrio.
+	 */
+	public boolean inserir(G conteudo) {
 
-		return true;
+		return this.inserirNo(conteudo) != null;
 	}
 
 	/**
@@ -152,6 +255,12 @@ public class ArvoreBinaria<G extends Comparable<G>> {
 			return false;
 		}
 
+		/*
+		 * N mais profundo cuja subrvore foi alterada pela remoo, a partir do qual
+		 * eventuais estratgias de balanceamento devem ser aplicadas.
+		 */
+		NoTriplo<G> alterado;
+
 		/*
 		 * Se o n a ser removido no possuir filho esquerdo, ento dever ser
 		 * substitudo por seu filho direito.
@@ -161,11 +270,13 @@ public class ArvoreBinaria<G extends Comparable<G>> {
 		 */
 		if (aux.getEsquerdo() == null) {
 
+			alterado = aux.getPai();
 			this.substituir(aux, aux.getDireito());
 		}
 
 		else if (aux.getDireito() == null) {
 
+			alterado = aux.getPai();
 			this.substituir(aux, aux.getEsquerdo());
 		}
 
@@ -187,6 +298,7 @@ public class ArvoreBinaria<G extends Comparable<G>> {
 			 */
 			if (aux.getDireito().equals(substituto)) {
 
+				alterado = substituto;
 				this.substituir(aux, substituto);
 				substituto.setEsquerdo(aux.getEsquerdo());
 			}
@@ -199,6 +311,7 @@ public class ArvoreBinaria<G extends Comparable<G>> {
 			 */
 			else {
 
+				alterado = substituto.getPai();
 				this.substituir(substituto, substituto.getDireito());
 				this.substituir(aux, substituto);
 
@@ -207,6 +320,12 @@ public class ArvoreBinaria<G extends Comparable<G>> {
 			}
 		}
 
+		/*
+		 * Notificao do n alterado s eventuais estratgias de balanceamento.
+		 */
+		this.registrarModificacao(-1);
+		this.aposRemocao(alterado);
+
 		/*
 		 * Indicao de remoo bem sucedida.
 		 */
@@ -229,6 +348,18 @@ public class ArvoreBinaria<G extends Comparable<G>> {
 			return null;
 		}
 
+		/*
+		 * A busca com comparador  efetuada em um lao prprio, de modo que cada lao
+		 * possua um nico ponto de comparao monomrfico.
+		 */
+		if (this.comparador != null) {
+
+			return this.buscar(conteudo, this.comparador);
+		}
+
+		@SuppressWarnings("unchecked")
+		Comparable<? super G> chave = (Comparable<? super G>) conteudo;
+
 		/*
 		 * Estabelece a raiz como ponto de incio da busca.
 		 */
@@ -248,13 +379,19 @@ public class ArvoreBinaria<G extends Comparable<G>> {
 			 * 
 			 * Se o contedo da busca for menor do que o do n em foco, ento atualizar o n
 			 * em foco para o filho esquerdo.
+			 * 
+			 * A igualdade  determinada pela mesma comparao que orienta a descida, de
+			 * modo que elementos equivalentes segundo a ordenao, mas distintos segundo
+			 * equals, tambm sejam encontrados.
 			 */
-			if (aux.getConteudo().equals(conteudo)) {
+			int comparacao = chave.compareTo(aux.getConteudo());
+
+			if (comparacao == 0) {
 				return aux;
 
 			}
 
-			else if (conteudo.compareTo(aux.getConteudo()) > 0) {
+			else if (comparacao > 0) {
 
 				aux=aux.getDireito();
 			}
@@ -328,118 +465,926 @@ public class ArvoreBinaria<G extends Comparable<G>> {
 	}
 
 	/**
-	 * Mtodo que efetua a limpeza da rvore binria de busca.
+	 * Mtodo que retorna o piso de um determinado contedo, ou seja, o n com o
+	 * maior contedo menor do que ou igual a ele. O contedo em foco no precisa
+	 * existir na rvore, sendo efetuada uma nica descida a partir da raiz.
+	 * 
+	 * @param conteudo Contedo em foco.
+	 * 
+	 * @return O n piso (o ltimo em ordem, caso haja repeties), ou nulo, caso
+	 *         no exista.
 	 */
-	public void limpar() {
+	public NoTriplo<G> piso(G conteudo) {
 
 		/*
-		 * Estabelece a raiz como nula.
+		 * Verificao e indicao de busca mal sucedida, caso o contedo seja nulo.
 		 */
+		if (conteudo == null) {
+			return null;
+		}
 
-		this.raiz=null;
-	}
+		NoTriplo<G> resultado = null;
+		NoTriplo<G> aux = this.getRaiz();
 
-	/*
-	 * Gets e Sets -----------------------------------------------------------------
-	 */
+		/*
+		 * Descida a partir da raiz, guardando o ltimo n cujo contedo no ultrapassa
+		 * o contedo em foco.
+		 */
+		while (aux != null) {
 
-	/**
-	 * Mtodo que retorna uma referncia para a raz da rvore.
-	 * 
-	 * @return A raz da rvore.
-	 */
-	public NoTriplo<G> getRaiz() {
+			if (this.comparar(aux.getConteudo(), conteudo) <= 0) {
 
-		return this.raiz;
+				resultado = aux;
+				aux = aux.getDireito();
+			}
+
+			else {
+
+				aux = aux.getEsquerdo();
+			}
+		}
+
+		return resultado;
 	}
 
 	/**
-	 * @param raiz o raiz a ser configurado
+	 * Mtodo que retorna o teto de um determinado contedo, ou seja, o n com o
+	 * menor contedo maior do que ou igual a ele. O contedo em foco no precisa
+	 * existir na rvore, sendo efetuada uma nica descida a partir da raiz.
+	 * 
+	 * @param conteudo Contedo em foco.
+	 * 
+	 * @return O n teto (o primeiro em ordem, caso haja repeties), ou nulo, caso
+	 *         no exista.
 	 */
-	private void setRaiz(NoTriplo<G> raiz) {
+	public NoTriplo<G> teto(G conteudo) {
 
-		this.raiz = raiz;
-	}
+		/*
+		 * Verificao e indicao de busca mal sucedida, caso o contedo seja nulo.
+		 */
+		if (conteudo == null) {
+			return null;
+		}
 
-	/*
-	 * Mtodos Sobrescritos --------------------------------------------------------
-	 */
+		NoTriplo<G> resultado = null;
+		NoTriplo<G> aux = this.getRaiz();
 
-	/**
-	 * Mtodo que retorna uma representao da rvore no formato texto (string).
-	 * Para essa representao  utilizado o mtodo de caminhamento em ordem.
-	 */
-	@Override
-	public String toString() {
+		/*
+		 * Descida a partir da raiz, guardando o ltimo n cujo contedo alcana o
+		 * contedo em foco.
+		 */
+		while (aux != null) {
 
-		if (this.getRaiz() == null) {
+			if (this.comparar(aux.getConteudo(), conteudo) >= 0) {
+
+				resultado = aux;
+				aux = aux.getEsquerdo();
+			}
+
+			else {
 
-			return "";
+				aux = aux.getDireito();
+			}
 		}
 
-		return this.getRaiz().toString();
+		return resultado;
 	}
 
-	/*
-	 * Mtodos privados ------------------------------------------------------------
-	 */
-
 	/**
-	 * Mtodo que verifica se um n  raiz da rvore.
+	 * Mtodo que retorna o n com o maior contedo estritamente menor do que um
+	 * determinado contedo, existente ou no na rvore.
 	 * 
-	 * @param no N em foco.
+	 * @param conteudo Contedo em foco.
 	 * 
-	 * @return Verdadeiro, caso em caso afirmativo, ou falso, caso contrrio.
+	 * @return O n encontrado, caso exista, ou nulo, caso contrrio.
 	 */
-	private boolean ehRaiz(NoTriplo<G> no) {
+	public NoTriplo<G> menor(G conteudo) {
 
-		return no.equals(this.getRaiz());
-	}
+		/*
+		 * Verificao e indicao de busca mal sucedida, caso o contedo seja nulo.
+		 */
+		if (conteudo == null) {
+			return null;
+		}
 
-	/**
-	 * Mtodo que verifica se um n  um filho esquerdo.
-	 * 
-	 * @param no N em foco.
-	 * 
-	 * @return Verdadeiro, caso em caso afirmativo, ou falso, caso contrrio.
-	 */
-	private boolean ehFilhoEsquerdo(NoTriplo<G> no) {
+		NoTriplo<G> resultado = null;
+		NoTriplo<G> aux = this.getRaiz();
 
-		if (ehRaiz(no)) {
+		/*
+		 * Os ns iguais ao contedo em foco so descartados pela esquerda.
+		 */
+		while (aux != null) {
 
-			return false;
+			if (this.comparar(aux.getConteudo(), conteudo) < 0) {
+
+				resultado = aux;
+				aux = aux.getDireito();
+			}
+
+			else {
+
+				aux = aux.getEsquerdo();
+			}
 		}
 
-		return no.equals(no.getPai().getEsquerdo());
+		return resultado;
 	}
 
 	/**
-	 * Mtodo que verifica se um n  um filho direito.
+	 * Mtodo que retorna o n com o menor contedo estritamente maior do que um
+	 * determinado contedo, existente ou no na rvore.
 	 * 
-	 * @param no N em foco.
+	 * @param conteudo Contedo em foco.
 	 * 
-	 * @return Verdadeiro, caso em caso afirmativo, ou falso, caso contrrio.
+	 * @return O n encontrado, caso exista, ou nulo, caso contrrio.
 	 */
-	private boolean ehFilhoDireito(NoTriplo<G> no) {
+	public NoTriplo<G> maior(G conteudo) {
 
-		if (ehRaiz(no)) {
+		/*
+		 * Verificao e indicao de busca mal sucedida, caso o contedo seja nulo.
+		 */
+		if (conteudo == null) {
+			return null;
+		}
 
-			return false;
+		NoTriplo<G> resultado = null;
+		NoTriplo<G> aux = this.getRaiz();
+
+		/*
+		 * Os ns iguais ao contedo em foco so descartados pela direita.
+		 */
+		while (aux != null) {
+
+			if (this.comparar(aux.getConteudo(), conteudo) > 0) {
+
+				resultado = aux;
+				aux = aux.getEsquerdo();
+			}
+
+			else {
+
+				aux = aux.getDireito();
+			}
 		}
 
-		return no.equals(no.getPai().getDireito());
+		return resultado;
 	}
 
 	/**
-	 * Mtodo para efetuar a substituio de um determinado n por outro. Tal
-	 * substituio no efetua nenhum tipo de alterao nos filhos dos ns
-	 * envolvidos, sendo necessria aplicar essas alteraes fora desse mtodo.
+	 * Mtodo que efetua a limpeza da rvore binria de busca.
+	 */
+	public void limpar() {
+
+		/*
+		 * Estabelece a raiz como nula.
+		 */
+
+		this.raiz=null;
+		this.quantidade = 0;
+		this.distintos = true;
+		this.registrarModificacao(0);
+	}
+
+	/**
+	 * Mtodo que retorna a quantidade de elementos da rvore. A quantidade 
+	 * mantida pelas operaes de insero e remoo, sendo recontada apenas quando
+	 * desconhecida, por exemplo, em rvores construdas a partir de um n
+	 * pr-existente.
+	 *
+	 * @return Quantidade de elementos da rvore.
+	 */
+	public int tamanho() {
+
+		/*
+		 * Recontagem dos elementos, caso a quantidade seja desconhecida.
+		 */
+		if (this.quantidade < 0) {
+
+			int quantidade = 0;
+
+			for (NoTriplo<G> no = this.minimo(); no != null; no = this.proximo(no)) {
+
+				++quantidade;
+			}
+
+			this.quantidade = quantidade;
+		}
+
+		return this.quantidade;
+	}
+
+	/**
+	 * Mtodo que retorna um fluxo sequencial sobre os elementos da rvore em ordem
+	 * crescente. Para o processamento paralelo, basta invocar
+	 * {@link Stream#parallel()} sobre o fluxo retornado.
+	 *
+	 * @return Fluxo sobre os elementos da rvore.
+	 */
+	public Stream<G> stream() {
+
+		return StreamSupport.stream(this.spliterator(), false);
+	}
+
+	/**
+	 * Mtodo que retorna a altura da rvore, ou seja, a quantidade de nveis do
+	 * caminho mais longo entre a raiz e uma folha. O percurso  efetuado nvel a
+	 * nvel, sem recurso, de modo a suportar rvores degeneradas.
+	 *
+	 * @return Altura da rvore, ou zero, caso a rvore esteja vazia.
+	 */
+	public int altura() {
+
+		/*
+		 * Verificao e, consequente, indicao de rvore vazia.
+		 */
+		if (this.getRaiz() == null) {
+
+			return 0;
+		}
+
+		/*
+		 * Estabelece uma fila com os ns do nvel em foco, iniciando pela raiz.
+		 */
+		Deque<NoTriplo<G>> nivel = new ArrayDeque<>();
+		nivel.add(this.getRaiz());
+
+		int altura = 0;
+
+		/*
+		 * Percorre a rvore nvel a nvel, substituindo os ns do nvel em foco por
+		 * seus filhos.
+		 */
+		while (!nivel.isEmpty()) {
+
+			++altura;
+
+			for (int i = nivel.size(); i > 0; --i) {
+
+				NoTriplo<G> no = nivel.poll();
+
+				if (no.getEsquerdo() != null) {
+
+					nivel.add(no.getEsquerdo());
+				}
+
+				if (no.getDireito() != null) {
+
+					nivel.add(no.getDireito());
+				}
+			}
+		}
+
+		return altura;
+	}
+
+	/**
+	 * Mtodo que retorna os elementos da rvore pertencentes ao intervalo fechado
+	 * [inicio, fim], em ordem crescente. Os elementos so obtidos sob demanda: a
+	 * partir do primeiro n do intervalo, cada prximo n  alcanado pelas
+	 * referncias aos filhos e aos pais, sem novas buscas a partir da raiz e sem
+	 * visitar as subrvores fora do intervalo.
+	 *
+	 * @param inicio Limite inferior do intervalo.
+	 *
+	 * @param fim    Limite superior do intervalo.
+	 *
+	 * @return Elementos do intervalo, ou nenhum elemento, caso algum dos limites
+	 *         seja nulo ou o limite inferior seja maior do que o superior.
+	 */
+	public Iterable<G> intervalo(G inicio, G fim) {
+
+		return () -> new Iterador(this.primeiroDoIntervalo(inicio, fim), fim, true);
+	}
+
+	/**
+	 * Mtodo que retorna a quantidade de elementos da rvore pertencentes ao
+	 * intervalo fechado [inicio, fim]. Na rvore binria de busca os elementos do
+	 * intervalo so percorridos, sendo o custo proporcional  quantidade de
+	 * elementos contados.
+	 *
+	 * @param inicio Limite inferior do intervalo.
+	 *
+	 * @param fim    Limite superior do intervalo.
+	 *
+	 * @return Quantidade de elementos do intervalo.
+	 */
+	public int contarIntervalo(G inicio, G fim) {
+
+		int quantidade = 0;
+
+		for (Iterator<G> i = this.intervalo(inicio, fim).iterator(); i.hasNext(); i.next()) {
+
+			++quantidade;
+		}
+
+		return quantidade;
+	}
+
+	/**
+	 * Mtodo que retorna um iterador sobre os elementos da rvore em ordem
+	 * decrescente. Assim como o iterador em ordem crescente, o percurso utiliza as
+	 * referncias aos pais, com memria adicional constante.
+	 *
+	 * @return Iterador em ordem decrescente.
+	 */
+	public Iterator<G> iteradorDecrescente() {
+
+		return new Iterador(this.maximo(), null, false);
+	}
+
+	/**
+	 * Mtodo que congela o contedo atual da rvore em um instantneo imutvel,
+	 * armazenado em um vetor no leiaute de Eytzinger, adequado a consultas
+	 * frequentes sobre dados raramente alterados.
+	 *
+	 * @return Instantneo da rvore.
+	 */
+	public ArvoreEstatica<G> congelar() {
+
+		return new ArvoreEstatica<>(this);
+	}
+
+	/**
+	 * Mtodo que escreve a representao da rvore no formato texto, no mesmo
+	 * formato do mtodo {@link #toString()}, diretamente em um destino, como um
+	 * arquivo ou um canal de comunicao. O percurso  iterativo, com memria
+	 * adicional constante, de modo a suportar rvores degeneradas e rvores com
+	 * milhes de ns.
+	 *
+	 * @param saida Destino do texto.
+	 *
+	 * @throws IOException Caso ocorra um erro na escrita.
+	 */
+	public void escrever(Appendable saida) throws IOException {
+
+		/*
+		 * A rvore vazia no possui representao.
+		 */
+		if (this.getRaiz() != null) {
+
+			this.getRaiz().escrever(saida);
+		}
+	}
+
+	/*
+	 * Gets e Sets -----------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna o comparador que ordena os elementos da rvore.
+	 * 
+	 * @return O comparador, ou nulo, caso seja utilizada a ordem natural.
+	 */
+	public Comparator<? super G> getComparador() {
+
+		return this.comparador;
+	}
+
+	/**
+	 * Mtodo que retorna uma referncia para a raz da rvore.
+	 * 
+	 * @return A raz da rvore.
+	 */
+	public NoTriplo<G> getRaiz() {
+
+		return this.raiz;
+	}
+
+	/**
+	 * Mtodo que altera a raiz da rvore. A nova raiz  desligada de seu antigo
+	 * pai, caso exista.
+	 *
+	 * @param raiz o raiz a ser configurado
+	 */
+	protected void setRaiz(NoTriplo<G> raiz) {
+
+		this.raiz = raiz;
+
+		if (raiz != null) {
+
+			raiz.desvincularPai();
+		}
+	}
+
+	/*
+	 * Mtodos protegidos ----------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que compara dois elementos segundo a ordenao da rvore, ou seja,
+	 * pelo comparador, caso exista, ou pela ordem natural, caso contrrio.
+	 *
+	 * @param primeiro Primeiro elemento.
+	 *
+	 * @param segundo  Segundo elemento.
+	 *
+	 * @return Valor negativo, zero ou positivo, caso o primeiro elemento seja
+	 *         menor do que, igual a ou maior do que o segundo, respectivamente.
+	 *
+	 * @throws ClassCastException Caso no haja comparador e os elementos no
+	 *                            implementem {@link Comparable}.
+	 */
+	@SuppressWarnings("unchecked")
+	protected int comparar(G primeiro, G segundo) {
+
+		if (this.comparador == null) {
+
+			return ((Comparable<? super G>) primeiro).compareTo(segundo);
+		}
+
+		return this.comparador.compare(primeiro, segundo);
+	}
+
+	/**
+	 * Mtodo que registra uma modificao estrutural da rvore, invalidando os
+	 * iteradores existentes e atualizando a quantidade de elementos. Deve ser
+	 * invocado pelas subclasses que alterem a estrutura da rvore sem recorrer aos
+	 * mtodos de insero e remoo desta classe.
+	 *
+	 * @param variacao Variao da quantidade de elementos da rvore.
+	 */
+	protected void registrarModificacao(int variacao) {
+
+		++this.modificacoes;
+
+		if (this.quantidade >= 0) {
+
+			this.quantidade += variacao;
+		}
+
+		/*
+		 * A rvore vazia no possui elementos repetidos.
+		 */
+		if (this.quantidade == 0) {
+
+			this.distintos = true;
+		}
+	}
+
+	/**
+	 * Mtodo para a insero de um elemento na rvore binria de busca, que
+	 * retorna o n construdo para armazen-lo. Permite s subclasses associar
+	 * informaes adicionais ao n inserido (e.g., valores associados s chaves).
+	 * 
+	 * @param conteudo Contedo a ser inserido.
+	 *
+	 * @return N inserido, para insero bem sucedida, ou nulo, caso contrrio.
+	 */
+	protected NoTriplo<G> inserirNo(G conteudo) {
+
+		/*
+		 * Verificao e indicao de insero mal sucedida, caso o contedo seja nulo.
+		 */
+		if (conteudo == null) {
+			return null;
+		}
+
+		/*
+		 * Estabelece o contedo como raiz, caso a rvore esteja vazia.
+		 */
+		if (this.getRaiz() == null) {
+			setRaiz(this.criarNo(conteudo));
+			this.registrarModificacao(1);
+			this.aposInsercao(this.getRaiz());
+			return this.getRaiz();
+		}
+
+		/*
+		 * Estabelece dois ns auxiliares para percorrer a rvore em busca do ponto de
+		 * insero.
+		 */
+		NoTriplo<G> aux1 = this.getRaiz();
+		NoTriplo<G> aux2 = null;
+
+		/*
+		 * Indica se algum n do caminho possui contedo igual ao inserido. Como o
+		 * predecessor do ponto de insero pertence ao caminho, um elemento repetido
+		 * sempre  detectado.
+		 */
+		boolean repetido = false;
+
+		/*
+		 * Resultado da comparao do contedo a ser inserido com o contedo do ltimo
+		 * n em foco.
+		 */
+		int comparacao = 0;
+
+		/*
+		 * Percorre a rvore binria de busca a partir da raiz at encontrar o ponto de
+		 * insero, ou seja, o n nulo.
+		 * 
+		 * Obtm o filho direito, caso o contedo a ser inserido seja maior do que ou
+		 * igual ao do n em foco, e o filho esquerdo, caso contrrio.
+		 * 
+		 * Assim como na busca, a descida com comparador  efetuada em um lao prprio,
+		 * de modo que cada lao possua um nico ponto de comparao monomrfico.
+		 */
+		if (this.comparador == null) {
+
+			@SuppressWarnings("unchecked")
+			Comparable<? super G> chave = (Comparable<? super G>) conteudo;
+
+			while (aux1 != null) {
+
+				aux2 = aux1;
+				comparacao = chave.compareTo(aux1.getConteudo());
+				repetido |= comparacao == 0;
+				aux1 = comparacao >= 0 ? aux1.getDireito() : aux1.getEsquerdo();
+			}
+		}
+
+		else {
+
+			Comparator<? super G> comparador = this.comparador;
+
+			while (aux1 != null) {
+
+				aux2 = aux1;
+				comparacao = comparador.compare(conteudo, aux1.getConteudo());
+				repetido |= comparacao == 0;
+				aux1 = comparacao >= 0 ? aux1.getDireito() : aux1.getEsquerdo();
+			}
+		}
+
+		/*
+		 * Aps obter o ponto de insero, utiliza a comparao com o ltimo n em foco.
+		 * 
+		 * Insero do contedo do no filho direito, caso o contedo seja maior do que
+		 * ou igual ao do n em foco, ou no filho esquerdo, caso contrrio.
+		 */
+		NoTriplo<G> novo = this.criarNo(conteudo);
+
+		if (comparacao >= 0) {
+
+			aux2.setDireito(novo);
+		}
+
+		else {
+			aux2.setEsquerdo(novo);
+
+		}
+
+		/*
+		 * Notificao do n inserido s eventuais estratgias de balanceamento.
+		 */
+		if (repetido) {
+
+			this.distintos = false;
+		}
+
+		this.registrarModificacao(1);
+		this.aposInsercao(novo);
+
+		return novo;
+	}
+
+	/**
+	 * Mtodo que substitui a estrutura da rvore por uma subrvore montada
+	 * externamente (e.g., pela diviso ou unio de rvores), registrando a
+	 * modificao estrutural.
+	 *
+	 * @param raiz       Raiz da nova estrutura, possivelmente nula.
+	 *
+	 * @param quantidade Quantidade de elementos da nova estrutura, ou -1, caso seja
+	 *                   desconhecida.
+	 *
+	 * @param distintos  Verdadeiro, caso os elementos da nova estrutura sejam
+	 *                   comprovadamente distintos, ou falso, caso contrrio.
+	 */
+	protected void redefinir(NoTriplo<G> raiz, int quantidade, boolean distintos) {
+
+		this.setRaiz(raiz);
+
+		this.quantidade = quantidade;
+		this.distintos = distintos;
+
+		this.registrarModificacao(0);
+	}
+
+	/**
+	 * Mtodo que verifica se os elementos da rvore so comprovadamente distintos.
+	 *
+	 * @return Verdadeiro, caso nenhum elemento repetido tenha sido inserido desde
+	 *         que a rvore esteve vazia pela ltima vez, ou falso, caso contrrio.
+	 */
+	protected boolean possuiDistintos() {
+
+		return this.distintos;
+	}
+
+	/**
+	 * Mtodo que substitui o contedo da rvore por uma rvore perfeitamente
+	 * balanceada construda a partir de uma lista ordenada. Cada elemento 
+	 * visitado uma nica vez, sendo os ns construdos por meio do mtodo
+	 * {@link #criarNo(Object)} e atualizados, de baixo para cima, por meio do
+	 * mtodo {@link #atualizar(NoTriplo)}.
+	 *
+	 * @param ordenados Elementos em ordem crescente.
+	 *
+	 * @param paralelo  Verdadeiro, para a construo paralela, ou falso, caso
+	 *                  contrrio.
+	 *
+	 * @throws IllegalArgumentException Caso os elementos no estejam ordenados ou
+	 *                                  algum deles seja nulo.
+	 */
+	protected void carregar(List<? extends G> ordenados, boolean paralelo) {
+
+		/*
+		 * Verificao da ordenao dos elementos.
+		 */
+		for (int i = 0; i < ordenados.size(); ++i) {
+
+			if (ordenados.get(i) == null) {
+
+				throw new IllegalArgumentException("Os elementos no podem ser nulos.");
+			}
+
+			if (i > 0 && this.comparar(ordenados.get(i), ordenados.get(i - 1)) < 0) {
+
+				throw new IllegalArgumentException("Os elementos devem estar em ordem crescente.");
+			}
+		}
+
+		/*
+		 * Construo da rvore, de forma sequencial ou paralela.
+		 */
+		int fim = ordenados.size() - 1;
+
+		this.quantidade = 0;
+		this.distintos = true;
+
+		for (int i = 1; i <= fim; ++i) {
+
+			if (this.comparar(ordenados.get(i), ordenados.get(i - 1)) == 0) {
+
+				this.distintos = false;
+			}
+		}
+
+		this.registrarModificacao(ordenados.size());
+
+		if (paralelo) {
+
+			this.setRaiz(ForkJoinPool.commonPool().invoke(new ConstrucaoParalela(ordenados, 0, fim)));
+		}
+
+		else {
+
+			this.setRaiz(this.construirSubarvore(ordenados, 0, fim));
+		}
+	}
+
+	/**
+	 * Mtodo que constri um novo n para o armazenamento de um contedo. As
+	 * subclasses podem sobrescrever esse mtodo para utilizar ns com informaes
+	 * adicionais (e.g., altura, cor).
+	 *
+	 * @param conteudo Contedo do n.
+	 *
+	 * @return N construdo.
+	 */
+	protected NoTriplo<G> criarNo(G conteudo) {
+
+		return new NoTriplo<>(conteudo);
+	}
+
+	/**
+	 * Mtodo invocado aps a insero de um n na rvore. Na rvore binria de
+	 * busca no h nenhuma ao a ser efetuada.
+	 *
+	 * @param no N inserido.
+	 */
+	protected void aposInsercao(NoTriplo<G> no) {
+
+	}
+
+	/**
+	 * Mtodo invocado aps a remoo de um elemento da rvore. Na rvore binria
+	 * de busca no h nenhuma ao a ser efetuada.
+	 *
+	 * @param no N mais profundo cuja subrvore foi alterada pela remoo, ou
+	 *           nulo, caso a raiz tenha sido removida.
+	 */
+	protected void aposRemocao(NoTriplo<G> no) {
+
+	}
+
+	/**
+	 * Mtodo invocado sempre que os filhos de um n so alterados por uma rotao,
+	 * permitindo s subclasses recalcular as informaes adicionais do n. Na
+	 * rvore binria de busca no h nenhuma ao a ser efetuada.
+	 *
+	 * @param no N em foco.
+	 */
+	protected void atualizar(NoTriplo<G> no) {
+
+	}
+
+	/**
+	 * Mtodo que efetua uma rotao  esquerda a partir de um determinado n, de
+	 * modo que seu filho direito assuma a sua posio.
+	 *
+	 * @param no N em foco.
+	 *
+	 * @return N que assumiu a posio do n em foco.
+	 */
+	protected NoTriplo<G> rotacionarEsquerda(NoTriplo<G> no) {
+
+		NoTriplo<G> direito = no.getDireito();
+
+		/*
+		 * O filho direito assume a posio do n em foco e recebe o n em foco como
+		 * filho esquerdo, enquanto o antigo filho esquerdo do filho direito passa a
+		 * ser o filho direito do n em foco.
+		 */
+		this.substituir(no, direito);
+		no.setDireito(direito.getEsquerdo());
+		direito.setEsquerdo(no);
+
+		/*
+		 * Atualizao das informaes adicionais dos ns envolvidos, de baixo para
+		 * cima.
+		 */
+		this.atualizar(no);
+		this.atualizar(direito);
+
+		return direito;
+	}
+
+	/**
+	 * Mtodo que efetua uma rotao  direita a partir de um determinado n, de
+	 * modo que seu filho esquerdo assuma a sua posio.
+	 *
+	 * @param no N em foco.
+	 *
+	 * @return N que assumiu a posio do n em foco.
+	 */
+	protected NoTriplo<G> rotacionarDireita(NoTriplo<G> no) {
+
+		NoTriplo<G> esquerdo = no.getEsquerdo();
+
+		/*
+		 * O filho esquerdo assume a posio do n em foco e recebe o n em foco como
+		 * filho direito, enquanto o antigo filho direito do filho esquerdo passa a
+		 * ser o filho esquerdo do n em foco.
+		 */
+		this.substituir(no, esquerdo);
+		no.setEsquerdo(esquerdo.getDireito());
+		esquerdo.setDireito(no);
+
+		/*
+		 * Atualizao das informaes adicionais dos ns envolvidos, de baixo para
+		 * cima.
+		 */
+		this.atualizar(no);
+		this.atualizar(esquerdo);
+
+		return esquerdo;
+	}
+
+	/**
+	 * Mtodo que retorna o prximo n em ordem a partir de um determinado n,
+	 * utilizando apenas as referncias aos filhos e aos pais, de modo que
+	 * contedos repetidos sejam percorridos um a um.
+	 *
+	 * @param no N de origem.
+	 *
+	 * @return Prximo n em ordem, ou nulo, caso o n de origem seja o ltimo.
+	 */
+	protected NoTriplo<G> proximo(NoTriplo<G> no) {
+
+		/*
+		 * Se o n possuir filho direito, ento o prximo n  o mnimo dessa subrvore.
+		 */
+		if (no.getDireito() != null) {
+
+			return this.minimo(no.getDireito());
+		}
+
+		/*
+		 * Caso contrrio, subir at o primeiro ancestral alcanado pela esquerda.
+		 */
+		NoTriplo<G> pai = no.getPai();
+
+		while (pai != null && no == pai.getDireito()) {
+
+			no = pai;
+			pai = pai.getPai();
+		}
+
+		return pai;
+	}
+
+	/*
+	 * Mtodos Sobrescritos --------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna um iterador sobre os elementos da rvore em ordem
+	 * crescente. O percurso utiliza as referncias aos pais em vez de uma pilha,
+	 * com memria adicional constante, inclusive em rvores degeneradas. O
+	 * iterador falha rapidamente, lanando {@link ConcurrentModificationException},
+	 * caso a rvore seja modificada durante o percurso.
+	 */
+	@Override
+	public Iterator<G> iterator() {
+
+		return new Iterador(this.minimo(), null, true);
+	}
+
+	/**
+	 * Mtodo que retorna um divisor (spliterator) sobre os elementos da rvore em
+	 * ordem crescente, cuja diviso entrega subrvores inteiras a cada parte, de
+	 * modo que fluxos paralelos distribuam o processamento entre os ncleos.
+	 */
+	@Override
+	public Spliterator<G> spliterator() {
+
+		return new Divisor(this.minimo(), null, this.getRaiz(), this.tamanho(), true);
+	}
+
+	/**
+	 * Mtodo que retorna uma representao da rvore no formato texto (string).
+	 * Para essa representao  utilizado o mtodo de caminhamento em pr-ordem.
+	 */
+	@Override
+	public String toString() {
+
+		StringBuilder string = new StringBuilder();
+
+		try {
+
+			this.escrever(string);
+		}
+
+		catch (IOException e) {
+
+			throw new UncheckedIOException(e);
+		}
+
+		return string.toString();
+	}
+
+	/*
+	 * Mtodos privados ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que verifica se um n  raiz da rvore.
+	 * 
+	 * @param no N em foco.
+	 * 
+	 * @return Verdadeiro, caso em caso afirmativo, ou falso, caso contrrio.
+	 */
+	private boolean ehRaiz(NoTriplo<G> no) {
+
+		return no.equals(this.getRaiz());
+	}
+
+	/**
+	 * Mtodo que verifica se um n  um filho esquerdo.
+	 * 
+	 * @param no N em foco.
+	 * 
+	 * @return Verdadeiro, caso em caso afirmativo, ou falso, caso contrrio.
+	 */
+	private boolean ehFilhoEsquerdo(NoTriplo<G> no) {
+
+		if (ehRaiz(no)) {
+
+			return false;
+		}
+
+		return no.equals(no.getPai().getEsquerdo());
+	}
+
+	/**
+	 * Mtodo que verifica se um n  um filho direito.
+	 * 
+	 * @param no N em foco.
+	 * 
+	 * @return Verdadeiro, caso em caso afirmativo, ou falso, caso contrrio.
+	 */
+	private boolean ehFilhoDireito(NoTriplo<G> no) {
+
+		if (ehRaiz(no)) {
+
+			return false;
+		}
+
+		return no.equals(no.getPai().getDireito());
+	}
+
+	/**
+	 * Mtodo para efetuar a substituio de um determinado n por outro. Tal
+	 * substituio no efetua nenhum tipo de alterao nos filhos dos ns
+	 * envolvidos, sendo necessria aplicar essas alteraes fora desse mtodo.
 	 * 
 	 * @param alvo       N alvo da substituio.
 	 * 
 	 * @param substituto N substituto.
 	 */
-	private void substituir(NoTriplo<G> alvo, NoTriplo<G> substituto) {
+	protected void substituir(NoTriplo<G> alvo, NoTriplo<G> substituto) {
 
 		/*
 		 * Se o n alvo for a raiz, ento o substituto assumira seu lugar como raiz da
@@ -468,6 +1413,137 @@ public class ArvoreBinaria<G extends Comparable<G>> {
 		}
 	}
 
+	/**
+	 * Mtodo que constri uma subrvore perfeitamente balanceada a partir de um
+	 * intervalo de uma lista ordenada, tendo como raiz o elemento central do
+	 * intervalo.
+	 *
+	 * @param ordenados Elementos em ordem crescente.
+	 *
+	 * @param inicio    Posio inicial do intervalo.
+	 *
+	 * @param fim       Posio final (inclusiva) do intervalo.
+	 *
+	 * @return Raiz da subrvore, ou nulo, caso o intervalo seja vazio.
+	 */
+	private NoTriplo<G> construirSubarvore(List<? extends G> ordenados, int inicio, int fim) {
+
+		if (inicio > fim) {
+
+			return null;
+		}
+
+		int meio = (inicio + fim) >>> 1;
+
+		NoTriplo<G> no = this.criarNo(ordenados.get(meio));
+		no.setEsquerdo(this.construirSubarvore(ordenados, inicio, meio - 1));
+		no.setDireito(this.construirSubarvore(ordenados, meio + 1, fim));
+
+		this.atualizar(no);
+
+		return no;
+	}
+
+	/**
+	 * Mtodo para a busca de um elemento na rvore binria de busca ordenada por
+	 * um comparador.
+	 * 
+	 * @param conteudo   Contedo a ser buscado.
+	 * 
+	 * @param comparador Comparador dos elementos.
+	 * 
+	 * @return N encontrado, para busca bem sucedida, ou nulo, caso contrrio.
+	 */
+	private NoTriplo<G> buscar(G conteudo, Comparator<? super G> comparador) {
+
+		NoTriplo<G> aux = this.raiz;
+
+		while (aux != null) {
+
+			int comparacao = comparador.compare(conteudo, aux.getConteudo());
+
+			if (comparacao == 0) {
+
+				return aux;
+			}
+
+			aux = comparacao > 0 ? aux.getDireito() : aux.getEsquerdo();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Mtodo que retorna o primeiro n, em ordem, cujo contedo pertence ao
+	 * intervalo fechado [inicio, fim].
+	 *
+	 * @param inicio Limite inferior do intervalo.
+	 *
+	 * @param fim    Limite superior do intervalo.
+	 *
+	 * @return Primeiro n do intervalo, ou nulo, caso o intervalo seja invlido ou
+	 *         no possua elementos.
+	 */
+	private NoTriplo<G> primeiroDoIntervalo(G inicio, G fim) {
+
+		/*
+		 * Verificao dos limites do intervalo.
+		 */
+		if (inicio == null || fim == null || this.comparar(inicio, fim) > 0) {
+
+			return null;
+		}
+
+		/*
+		 * O primeiro n do intervalo  o teto do limite inferior.
+		 */
+		NoTriplo<G> primeiro = this.teto(inicio);
+
+		/*
+		 * O n encontrado pode ultrapassar o limite superior.
+		 */
+		if (primeiro != null && this.comparar(primeiro.getConteudo(), fim) > 0) {
+
+			return null;
+		}
+
+		return primeiro;
+	}
+
+	/**
+	 * Mtodo que retorna o n anterior em ordem a partir de um determinado n,
+	 * utilizando apenas as referncias aos filhos e aos pais, de modo que
+	 * contedos repetidos sejam percorridos um a um.
+	 *
+	 * @param no N de origem.
+	 *
+	 * @return N anterior em ordem, ou nulo, caso o n de origem seja o primeiro.
+	 */
+	private NoTriplo<G> anterior(NoTriplo<G> no) {
+
+		/*
+		 * Se o n possuir filho esquerdo, ento o n anterior  o mximo dessa
+		 * subrvore.
+		 */
+		if (no.getEsquerdo() != null) {
+
+			return this.maximo(no.getEsquerdo());
+		}
+
+		/*
+		 * Caso contrrio, subir at o primeiro ancestral alcanado pela direita.
+		 */
+		NoTriplo<G> pai = no.getPai();
+
+		while (pai != null && no == pai.getEsquerdo()) {
+
+			no = pai;
+			pai = pai.getPai();
+		}
+
+		return pai;
+	}
+
 	/**
 	 * Mtodo que retorna o n mximo a partir de um determinado n de origem.
 	 * 
@@ -495,9 +1571,7 @@ public class ArvoreBinaria<G extends Comparable<G>> {
 		 */
 		while (max.getDireito() != null) {
 
-			predecessor(max);
 			max = max.getDireito();
-
 		}
 
 		/*
@@ -533,7 +1607,6 @@ public class ArvoreBinaria<G extends Comparable<G>> {
 		 */
 		while (min.getEsquerdo() != null) {
 
-			predecessor(min);
 			min = min.getEsquerdo();
 		}
 
@@ -589,7 +1662,7 @@ public class ArvoreBinaria<G extends Comparable<G>> {
 			 * Se o contedo do n sucessor for maior do que ou igual ao do n de origem,
 			 * ento este ser o n sucessor.
 			 */
-			if (suc.getConteudo().compareTo(no.getConteudo()) >= 0) {
+			if (this.comparar(suc.getConteudo(), no.getConteudo()) >= 0) {
 
 				return suc;
 
@@ -656,7 +1729,7 @@ public class ArvoreBinaria<G extends Comparable<G>> {
 			 * Se o contedo do n predecessor for menor do que o do n de origem, ento
 			 * este ser o n predecessor.
 			 */
-			if (pre.getConteudo().compareTo(no.getConteudo()) < 0) {
+			if (this.comparar(pre.getConteudo(), no.getConteudo()) < 0) {
 
 				return pre;
 
@@ -675,4 +1748,368 @@ public class ArvoreBinaria<G extends Comparable<G>> {
 		 */
 		return pre;
 	}
+
+	/*
+	 * Classes internas ------------------------------------------------------------
+	 */
+
+	/**
+	 * Classe que implementa um divisor (spliterator) sobre os ns da rvore entre
+	 * um n inicial (inclusivo) e um n final (exclusivo), em ordem crescente. A
+	 * diviso ocorre no piv, cuja subrvore est inteiramente contida no
+	 * intervalo: a parte entregue recebe os elementos anteriores ao piv, com a
+	 * subrvore esquerda do piv como novo piv, e esta parte mantm os elementos
+	 * a partir do piv, com a sua subrvore direita como novo piv.
+	 */
+	private class Divisor implements Spliterator<G> {
+
+		/**
+		 * Prximo n a ser retornado.
+		 */
+		private NoTriplo<G> atual;
+
+		/**
+		 * N que encerra o intervalo (exclusivo), ou nulo, para o fim da rvore.
+		 */
+		private final NoTriplo<G> fim;
+
+		/**
+		 * N em que o intervalo ser dividido, ou nulo, caso no seja divisvel.
+		 */
+		private NoTriplo<G> pivo;
+
+		/**
+		 * Estimativa da quantidade de elementos do intervalo.
+		 */
+		private long estimativa;
+
+		/**
+		 * Indica se a estimativa corresponde exatamente  quantidade de elementos.
+		 */
+		private boolean exato;
+
+		/**
+		 * Quantidade de modificaes da rvore na criao do divisor.
+		 */
+		private final int modificacoesEsperadas;
+
+		/**
+		 * Construtor da classe.
+		 *
+		 * @param atual      Primeiro n do intervalo, possivelmente nulo.
+		 *
+		 * @param fim        N que encerra o intervalo, ou nulo.
+		 *
+		 * @param pivo       N de diviso do intervalo, ou nulo.
+		 *
+		 * @param estimativa Estimativa da quantidade de elementos.
+		 *
+		 * @param exato      Indica se a estimativa  exata.
+		 */
+		Divisor(NoTriplo<G> atual, NoTriplo<G> fim, NoTriplo<G> pivo, long estimativa, boolean exato) {
+
+			this.atual = atual;
+			this.fim = fim;
+			this.pivo = pivo;
+			this.estimativa = estimativa;
+			this.exato = exato;
+			this.modificacoesEsperadas = ArvoreBinaria.this.modificacoes;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super G> acao) {
+
+			/*
+			 * Verificao de modificaes concorrentes e do fim do intervalo.
+			 */
+			if (ArvoreBinaria.this.modificacoes != this.modificacoesEsperadas) {
+
+				throw new ConcurrentModificationException();
+			}
+
+			if (this.atual == null || this.atual == this.fim) {
+
+				return false;
+			}
+
+			G conteudo = this.atual.getConteudo();
+
+			/*
+			 * Aps o incio do percurso o intervalo deixa de ser divisvel.
+			 */
+			this.atual = ArvoreBinaria.this.proximo(this.atual);
+			this.pivo = null;
+
+			acao.accept(conteudo);
+
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super G> acao) {
+
+			NoTriplo<G> no = this.atual;
+
+			this.atual = this.fim;
+			this.pivo = null;
+
+			/*
+			 * Percurso de todo o intervalo, com a verificao de modificaes
+			 * concorrentes ao final.
+			 */
+			while (no != null && no != this.fim) {
+
+				acao.accept(no.getConteudo());
+				no = ArvoreBinaria.this.proximo(no);
+			}
+
+			if (ArvoreBinaria.this.modificacoes != this.modificacoesEsperadas) {
+
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		@Override
+		public Spliterator<G> trySplit() {
+
+			/*
+			 * Se o piv coincidir com o incio do intervalo, ento a parte anterior ao
+			 * piv seria vazia, sendo utilizada a sua subrvore direita.
+			 */
+			while (this.pivo != null && this.pivo == this.atual) {
+
+				this.pivo = this.pivo.getDireito();
+			}
+
+			if (this.pivo == null) {
+
+				return null;
+			}
+
+			/*
+			 * Entrega dos elementos anteriores ao piv e manuteno dos demais.
+			 */
+			NoTriplo<G> pivo = this.pivo;
+
+			this.estimativa >>>= 1;
+			this.exato = false;
+
+			Divisor anterior = new Divisor(this.atual, pivo, pivo.getEsquerdo(), this.estimativa, false);
+
+			this.atual = pivo;
+			this.pivo = pivo.getDireito();
+
+			return anterior;
+		}
+
+		@Override
+		public long estimateSize() {
+
+			return this.estimativa;
+		}
+
+		@Override
+		public int characteristics() {
+
+			int caracteristicas = ORDERED | SORTED | NONNULL;
+
+			if (this.exato) {
+
+				caracteristicas |= SIZED;
+			}
+
+			if (ArvoreBinaria.this.distintos) {
+
+				caracteristicas |= DISTINCT;
+			}
+
+			return caracteristicas;
+		}
+
+		@Override
+		public Comparator<? super G> getComparator() {
+
+			/*
+			 * Os elementos seguem a ordenao da rvore, sendo nulo o comparador da ordem
+			 * natural.
+			 */
+			return ArvoreBinaria.this.comparador;
+		}
+	}
+
+	/**
+	 * Classe que implementa um iterador sobre os ns da rvore, em ordem crescente
+	 * ou decrescente, a partir de um n inicial e, opcionalmente, at um limite.
+	 * Cada avano percorre as referncias aos filhos e aos pais, de modo que o
+	 * percurso completo visite cada aresta no mximo duas vezes.
+	 */
+	private class Iterador implements Iterator<G> {
+
+		/**
+		 * Prximo n a ser retornado.
+		 */
+		private NoTriplo<G> proximo;
+
+		/**
+		 * Limite (inclusivo) do percurso, ou nulo, para percorrer at o fim da rvore.
+		 */
+		private final G limite;
+
+		/**
+		 * Sentido do percurso: verdadeiro, para ordem crescente, ou falso, para ordem
+		 * decrescente.
+		 */
+		private final boolean crescente;
+
+		/**
+		 * Quantidade de modificaes da rvore na criao do iterador.
+		 */
+		private final int modificacoesEsperadas;
+
+		/**
+		 * Construtor da classe.
+		 *
+		 * @param inicio    Primeiro n a ser retornado, possivelmente nulo.
+		 *
+		 * @param limite    Limite (inclusivo) do percurso, ou nulo.
+		 *
+		 * @param crescente Sentido do percurso.
+		 */
+		Iterador(NoTriplo<G> inicio, G limite, boolean crescente) {
+
+			this.proximo = inicio;
+			this.limite = limite;
+			this.crescente = crescente;
+			this.modificacoesEsperadas = ArvoreBinaria.this.modificacoes;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			return this.proximo != null;
+		}
+
+		@Override
+		public G next() {
+
+			/*
+			 * Verificao de modificaes concorrentes e do fim do percurso.
+			 */
+			if (ArvoreBinaria.this.modificacoes != this.modificacoesEsperadas) {
+
+				throw new ConcurrentModificationException();
+			}
+
+			if (this.proximo == null) {
+
+				throw new NoSuchElementException();
+			}
+
+			G conteudo = this.proximo.getConteudo();
+
+			/*
+			 * Avano para o prximo n no sentido do percurso, encerrando ao ultrapassar o
+			 * limite.
+			 */
+			if (this.crescente) {
+
+				this.proximo = ArvoreBinaria.this.proximo(this.proximo);
+			}
+
+			else {
+
+				this.proximo = ArvoreBinaria.this.anterior(this.proximo);
+			}
+
+			if (this.proximo != null && this.limite != null) {
+
+				int comparacao = ArvoreBinaria.this.comparar(this.proximo.getConteudo(), this.limite);
+
+				if (this.crescente ? comparacao > 0 : comparacao < 0) {
+
+					this.proximo = null;
+				}
+			}
+
+			return conteudo;
+		}
+	}
+
+	/**
+	 * Classe que implementa a construo paralela de uma subrvore perfeitamente
+	 * balanceada. Os intervalos maiores do que o limiar tm as suas metades
+	 * construdas em tarefas independentes, sendo os intervalos menores
+	 * construdos sequencialmente.
+	 */
+	private class ConstrucaoParalela extends RecursiveTask<NoTriplo<G>> {
+
+		/**
+		 * Identificador de verso da classe serializvel.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Elementos em ordem crescente.
+		 */
+		private final List<? extends G> ordenados;
+
+		/**
+		 * Posio inicial do intervalo.
+		 */
+		private final int inicio;
+
+		/**
+		 * Posio final (inclusiva) do intervalo.
+		 */
+		private final int fim;
+
+		/**
+		 * Construtor da classe.
+		 *
+		 * @param ordenados Elementos em ordem crescente.
+		 *
+		 * @param inicio    Posio inicial do intervalo.
+		 *
+		 * @param fim       Posio final (inclusiva) do intervalo.
+		 */
+		ConstrucaoParalela(List<? extends G> ordenados, int inicio, int fim) {
+
+			this.ordenados = ordenados;
+			this.inicio = inicio;
+			this.fim = fim;
+		}
+
+		/**
+		 * Mtodo que constri a subrvore do intervalo.
+		 */
+		@Override
+		protected NoTriplo<G> compute() {
+
+			/*
+			 * Intervalos pequenos so construdos sequencialmente.
+			 */
+			if (this.fim - this.inicio < LIMIAR_CONSTRUCAO_PARALELA) {
+
+				return ArvoreBinaria.this.construirSubarvore(this.ordenados, this.inicio, this.fim);
+			}
+
+			/*
+			 * Construo da subrvore esquerda em paralelo com a direita.
+			 */
+			int meio = (this.inicio + this.fim) >>> 1;
+
+			ConstrucaoParalela esquerda = new ConstrucaoParalela(this.ordenados, this.inicio, meio - 1);
+			esquerda.fork();
+
+			NoTriplo<G> direito = new ConstrucaoParalela(this.ordenados, meio + 1, this.fim).compute();
+
+			NoTriplo<G> no = ArvoreBinaria.this.criarNo(this.ordenados.get(meio));
+			no.setEsquerdo(esquerda.join());
+			no.setDireito(direito);
+
+			ArvoreBinaria.this.atualizar(no);
+
+			return no;
+		}
+	}
 }
\ No newline at end of file
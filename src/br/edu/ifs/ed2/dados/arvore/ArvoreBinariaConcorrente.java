@@ -0,0 +1,463 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import java.util.concurrent.locks.StampedLock;
+
+import br.edu.ifs.ed2.dados.no.NoTriplo;
+
+/**
+ * Classe que implementa uma rvore binria de busca segura para o acesso
+ * concorrente, envolvendo uma rvore binria de busca qualquer (inclusive as
+ * balanceadas). As operaes de escrita adquirem a trava de escrita, enquanto
+ * as operaes de leitura percorrem a rvore de forma otimista, sem adquirir
+ * trava alguma, e validam ao final que nenhuma escrita ocorreu durante o
+ * percurso. Somente quando a validao falha a leitura  repetida sob a trava
+ * de leitura, de modo que leitores no disputem a trava entre si.
+ *
+ * Como os ns da rvore podem ser alterados a qualquer momento por outras
+ * threads, as operaes de leitura retornam os contedos, e no os ns.
+ *
+ * @author Marlos Tacio Silva.
+ *
+ */
+public class ArvoreBinariaConcorrente<G> {
+
+	/*
+	 * Atributos -------------------------------------------------------------------
+	 */
+
+	/**
+	 * Quantidade de ns visitados entre duas validaes de uma leitura otimista.
+	 * As validaes intermedirias interrompem percursos que, por observarem uma
+	 * escrita em andamento, entrariam em ciclo.
+	 */
+	private static final int PASSOS_POR_VALIDACAO = 64;
+
+	/**
+	 * Atributo que contm a rvore envolvida.
+	 */
+	private final ArvoreBinaria<G> arvore;
+
+	/**
+	 * Atributo que contm a trava que coordena leitores e escritores.
+	 */
+	private final StampedLock trava;
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe, envolvendo uma rvore binria de busca vazia.
+	 */
+	public ArvoreBinariaConcorrente() {
+
+		this(new ArvoreBinaria<G>());
+	}
+
+	/**
+	 * Construtor da classe. A rvore envolvida no deve ser acessada diretamente
+	 * aps a construo.
+	 *
+	 * @param arvore rvore a ser envolvida.
+	 */
+	public ArvoreBinariaConcorrente(ArvoreBinaria<G> arvore) {
+
+		this.arvore = arvore;
+		this.trava = new StampedLock();
+	}
+
+	/*
+	 * Mtodos pblicos ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo para a insero de um elemento na rvore, sob a trava de escrita.
+	 *
+	 * @param conteudo Contedo a ser inserido.
+	 *
+	 * @return Verdadeiro, para insero bem sucedida, ou falso, caso contrrio.
+	 */
+	public boolean inserir(G conteudo) {
+
+		long carimbo = this.trava.writeLock();
+
+		try {
+
+			return this.arvore.inserir(conteudo);
+		}
+
+		finally {
+
+			this.trava.unlockWrite(carimbo);
+		}
+	}
+
+	/**
+	 * Mtodo para a remoo de um elemento na rvore, sob a trava de escrita.
+	 *
+	 * @param conteudo Contedo a ser removido.
+	 *
+	 * @return Verdadeiro, para remoo bem sucedida, ou falso, caso contrrio.
+	 */
+	public boolean remover(G conteudo) {
+
+		long carimbo = this.trava.writeLock();
+
+		try {
+
+			return this.arvore.remover(conteudo);
+		}
+
+		finally {
+
+			this.trava.unlockWrite(carimbo);
+		}
+	}
+
+	/**
+	 * Mtodo que efetua a limpeza da rvore, sob a trava de escrita.
+	 */
+	public void limpar() {
+
+		long carimbo = this.trava.writeLock();
+
+		try {
+
+			this.arvore.limpar();
+		}
+
+		finally {
+
+			this.trava.unlockWrite(carimbo);
+		}
+	}
+
+	/**
+	 * Mtodo para a busca de um elemento na rvore.
+	 *
+	 * @param conteudo Contedo a ser buscado.
+	 *
+	 * @return Contedo armazenado na rvore igual ao buscado, para busca bem
+	 *         sucedida, ou nulo, caso contrrio.
+	 */
+	public G buscar(G conteudo) {
+
+		/*
+		 * Verificao e indicao de busca mal sucedida, caso o contedo seja nulo.
+		 */
+		if (conteudo == null) {
+
+			return null;
+		}
+
+		return this.ler(carimbo -> {
+
+			NoTriplo<G> aux = this.arvore.getRaiz();
+
+			/*
+			 * Percorre a rvore enquanto no encontrar o contedo ou o n nulo.
+			 */
+			for (int passos = 1; aux != null; ++passos) {
+
+				this.verificar(carimbo, passos);
+
+				int comparacao = this.arvore.comparar(conteudo, aux.getConteudo());
+
+				if (comparacao == 0) {
+
+					return aux.getConteudo();
+				}
+
+				aux = comparacao > 0 ? aux.getDireito() : aux.getEsquerdo();
+			}
+
+			return null;
+		});
+	}
+
+	/**
+	 * Mtodo que retorna o contedo com mximo valor na rvore.
+	 *
+	 * @return Contedo mximo, ou nulo, caso a rvore esteja vazia.
+	 */
+	public G maximo() {
+
+		return this.ler(carimbo -> this.extremo(carimbo, true));
+	}
+
+	/**
+	 * Mtodo que retorna o contedo com mnimo valor na rvore.
+	 *
+	 * @return Contedo mnimo, ou nulo, caso a rvore esteja vazia.
+	 */
+	public G minimo() {
+
+		return this.ler(carimbo -> this.extremo(carimbo, false));
+	}
+
+	/**
+	 * Mtodo que retorna o sucessor de um determinado contedo na rvore, ou seja,
+	 * o menor contedo maior do que ele.
+	 *
+	 * @param conteudo Contedo em foco.
+	 *
+	 * @return O contedo sucessor, caso o contedo em foco esteja na rvore e
+	 *         possua sucessor, ou nulo, caso contrrio.
+	 */
+	public G sucessor(G conteudo) {
+
+		if (conteudo == null) {
+
+			return null;
+		}
+
+		return this.ler(carimbo -> this.vizinho(carimbo, conteudo, true));
+	}
+
+	/**
+	 * Mtodo que retorna o predecessor de um determinado contedo na rvore, ou
+	 * seja, o maior contedo menor do que ele.
+	 *
+	 * @param conteudo Contedo em foco.
+	 *
+	 * @return O contedo predecessor, caso o contedo em foco esteja na rvore e
+	 *         possua predecessor, ou nulo, caso contrrio.
+	 */
+	public G predecessor(G conteudo) {
+
+		if (conteudo == null) {
+
+			return null;
+		}
+
+		return this.ler(carimbo -> this.vizinho(carimbo, conteudo, false));
+	}
+
+	/**
+	 * Mtodo que retorna a quantidade de elementos da rvore, sob a trava de
+	 * leitura.
+	 *
+	 * @return Quantidade de elementos da rvore.
+	 */
+	public int tamanho() {
+
+		long carimbo = this.trava.readLock();
+
+		try {
+
+			return this.arvore.tamanho();
+		}
+
+		finally {
+
+			this.trava.unlockRead(carimbo);
+		}
+	}
+
+	/*
+	 * Mtodos Sobrescritos --------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna uma representao da rvore no formato texto (string),
+	 * obtida sob a trava de leitura.
+	 */
+	@Override
+	public String toString() {
+
+		long carimbo = this.trava.readLock();
+
+		try {
+
+			return this.arvore.toString();
+		}
+
+		finally {
+
+			this.trava.unlockRead(carimbo);
+		}
+	}
+
+	/*
+	 * Mtodos privados ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que executa uma leitura, inicialmente de forma otimista e, caso uma
+	 * escrita tenha ocorrido durante o percurso, novamente sob a trava de leitura.
+	 * Como a leitura otimista pode observar a rvore em um estado intermedirio,
+	 * as excees lanadas durante ela so descartadas em favor da repetio.
+	 *
+	 * @param leitura Leitura a ser executada.
+	 *
+	 * @return Resultado da leitura.
+	 */
+	private G ler(Leitura<G> leitura) {
+
+		/*
+		 * Tentativa de leitura otimista, vlida apenas se nenhuma escrita tiver
+		 * ocorrido desde a obteno do carimbo.
+		 */
+		long carimbo = this.trava.tryOptimisticRead();
+
+		if (carimbo != 0) {
+
+			try {
+
+				G resultado = leitura.executar(carimbo);
+
+				if (this.trava.validate(carimbo)) {
+
+					return resultado;
+				}
+			}
+
+			catch (RuntimeException e) {
+
+				/*
+				 * Estado intermedirio observado: repetir a leitura sob a trava.
+				 */
+			}
+		}
+
+		/*
+		 * Repetio da leitura sob a trava de leitura, sem validaes intermedirias.
+		 */
+		carimbo = this.trava.readLock();
+
+		try {
+
+			return leitura.executar(0L);
+		}
+
+		finally {
+
+			this.trava.unlockRead(carimbo);
+		}
+	}
+
+	/**
+	 * Mtodo que valida periodicamente uma leitura otimista, interrompendo-a caso
+	 * uma escrita tenha ocorrido.
+	 *
+	 * @param carimbo Carimbo da leitura otimista, ou zero, para leituras sob a
+	 *                trava de leitura.
+	 *
+	 * @param passos  Quantidade de ns visitados at o momento.
+	 *
+	 * @throws IllegalStateException Caso a leitura otimista tenha sido invalidada.
+	 */
+	private void verificar(long carimbo, int passos) {
+
+		if (carimbo != 0 && passos % PASSOS_POR_VALIDACAO == 0 && !this.trava.validate(carimbo)) {
+
+			throw new IllegalStateException("Leitura otimista invalidada.");
+		}
+	}
+
+	/**
+	 * Mtodo que retorna o contedo mximo ou mnimo da rvore.
+	 *
+	 * @param carimbo Carimbo da leitura.
+	 *
+	 * @param maximo  Verdadeiro, para o mximo, ou falso, para o mnimo.
+	 *
+	 * @return Contedo extremo, ou nulo, caso a rvore esteja vazia.
+	 */
+	private G extremo(long carimbo, boolean maximo) {
+
+		NoTriplo<G> aux = this.arvore.getRaiz();
+
+		if (aux == null) {
+
+			return null;
+		}
+
+		/*
+		 * Deslocamento at o n mais  direita, ou mais  esquerda, da rvore.
+		 */
+		for (int passos = 1;; ++passos) {
+
+			this.verificar(carimbo, passos);
+
+			NoTriplo<G> filho = maximo ? aux.getDireito() : aux.getEsquerdo();
+
+			if (filho == null) {
+
+				return aux.getConteudo();
+			}
+
+			aux = filho;
+		}
+	}
+
+	/**
+	 * Mtodo que retorna o sucessor ou o predecessor de um contedo em uma nica
+	 * descida a partir da raiz.
+	 *
+	 * @param carimbo  Carimbo da leitura.
+	 *
+	 * @param conteudo Contedo em foco.
+	 *
+	 * @param sucessor Verdadeiro, para o sucessor, ou falso, para o predecessor.
+	 *
+	 * @return Contedo vizinho, ou nulo, caso o contedo em foco no esteja na
+	 *         rvore ou no possua vizinho.
+	 */
+	private G vizinho(long carimbo, G conteudo, boolean sucessor) {
+
+		NoTriplo<G> aux = this.arvore.getRaiz();
+		NoTriplo<G> vizinho = null;
+		boolean encontrado = false;
+
+		/*
+		 * Descida a partir da raiz, guardando o ltimo n maior (ou menor) do que o
+		 * contedo e verificando a presena do contedo no caminho.
+		 */
+		for (int passos = 1; aux != null; ++passos) {
+
+			this.verificar(carimbo, passos);
+
+			int comparacao = this.arvore.comparar(conteudo, aux.getConteudo());
+
+			encontrado |= comparacao == 0;
+
+			if (sucessor ? comparacao < 0 : comparacao > 0) {
+
+				vizinho = aux;
+				aux = sucessor ? aux.getEsquerdo() : aux.getDireito();
+			}
+
+			else {
+
+				aux = sucessor ? aux.getDireito() : aux.getEsquerdo();
+			}
+		}
+
+		return encontrado && vizinho != null ? vizinho.getConteudo() : null;
+	}
+
+	/*
+	 * Interfaces internas ---------------------------------------------------------
+	 */
+
+	/**
+	 * Interface que representa uma operao de leitura sobre a rvore.
+	 */
+	@FunctionalInterface
+	private interface Leitura<G> {
+
+		/**
+		 * Mtodo que executa a leitura.
+		 *
+		 * @param carimbo Carimbo da leitura otimista, ou zero, para leituras sob a
+		 *                trava de leitura.
+		 *
+		 * @return Resultado da leitura.
+		 */
+		G executar(long carimbo);
+	}
+}
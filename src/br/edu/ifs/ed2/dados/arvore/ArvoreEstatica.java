@@ -0,0 +1,439 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Classe que implementa um instantneo (snapshot) imutvel de uma rvore
+ * binria de busca, armazenado em um nico vetor no leiaute de Eytzinger: a
+ * raiz ocupa a posio 1 e os filhos da posio k ocupam as posies 2k e
+ * 2k + 1. No h ns nem referncias a seguir, e os primeiros nveis, visitados
+ * por todas as buscas, ficam contguos na memria.
+ *
+ * A descida no depende do resultado da comparao para escolher o prximo
+ * passo, apenas para calcular o prximo ndice, o que evita desvios
+ * imprevisveis. O instantneo  indicado para ndices reconstrudos raramente
+ * e consultados com frequncia.
+ *
+ * @author Marlos Tacio Silva.
+ *
+ */
+public final class ArvoreEstatica<G> implements Iterable<G> {
+
+	/*
+	 * Atributos -------------------------------------------------------------------
+	 */
+
+	/**
+	 * Atributo que contm os elementos no leiaute de Eytzinger, a partir da posio
+	 * 1 (a posio 0 no  utilizada).
+	 */
+	private final Object[] elementos;
+
+	/**
+	 * Atributo que armazena a quantidade de elementos.
+	 */
+	private final int quantidade;
+
+	/**
+	 * Atributo que contm o comparador que ordena os elementos, ou nulo, caso seja
+	 * utilizada a ordem natural.
+	 */
+	private final Comparator<? super G> comparador;
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe, que congela o contedo atual de uma rvore binria de
+	 * busca, preservando a sua ordenao. Alteraes posteriores na rvore no so
+	 * refletidas no instantneo.
+	 *
+	 * @param arvore rvore a ser congelada.
+	 */
+	public ArvoreEstatica(ArvoreBinaria<G> arvore) {
+
+		List<G> ordenados = new ArrayList<>(arvore.tamanho());
+
+		for (G conteudo : arvore) {
+
+			ordenados.add(conteudo);
+		}
+
+		this.quantidade = ordenados.size();
+		this.comparador = arvore.getComparador();
+		this.elementos = new Object[this.quantidade + 1];
+
+		this.preencher(ordenados, 0, 1);
+	}
+
+	/*
+	 * Mtodos pblicos ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo para a busca de um elemento.
+	 *
+	 * @param conteudo Contedo a ser buscado.
+	 *
+	 * @return O elemento equivalente armazenado, ou nulo, caso no exista.
+	 */
+	public G buscar(G conteudo) {
+
+		G teto = this.teto(conteudo);
+
+		return teto != null && this.comparar(teto, conteudo) == 0 ? teto : null;
+	}
+
+	/**
+	 * Mtodo que verifica se um elemento pertence ao instantneo.
+	 *
+	 * @param conteudo Contedo em foco.
+	 *
+	 * @return Verdadeiro, caso o elemento exista, ou falso, caso contrrio.
+	 */
+	public boolean contem(G conteudo) {
+
+		return this.buscar(conteudo) != null;
+	}
+
+	/**
+	 * Mtodo que retorna o menor elemento maior do que ou igual a um determinado
+	 * contedo, existente ou no no instantneo.
+	 *
+	 * @param conteudo Contedo em foco.
+	 *
+	 * @return O elemento encontrado (o primeiro em ordem, caso haja repeties),
+	 *         ou nulo, caso no exista.
+	 */
+	public G teto(G conteudo) {
+
+		if (conteudo == null) {
+
+			return null;
+		}
+
+		return this.elemento(this.limiteInferior(conteudo));
+	}
+
+	/**
+	 * Mtodo que retorna o maior elemento menor do que ou igual a um determinado
+	 * contedo, existente ou no no instantneo.
+	 *
+	 * @param conteudo Contedo em foco.
+	 *
+	 * @return O elemento encontrado, ou nulo, caso no exista.
+	 */
+	public G piso(G conteudo) {
+
+		if (conteudo == null) {
+
+			return null;
+		}
+
+		/*
+		 * O piso  o teto, caso seja igual ao contedo, ou o elemento anterior a ele.
+		 */
+		int posicao = this.limiteInferior(conteudo);
+
+		if (posicao != 0 && this.comparar(this.elemento(posicao), conteudo) == 0) {
+
+			return this.elemento(posicao);
+		}
+
+		return this.elemento(posicao == 0 ? this.ultima() : this.anterior(posicao));
+	}
+
+	/**
+	 * Mtodo que retorna o menor elemento.
+	 *
+	 * @return O menor elemento, ou nulo, caso o instantneo esteja vazio.
+	 */
+	public G minimo() {
+
+		return this.elemento(this.primeira());
+	}
+
+	/**
+	 * Mtodo que retorna o maior elemento.
+	 *
+	 * @return O maior elemento, ou nulo, caso o instantneo esteja vazio.
+	 */
+	public G maximo() {
+
+		return this.elemento(this.ultima());
+	}
+
+	/**
+	 * Mtodo que retorna a quantidade de elementos.
+	 *
+	 * @return Quantidade de elementos.
+	 */
+	public int tamanho() {
+
+		return this.quantidade;
+	}
+
+	/*
+	 * Mtodos Sobrescritos --------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna um iterador sobre os elementos em ordem crescente.
+	 */
+	@Override
+	public Iterator<G> iterator() {
+
+		return new Iterador();
+	}
+
+	/*
+	 * Mtodos privados ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que distribui os elementos ordenados no leiaute de Eytzinger, por
+	 * meio de um percurso em ordem sobre as posies do vetor.
+	 *
+	 * @param ordenados Elementos em ordem crescente.
+	 *
+	 * @param proximo   Posio do prximo elemento ordenado a ser distribudo.
+	 *
+	 * @param posicao   Posio do vetor em foco.
+	 *
+	 * @return Posio do prximo elemento ordenado aps o percurso da subrvore.
+	 */
+	private int preencher(List<G> ordenados, int proximo, int posicao) {
+
+		if (posicao <= this.quantidade) {
+
+			proximo = this.preencher(ordenados, proximo, 2 * posicao);
+			this.elementos[posicao] = ordenados.get(proximo++);
+			proximo = this.preencher(ordenados, proximo, 2 * posicao + 1);
+		}
+
+		return proximo;
+	}
+
+	/**
+	 * Mtodo que retorna a posio do primeiro elemento maior do que ou igual a um
+	 * contedo. A descida calcula o prximo ndice a partir do bit de sinal da
+	 * comparao, e a posio procurada  recuperada ao final, descartando os
+	 * passos  direita dados aps o ltimo passo  esquerda.
+	 *
+	 * @param conteudo Contedo em foco.
+	 *
+	 * @return Posio encontrada, ou zero, caso todos os elementos sejam menores
+	 *         do que o contedo.
+	 */
+	@SuppressWarnings("unchecked")
+	private int limiteInferior(G conteudo) {
+
+		Object[] elementos = this.elementos;
+		int quantidade = this.quantidade;
+		int posicao = 1;
+
+		/*
+		 * Laos separados para a ordem natural e para o comparador, cada um com um
+		 * nico ponto de comparao.
+		 */
+		if (this.comparador == null) {
+
+			while (posicao <= quantidade) {
+
+				posicao = 2 * posicao + (((Comparable<? super G>) elementos[posicao]).compareTo(conteudo) >>> 31);
+			}
+		}
+
+		else {
+
+			Comparator<? super G> comparador = this.comparador;
+
+			while (posicao <= quantidade) {
+
+				posicao = 2 * posicao + (comparador.compare((G) elementos[posicao], conteudo) >>> 31);
+			}
+		}
+
+		return posicao >> (Integer.numberOfTrailingZeros(~posicao) + 1);
+	}
+
+	/**
+	 * Mtodo que compara dois elementos segundo a ordenao do instantneo.
+	 *
+	 * @param primeiro Primeiro elemento.
+	 *
+	 * @param segundo  Segundo elemento.
+	 *
+	 * @return Valor negativo, zero ou positivo, caso o primeiro elemento seja
+	 *         menor do que, igual a ou maior do que o segundo, respectivamente.
+	 */
+	@SuppressWarnings("unchecked")
+	private int comparar(G primeiro, G segundo) {
+
+		if (this.comparador == null) {
+
+			return ((Comparable<? super G>) primeiro).compareTo(segundo);
+		}
+
+		return this.comparador.compare(primeiro, segundo);
+	}
+
+	/**
+	 * Mtodo que retorna o elemento armazenado em uma posio.
+	 *
+	 * @param posicao Posio em foco.
+	 *
+	 * @return Elemento da posio, ou nulo, caso a posio seja zero.
+	 */
+	@SuppressWarnings("unchecked")
+	private G elemento(int posicao) {
+
+		return (G) this.elementos[posicao];
+	}
+
+	/**
+	 * Mtodo que retorna a posio do primeiro elemento em ordem, ou seja, a
+	 * posio mais  esquerda a partir da raiz.
+	 *
+	 * @return Posio do primeiro elemento, ou zero, caso no haja elementos.
+	 */
+	private int primeira() {
+
+		int posicao = 0;
+
+		for (int aux = 1; aux <= this.quantidade; aux = 2 * aux) {
+
+			posicao = aux;
+		}
+
+		return posicao;
+	}
+
+	/**
+	 * Mtodo que retorna a posio do ltimo elemento em ordem, ou seja, a posio
+	 * mais  direita a partir da raiz.
+	 *
+	 * @return Posio do ltimo elemento, ou zero, caso no haja elementos.
+	 */
+	private int ultima() {
+
+		int posicao = 0;
+
+		for (int aux = 1; aux <= this.quantidade; aux = 2 * aux + 1) {
+
+			posicao = aux;
+		}
+
+		return posicao;
+	}
+
+	/**
+	 * Mtodo que retorna a posio do prximo elemento em ordem.
+	 *
+	 * @param posicao Posio de origem.
+	 *
+	 * @return Posio do prximo elemento, ou zero, caso a origem seja a ltima.
+	 */
+	private int proxima(int posicao) {
+
+		/*
+		 * Se houver filho direito, ento o prximo  o mais  esquerda dessa
+		 * subrvore. Caso contrrio, subir enquanto a posio for um filho direito.
+		 */
+		if (2 * posicao + 1 <= this.quantidade) {
+
+			posicao = 2 * posicao + 1;
+
+			while (2 * posicao <= this.quantidade) {
+
+				posicao = 2 * posicao;
+			}
+
+			return posicao;
+		}
+
+		return posicao >> (Integer.numberOfTrailingZeros(~posicao) + 1);
+	}
+
+	/**
+	 * Mtodo que retorna a posio do elemento anterior em ordem.
+	 *
+	 * @param posicao Posio de origem.
+	 *
+	 * @return Posio do elemento anterior, ou zero, caso a origem seja a
+	 *         primeira.
+	 */
+	private int anterior(int posicao) {
+
+		/*
+		 * Se houver filho esquerdo, ento o anterior  o mais  direita dessa
+		 * subrvore. Caso contrrio, subir enquanto a posio for um filho esquerdo.
+		 */
+		if (2 * posicao <= this.quantidade) {
+
+			posicao = 2 * posicao;
+
+			while (2 * posicao + 1 <= this.quantidade) {
+
+				posicao = 2 * posicao + 1;
+			}
+
+			return posicao;
+		}
+
+		return posicao >> (Integer.numberOfTrailingZeros(posicao) + 1);
+	}
+
+	/*
+	 * Classes internas ------------------------------------------------------------
+	 */
+
+	/**
+	 * Classe que implementa um iterador sobre os elementos em ordem crescente, por
+	 * meio do percurso em ordem sobre as posies do vetor.
+	 */
+	private class Iterador implements Iterator<G> {
+
+		/**
+		 * Posio do prximo elemento a ser retornado, ou zero, ao final.
+		 */
+		private int proxima;
+
+		/**
+		 * Construtor da classe.
+		 */
+		private Iterador() {
+
+			this.proxima = ArvoreEstatica.this.primeira();
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			return this.proxima != 0;
+		}
+
+		@Override
+		public G next() {
+
+			if (this.proxima == 0) {
+
+				throw new NoSuchElementException();
+			}
+
+			G conteudo = ArvoreEstatica.this.elemento(this.proxima);
+
+			this.proxima = ArvoreEstatica.this.proxima(this.proxima);
+
+			return conteudo;
+		}
+	}
+}
@@ -0,0 +1,232 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import br.edu.ifs.ed2.dados.no.NoEstatistico;
+import br.edu.ifs.ed2.dados.no.NoTriplo;
+
+/**
+ * Classe que implementa as operaes de uma rvore de estatsticas de ordem, ou
+ * seja, uma rvore AVL cujos ns armazenam a quantidade de ns de suas
+ * subrvores. Tal informao  mantida nas inseres, remoes e rotaes, e
+ * permite obter o k-simo menor elemento e a posio de um elemento em tempo
+ * O(log n).
+ *
+ * @author Marlos Tacio Silva.
+ *
+ */
+public class ArvoreEstatistica<G extends Comparable<G>> extends ArvoreAVL<G> {
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe.
+	 */
+	public ArvoreEstatistica() {
+
+		super();
+	}
+
+	/*
+	 * Mtodos pblicos ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna o n que armazena o k-simo menor elemento da rvore.
+	 *
+	 * @param k Posio do elemento, iniciando em um.
+	 *
+	 * @return N com o k-simo menor elemento, ou nulo, caso a posio esteja fora
+	 *         dos limites da rvore.
+	 */
+	public NoTriplo<G> selecionar(int k) {
+
+		/*
+		 * Verificao dos limites da posio.
+		 */
+		if (k < 1 || k > this.tamanho()) {
+
+			return null;
+		}
+
+		NoTriplo<G> aux = this.getRaiz();
+
+		/*
+		 * Descida a partir da raiz, descontando os ns deixados  esquerda.
+		 */
+		while (aux != null) {
+
+			int esquerda = this.tamanho(aux.getEsquerdo());
+
+			/*
+			 * Se a posio estiver na subrvore esquerda, ento descer  esquerda.
+			 */
+			if (k <= esquerda) {
+
+				aux = aux.getEsquerdo();
+			}
+
+			/*
+			 * Se a posio corresponder ao n em foco, ento retorn-lo.
+			 */
+			else if (k == esquerda + 1) {
+
+				return aux;
+			}
+
+			/*
+			 * Caso contrrio, descontar a subrvore esquerda e o n em foco e descer 
+			 * direita.
+			 */
+			else {
+
+				k -= esquerda + 1;
+				aux = aux.getDireito();
+			}
+		}
+
+		/*
+		 * Indicao de busca mal sucedida.
+		 */
+		return null;
+	}
+
+	/**
+	 * Mtodo que retorna a quantidade de elementos da rvore estritamente menores
+	 * do que um determinado contedo. O contedo no precisa estar presente na
+	 * rvore.
+	 *
+	 * @param conteudo Contedo em foco.
+	 *
+	 * @return Quantidade de elementos menores do que o contedo, ou -1, caso o
+	 *         contedo seja nulo.
+	 */
+	public int rank(G conteudo) {
+
+		/*
+		 * Verificao do contedo.
+		 */
+		if (conteudo == null) {
+
+			return -1;
+		}
+
+		return this.contarMenores(conteudo, false);
+	}
+
+	/**
+	 * Mtodo que retorna a quantidade de elementos da rvore pertencentes ao
+	 * intervalo fechado [inicio, fim] a partir dos tamanhos das subrvores, em
+	 * tempo O(log n), independentemente da quantidade de elementos contados.
+	 */
+	@Override
+	public int contarIntervalo(G inicio, G fim) {
+
+		/*
+		 * Verificao dos limites do intervalo.
+		 */
+		if (inicio == null || fim == null || inicio.compareTo(fim) > 0) {
+
+			return 0;
+		}
+
+		return this.contarMenores(fim, true) - this.contarMenores(inicio, false);
+	}
+
+	/*
+	 * Mtodos protegidos ----------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que constri um n capaz de armazenar a altura e o tamanho de sua
+	 * subrvore.
+	 */
+	@Override
+	protected NoTriplo<G> criarNo(G conteudo) {
+
+		return new NoEstatistico<>(conteudo);
+	}
+
+	/**
+	 * Mtodo que recalcula a altura e o tamanho de um n a partir dos de seus
+	 * filhos.
+	 */
+	@Override
+	protected void atualizar(NoTriplo<G> no) {
+
+		super.atualizar(no);
+
+		int esquerda = this.tamanho(no.getEsquerdo());
+		int direita = this.tamanho(no.getDireito());
+
+		((NoEstatistico<G>) no).setTamanho(1 + esquerda + direita);
+	}
+
+	/*
+	 * Mtodos privados ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna a quantidade de elementos da rvore menores do que (ou
+	 * iguais a) um determinado contedo.
+	 *
+	 * @param conteudo  Contedo em foco.
+	 *
+	 * @param inclusivo Verdadeiro, para contar tambm os elementos iguais ao
+	 *                  contedo, ou falso, caso contrrio.
+	 *
+	 * @return Quantidade de elementos contados.
+	 */
+	private int contarMenores(G conteudo, boolean inclusivo) {
+
+		int quantidade = 0;
+		NoTriplo<G> aux = this.getRaiz();
+
+		/*
+		 * Descida a partir da raiz, acumulando os ns deixados  esquerda.
+		 */
+		while (aux != null) {
+
+			int comparacao = conteudo.compareTo(aux.getConteudo());
+
+			/*
+			 * Se o n em foco no for contado, ento descer  esquerda.
+			 */
+			if (comparacao < 0 || (comparacao == 0 && !inclusivo)) {
+
+				aux = aux.getEsquerdo();
+			}
+
+			/*
+			 * Caso contrrio, o n em foco e a sua subrvore esquerda so contados.
+			 */
+			else {
+
+				quantidade += this.tamanho(aux.getEsquerdo()) + 1;
+				aux = aux.getDireito();
+			}
+		}
+
+		return quantidade;
+	}
+
+	/**
+	 * Mtodo que retorna o tamanho da subrvore de um n.
+	 *
+	 * @param no N em foco.
+	 *
+	 * @return Tamanho da subrvore, ou zero, caso o n seja nulo.
+	 */
+	private int tamanho(NoTriplo<G> no) {
+
+		if (no == null) {
+
+			return 0;
+		}
+
+		return ((NoEstatistico<G>) no).getTamanho();
+	}
+}
@@ -0,0 +1,303 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import br.edu.ifs.ed2.dados.no.NoMapa;
+import br.edu.ifs.ed2.dados.no.NoTriplo;
+
+/**
+ * Classe que implementa as operaes de um mapeamento ordenado, ou seja, uma
+ * rvore AVL cujos ns armazenam uma chave e o valor associado a ela. As chaves
+ * so nicas e o valor  mantido no prprio n, dispensando objetos
+ * intermedirios que combinem chave e valor.
+ *
+ * Os mtodos herdados operam sobre as chaves (e.g., iteradores, fluxos e
+ * remoo), enquanto os valores so acessados por meio dos mtodos
+ * {@link #obter(Comparable)} e {@link #inserir(Comparable, Object)}.
+ *
+ * @author Marlos Tacio Silva.
+ *
+ */
+public class ArvoreMapa<K extends Comparable<K>, V> extends ArvoreAVL<K> {
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe.
+	 */
+	public ArvoreMapa() {
+
+		super();
+	}
+
+	/*
+	 * Mtodos pblicos ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna o valor associado a uma chave.
+	 *
+	 * @param chave Chave em foco.
+	 *
+	 * @return Valor associado  chave, ou nulo, caso a chave no exista.
+	 */
+	public V obter(K chave) {
+
+		return this.valor(this.buscar(chave));
+	}
+
+	/**
+	 * Mtodo que associa um valor a uma chave. Caso a chave j exista, o seu valor
+	 *  substitudo.
+	 *
+	 * @param chave Chave em foco.
+	 *
+	 * @param valor Valor a ser associado, possivelmente nulo.
+	 *
+	 * @return Valor anteriormente associado  chave, ou nulo, caso a chave no
+	 *         existisse.
+	 *
+	 * @throws IllegalArgumentException Caso a chave seja nula.
+	 */
+	public V inserir(K chave, V valor) {
+
+		if (chave == null) {
+
+			throw new IllegalArgumentException("A chave no pode ser nula.");
+		}
+
+		NoTriplo<K> no = this.buscar(chave);
+
+		/*
+		 * Insero de um novo n, caso a chave no exista.
+		 */
+		if (no == null) {
+
+			no = this.inserirNo(chave);
+		}
+
+		NoMapa<K, V> mapa = this.mapa(no);
+		V anterior = mapa.getValor();
+
+		mapa.setValor(valor);
+
+		return anterior;
+	}
+
+	/**
+	 * Mtodo para a insero de uma chave, associada ao valor nulo. Como as chaves
+	 * so nicas, a insero de uma chave existente  mal sucedida.
+	 */
+	@Override
+	public boolean inserir(K chave) {
+
+		if (this.buscar(chave) != null) {
+
+			return false;
+		}
+
+		return super.inserir(chave);
+	}
+
+	/**
+	 * Mtodo que remove uma chave, retornando o valor que estava associado a ela.
+	 *
+	 * @param chave Chave a ser removida.
+	 *
+	 * @return Valor associado  chave removida, ou nulo, caso a chave no exista.
+	 */
+	public V retirar(K chave) {
+
+		NoTriplo<K> no = this.buscar(chave);
+
+		if (no == null) {
+
+			return null;
+		}
+
+		V valor = this.valor(no);
+
+		this.remover(chave);
+
+		return valor;
+	}
+
+	/**
+	 * Mtodo que retorna a maior chave menor do que ou igual a uma determinada
+	 * chave, existente ou no no mapeamento, em uma nica descida a partir da raiz.
+	 *
+	 * @param chave Chave em foco.
+	 *
+	 * @return Chave encontrada, ou nulo, caso no exista.
+	 */
+	public K pisoChave(K chave) {
+
+		return this.chave(this.piso(chave));
+	}
+
+	/**
+	 * Mtodo que retorna a menor chave maior do que ou igual a uma determinada
+	 * chave, existente ou no no mapeamento, em uma nica descida a partir da raiz.
+	 *
+	 * @param chave Chave em foco.
+	 *
+	 * @return Chave encontrada, ou nulo, caso no exista.
+	 */
+	public K tetoChave(K chave) {
+
+		return this.chave(this.teto(chave));
+	}
+
+	/**
+	 * Mtodo que insere um conjunto de associaes em ordem crescente de chave. As
+	 * associaes so intercaladas com as existentes em um nico percurso de ambas
+	 * as sequncias, e a rvore  reconstruda perfeitamente balanceada, em tempo
+	 * linear. Em caso de chaves repetidas, prevalece o ltimo valor.
+	 *
+	 * @param ordenados Associaes em ordem crescente de chave (e.g., o conjunto
+	 *                  de entradas de um {@link java.util.TreeMap}).
+	 *
+	 * @throws IllegalArgumentException Caso as chaves no estejam ordenadas ou
+	 *                                  alguma delas seja nula.
+	 */
+	public void inserirTodos(Iterable<? extends Map.Entry<? extends K, ? extends V>> ordenados) {
+
+		List<K> chaves = new ArrayList<>();
+		List<V> valores = new ArrayList<>();
+		NoTriplo<K> atual = this.minimo();
+		K anterior = null;
+
+		/*
+		 * Intercalao das associaes existentes com as novas, em ordem crescente de
+		 * chave.
+		 */
+		for (Map.Entry<? extends K, ? extends V> entrada : ordenados) {
+
+			K chave = entrada.getKey();
+
+			if (chave == null) {
+
+				throw new IllegalArgumentException("As chaves no podem ser nulas.");
+			}
+
+			if (anterior != null && chave.compareTo(anterior) < 0) {
+
+				throw new IllegalArgumentException("As chaves devem estar em ordem crescente.");
+			}
+
+			/*
+			 * Cpia das associaes existentes com chaves menores do que a nova, sendo
+			 * descartada a associao existente com a mesma chave.
+			 */
+			while (atual != null && atual.getConteudo().compareTo(chave) < 0) {
+
+				chaves.add(atual.getConteudo());
+				valores.add(this.valor(atual));
+				atual = this.proximo(atual);
+			}
+
+			if (atual != null && atual.getConteudo().compareTo(chave) == 0) {
+
+				atual = this.proximo(atual);
+			}
+
+			/*
+			 * Substituio do valor de uma chave repetida, ou incluso da nova associao.
+			 */
+			if (anterior != null && chave.compareTo(anterior) == 0) {
+
+				valores.set(valores.size() - 1, entrada.getValue());
+			}
+
+			else {
+
+				chaves.add(chave);
+				valores.add(entrada.getValue());
+			}
+
+			anterior = chave;
+		}
+
+		/*
+		 * Cpia das associaes existentes restantes.
+		 */
+		for (; atual != null; atual = this.proximo(atual)) {
+
+			chaves.add(atual.getConteudo());
+			valores.add(this.valor(atual));
+		}
+
+		/*
+		 * Reconstruo da rvore e atribuio dos valores, em ordem crescente.
+		 */
+		this.carregar(chaves, false);
+
+		int i = 0;
+
+		for (NoTriplo<K> no = this.minimo(); no != null; no = this.proximo(no)) {
+
+			this.mapa(no).setValor(valores.get(i++));
+		}
+	}
+
+	/*
+	 * Mtodos protegidos ----------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que constri um n capaz de armazenar o valor associado  chave.
+	 */
+	@Override
+	protected NoTriplo<K> criarNo(K chave) {
+
+		return new NoMapa<>(chave);
+	}
+
+	/*
+	 * Mtodos privados ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que converte um n da rvore em um n de mapeamento.
+	 *
+	 * @param no N em foco.
+	 *
+	 * @return N de mapeamento.
+	 */
+	@SuppressWarnings("unchecked")
+	private NoMapa<K, V> mapa(NoTriplo<K> no) {
+
+		return (NoMapa<K, V>) no;
+	}
+
+	/**
+	 * Mtodo que retorna o valor armazenado em um n.
+	 *
+	 * @param no N em foco, possivelmente nulo.
+	 *
+	 * @return Valor do n, ou nulo, caso o n seja nulo.
+	 */
+	private V valor(NoTriplo<K> no) {
+
+		return no == null ? null : this.mapa(no).getValor();
+	}
+
+	/**
+	 * Mtodo que retorna a chave armazenada em um n.
+	 *
+	 * @param no N em foco, possivelmente nulo.
+	 *
+	 * @return Chave do n, ou nulo, caso o n seja nulo.
+	 */
+	private K chave(NoTriplo<K> no) {
+
+		return no == null ? null : no.getConteudo();
+	}
+}
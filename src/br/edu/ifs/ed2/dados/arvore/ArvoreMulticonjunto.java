@@ -0,0 +1,200 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import br.edu.ifs.ed2.dados.no.NoContado;
+import br.edu.ifs.ed2.dados.no.NoTriplo;
+
+/**
+ * Classe que implementa as operaes de um multiconjunto ordenado, ou seja,
+ * uma rvore AVL em que cada n armazena a quantidade de ocorrncias de seu
+ * contedo. Elementos repetidos no geram novos ns, de modo que N cpias de um
+ * mesmo elemento ocupam um nico n e a altura da rvore depende apenas da
+ * quantidade de elementos distintos.
+ *
+ * Os mtodos herdados que percorrem a rvore (e.g., iteradores, fluxos e
+ * {@link #tamanho()}) consideram cada elemento distinto uma nica vez. A
+ * quantidade de ocorrncias  obtida por meio dos mtodos {@link #contar}
+ * e {@link #totalOcorrencias()}.
+ *
+ * @author Marlos Tacio Silva.
+ *
+ */
+public class ArvoreMulticonjunto<G extends Comparable<G>> extends ArvoreAVL<G> {
+
+	/*
+	 * Atributos -------------------------------------------------------------------
+	 */
+
+	/**
+	 * Atributo que armazena a quantidade total de ocorrncias dos elementos.
+	 */
+	private int ocorrencias;
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe.
+	 */
+	public ArvoreMulticonjunto() {
+
+		super();
+	}
+
+	/*
+	 * Mtodos pblicos ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo para a insero de uma ocorrncia de um elemento no multiconjunto.
+	 * Caso o elemento j exista, apenas a quantidade de ocorrncias de seu n 
+	 * incrementada.
+	 */
+	@Override
+	public boolean inserir(G conteudo) {
+
+		NoTriplo<G> no = this.buscar(conteudo);
+
+		/*
+		 * Insero de um novo n, caso o elemento no exista.
+		 */
+		if (no == null) {
+
+			if (!super.inserir(conteudo)) {
+
+				return false;
+			}
+		}
+
+		/*
+		 * Caso contrrio, incremento da quantidade de ocorrncias do n existente.
+		 */
+		else {
+
+			NoContado<G> contado = (NoContado<G>) no;
+
+			contado.setOcorrencias(contado.getOcorrencias() + 1);
+			this.registrarModificacao(0);
+		}
+
+		++this.ocorrencias;
+
+		return true;
+	}
+
+	/**
+	 * Mtodo para a remoo de uma nica ocorrncia de um elemento do
+	 * multiconjunto. O n do elemento  removido da rvore apenas quando a sua
+	 * ltima ocorrncia for removida.
+	 */
+	@Override
+	public boolean remover(G conteudo) {
+
+		NoTriplo<G> no = this.buscar(conteudo);
+
+		/*
+		 * Indicao de remoo mal sucedida, caso o elemento no exista.
+		 */
+		if (no == null) {
+
+			return false;
+		}
+
+		NoContado<G> contado = (NoContado<G>) no;
+
+		/*
+		 * Remoo do n, caso seja a ltima ocorrncia, ou decremento da quantidade
+		 * de ocorrncias, caso contrrio.
+		 */
+		if (contado.getOcorrencias() == 1) {
+
+			super.remover(conteudo);
+		}
+
+		else {
+
+			contado.setOcorrencias(contado.getOcorrencias() - 1);
+			this.registrarModificacao(0);
+		}
+
+		--this.ocorrencias;
+
+		return true;
+	}
+
+	/**
+	 * Mtodo para a remoo de todas as ocorrncias de um elemento do
+	 * multiconjunto.
+	 *
+	 * @param conteudo Contedo a ser removido.
+	 *
+	 * @return Quantidade de ocorrncias removidas, ou zero, caso o elemento no
+	 *         exista.
+	 */
+	public int removerTodos(G conteudo) {
+
+		int quantidade = this.contar(conteudo);
+
+		if (quantidade > 0) {
+
+			super.remover(conteudo);
+			this.ocorrencias -= quantidade;
+		}
+
+		return quantidade;
+	}
+
+	/**
+	 * Mtodo que retorna a quantidade de ocorrncias de um elemento no
+	 * multiconjunto.
+	 *
+	 * @param conteudo Contedo em foco.
+	 *
+	 * @return Quantidade de ocorrncias, ou zero, caso o elemento no exista.
+	 */
+	public int contar(G conteudo) {
+
+		NoTriplo<G> no = this.buscar(conteudo);
+
+		return no == null ? 0 : ((NoContado<G>) no).getOcorrencias();
+	}
+
+	/**
+	 * Mtodo que retorna a quantidade total de ocorrncias dos elementos do
+	 * multiconjunto, considerando as repeties.
+	 *
+	 * @return Quantidade total de ocorrncias.
+	 */
+	public int totalOcorrencias() {
+
+		return this.ocorrencias;
+	}
+
+	/**
+	 * Mtodo que efetua a limpeza do multiconjunto.
+	 */
+	@Override
+	public void limpar() {
+
+		super.limpar();
+
+		this.ocorrencias = 0;
+	}
+
+	/*
+	 * Mtodos protegidos ----------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que constri um n capaz de armazenar a quantidade de ocorrncias de
+	 * seu contedo.
+	 */
+	@Override
+	protected NoTriplo<G> criarNo(G conteudo) {
+
+		return new NoContado<>(conteudo);
+	}
+}
@@ -0,0 +1,561 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import br.edu.ifs.ed2.dados.no.NoPersistente;
+
+/**
+ * Classe que implementa uma rvore AVL persistente e imutvel. As operaes de
+ * insero e remoo no alteram a rvore: retornam uma nova verso que copia
+ * apenas os ns do caminho entre a raiz e o ponto de alterao, O(log n), e
+ * compartilha todas as demais subrvores com a verso original. Dessa forma,
+ * cada verso  um instantneo (snapshot) de custo nulo, que pode ser lido por
+ * diversas threads sem sincronizao enquanto novas verses so produzidas.
+ *
+ * @author Marlos Tacio Silva.
+ *
+ */
+public final class ArvorePersistente<G extends Comparable<G>> implements Iterable<G> {
+
+	/*
+	 * Atributos -------------------------------------------------------------------
+	 */
+
+	/**
+	 * Atributo que contm uma referncia para o n raiz da verso.
+	 */
+	private final NoPersistente<G> raiz;
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe, que cria uma rvore vazia.
+	 */
+	public ArvorePersistente() {
+
+		this(null);
+	}
+
+	/**
+	 * Construtor da classe.
+	 *
+	 * @param raiz N raiz da verso.
+	 */
+	private ArvorePersistente(NoPersistente<G> raiz) {
+
+		this.raiz = raiz;
+	}
+
+	/*
+	 * Mtodos pblicos ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo para a insero de um elemento. Assim como na rvore binria de
+	 * busca, os contedos repetidos so inseridos  direita.
+	 *
+	 * @param conteudo Contedo a ser inserido.
+	 *
+	 * @return Nova verso da rvore contendo o contedo, ou a prpria verso, caso
+	 *         o contedo seja nulo.
+	 */
+	public ArvorePersistente<G> inserir(G conteudo) {
+
+		if (conteudo == null) {
+
+			return this;
+		}
+
+		return new ArvorePersistente<G>(this.inserir(this.raiz, conteudo));
+	}
+
+	/**
+	 * Mtodo para a remoo de uma ocorrncia de um elemento.
+	 *
+	 * @param conteudo Contedo a ser removido.
+	 *
+	 * @return Nova verso da rvore sem o contedo, ou a prpria verso, caso o
+	 *         contedo seja nulo ou no esteja na rvore.
+	 */
+	public ArvorePersistente<G> remover(G conteudo) {
+
+		if (conteudo == null) {
+
+			return this;
+		}
+
+		NoPersistente<G> raiz = this.remover(this.raiz, conteudo);
+
+		/*
+		 * A remoo mal sucedida preserva a raiz original.
+		 */
+		return raiz == this.raiz ? this : new ArvorePersistente<G>(raiz);
+	}
+
+	/**
+	 * Mtodo para a busca de um elemento.
+	 *
+	 * @param conteudo Contedo a ser buscado.
+	 *
+	 * @return N encontrado, para busca bem sucedida, ou nulo, caso contrrio.
+	 */
+	public NoPersistente<G> buscar(G conteudo) {
+
+		if (conteudo == null) {
+
+			return null;
+		}
+
+		NoPersistente<G> aux = this.raiz;
+
+		while (aux != null) {
+
+			int comparacao = conteudo.compareTo(aux.getConteudo());
+
+			if (comparacao == 0) {
+
+				return aux;
+			}
+
+			aux = comparacao > 0 ? aux.getDireito() : aux.getEsquerdo();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Mtodo que retorna o n com mximo valor na rvore.
+	 *
+	 * @return N mximo, ou nulo, caso a rvore esteja vazia.
+	 */
+	public NoPersistente<G> maximo() {
+
+		NoPersistente<G> aux = this.raiz;
+
+		while (aux != null && aux.getDireito() != null) {
+
+			aux = aux.getDireito();
+		}
+
+		return aux;
+	}
+
+	/**
+	 * Mtodo que retorna o n com mnimo valor na rvore.
+	 *
+	 * @return N mnimo, ou nulo, caso a rvore esteja vazia.
+	 */
+	public NoPersistente<G> minimo() {
+
+		NoPersistente<G> aux = this.raiz;
+
+		while (aux != null && aux.getEsquerdo() != null) {
+
+			aux = aux.getEsquerdo();
+		}
+
+		return aux;
+	}
+
+	/**
+	 * Mtodo que retorna o sucessor de um determinado contedo na rvore, ou seja,
+	 * o n com o menor contedo maior do que ele.
+	 *
+	 * @param conteudo Contedo em foco.
+	 *
+	 * @return O n sucessor, caso o contedo esteja na rvore e possua sucessor,
+	 *         ou nulo, caso contrrio.
+	 */
+	public NoPersistente<G> sucessor(G conteudo) {
+
+		if (this.buscar(conteudo) == null) {
+
+			return null;
+		}
+
+		NoPersistente<G> sucessor = null;
+
+		/*
+		 * Descida a partir da raiz, guardando o ltimo n com contedo maior.
+		 */
+		for (NoPersistente<G> aux = this.raiz; aux != null;) {
+
+			if (aux.getConteudo().compareTo(conteudo) > 0) {
+
+				sucessor = aux;
+				aux = aux.getEsquerdo();
+			}
+
+			else {
+
+				aux = aux.getDireito();
+			}
+		}
+
+		return sucessor;
+	}
+
+	/**
+	 * Mtodo que retorna o predecessor de um determinado contedo na rvore, ou
+	 * seja, o n com o maior contedo menor do que ele.
+	 *
+	 * @param conteudo Contedo em foco.
+	 *
+	 * @return O n predecessor, caso o contedo esteja na rvore e possua
+	 *         predecessor, ou nulo, caso contrrio.
+	 */
+	public NoPersistente<G> predecessor(G conteudo) {
+
+		if (this.buscar(conteudo) == null) {
+
+			return null;
+		}
+
+		NoPersistente<G> predecessor = null;
+
+		/*
+		 * Descida a partir da raiz, guardando o ltimo n com contedo menor.
+		 */
+		for (NoPersistente<G> aux = this.raiz; aux != null;) {
+
+			if (aux.getConteudo().compareTo(conteudo) < 0) {
+
+				predecessor = aux;
+				aux = aux.getDireito();
+			}
+
+			else {
+
+				aux = aux.getEsquerdo();
+			}
+		}
+
+		return predecessor;
+	}
+
+	/**
+	 * Mtodo que retorna a quantidade de elementos da verso.
+	 *
+	 * @return Quantidade de elementos.
+	 */
+	public int tamanho() {
+
+		return NoPersistente.tamanho(this.raiz);
+	}
+
+	/**
+	 * Mtodo que retorna a altura da verso.
+	 *
+	 * @return Altura da rvore, ou zero, caso a rvore esteja vazia.
+	 */
+	public int altura() {
+
+		return NoPersistente.altura(this.raiz);
+	}
+
+	/*
+	 * Gets e Sets -----------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna uma referncia para a raz da verso.
+	 *
+	 * @return N raiz.
+	 */
+	public NoPersistente<G> getRaiz() {
+
+		return this.raiz;
+	}
+
+	/*
+	 * Mtodos Sobrescritos --------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna um iterador sobre os elementos da verso em ordem
+	 * crescente. Como a verso  imutvel, o iterador nunca  invalidado.
+	 */
+	@Override
+	public Iterator<G> iterator() {
+
+		return new Iterator<G>() {
+
+			/*
+			 * Pilha com os ns cujo contedo e subrvore direita ainda sero percorridos.
+			 */
+			private final Deque<NoPersistente<G>> pilha = this.empilhar(new ArrayDeque<>(), ArvorePersistente.this.raiz);
+
+			@Override
+			public boolean hasNext() {
+
+				return !this.pilha.isEmpty();
+			}
+
+			@Override
+			public G next() {
+
+				if (this.pilha.isEmpty()) {
+
+					throw new NoSuchElementException();
+				}
+
+				NoPersistente<G> no = this.pilha.pop();
+				this.empilhar(this.pilha, no.getDireito());
+
+				return no.getConteudo();
+			}
+
+			/*
+			 * Empilha o n e todos os seus descendentes mais  esquerda.
+			 */
+			private Deque<NoPersistente<G>> empilhar(Deque<NoPersistente<G>> pilha, NoPersistente<G> no) {
+
+				for (; no != null; no = no.getEsquerdo()) {
+
+					pilha.push(no);
+				}
+
+				return pilha;
+			}
+		};
+	}
+
+	/**
+	 * Mtodo que retorna uma representao da verso no formato texto (string),
+	 * no mesmo formato da rvore binria de busca.
+	 */
+	@Override
+	public String toString() {
+
+		StringBuilder string = new StringBuilder();
+
+		if (this.raiz != null) {
+
+			this.escrever(this.raiz, string);
+		}
+
+		return string.toString();
+	}
+
+	/*
+	 * Mtodos privados ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que insere um contedo em uma subrvore, copiando os ns do caminho.
+	 *
+	 * @param no       Raiz da subrvore.
+	 *
+	 * @param conteudo Contedo a ser inserido.
+	 *
+	 * @return Raiz da nova subrvore.
+	 */
+	private NoPersistente<G> inserir(NoPersistente<G> no, G conteudo) {
+
+		if (no == null) {
+
+			return new NoPersistente<G>(conteudo, null, null);
+		}
+
+		if (conteudo.compareTo(no.getConteudo()) >= 0) {
+
+			return this.balancear(no.getConteudo(), no.getEsquerdo(), this.inserir(no.getDireito(), conteudo));
+		}
+
+		return this.balancear(no.getConteudo(), this.inserir(no.getEsquerdo(), conteudo), no.getDireito());
+	}
+
+	/**
+	 * Mtodo que remove um contedo de uma subrvore, copiando os ns do caminho.
+	 *
+	 * @param no       Raiz da subrvore.
+	 *
+	 * @param conteudo Contedo a ser removido.
+	 *
+	 * @return Raiz da nova subrvore, ou a prpria raiz, caso o contedo no
+	 *         esteja na subrvore.
+	 */
+	private NoPersistente<G> remover(NoPersistente<G> no, G conteudo) {
+
+		if (no == null) {
+
+			return null;
+		}
+
+		int comparacao = conteudo.compareTo(no.getConteudo());
+
+		/*
+		 * Remoo na subrvore correspondente, preservando o n caso a subrvore no
+		 * tenha sido alterada.
+		 */
+		if (comparacao < 0) {
+
+			NoPersistente<G> esquerdo = this.remover(no.getEsquerdo(), conteudo);
+
+			return esquerdo == no.getEsquerdo() ? no : this.balancear(no.getConteudo(), esquerdo, no.getDireito());
+		}
+
+		if (comparacao > 0) {
+
+			NoPersistente<G> direito = this.remover(no.getDireito(), conteudo);
+
+			return direito == no.getDireito() ? no : this.balancear(no.getConteudo(), no.getEsquerdo(), direito);
+		}
+
+		/*
+		 * Se o n a ser removido no possuir um dos filhos, ento dever ser
+		 * substitudo pelo outro filho. Caso contrrio, o sucessor assumir a sua
+		 * posio.
+		 */
+		if (no.getEsquerdo() == null) {
+
+			return no.getDireito();
+		}
+
+		if (no.getDireito() == null) {
+
+			return no.getEsquerdo();
+		}
+
+		NoPersistente<G> sucessor = no.getDireito();
+
+		while (sucessor.getEsquerdo() != null) {
+
+			sucessor = sucessor.getEsquerdo();
+		}
+
+		return this.balancear(sucessor.getConteudo(), no.getEsquerdo(), this.removerMinimo(no.getDireito()));
+	}
+
+	/**
+	 * Mtodo que remove o n mnimo de uma subrvore, copiando os ns do caminho.
+	 *
+	 * @param no Raiz da subrvore, no nula.
+	 *
+	 * @return Raiz da nova subrvore.
+	 */
+	private NoPersistente<G> removerMinimo(NoPersistente<G> no) {
+
+		if (no.getEsquerdo() == null) {
+
+			return no.getDireito();
+		}
+
+		return this.balancear(no.getConteudo(), this.removerMinimo(no.getEsquerdo()), no.getDireito());
+	}
+
+	/**
+	 * Mtodo que constri um n a partir de um contedo e de duas subrvores cujas
+	 * alturas diferem em no mximo dois, aplicando as rotaes necessrias para
+	 * restabelecer o balanceamento AVL. As rotaes tambm so efetuadas por
+	 * cpia.
+	 *
+	 * @param conteudo Contedo do n.
+	 *
+	 * @param esquerdo Subrvore esquerda.
+	 *
+	 * @param direito  Subrvore direita.
+	 *
+	 * @return Raiz da subrvore balanceada.
+	 */
+	private NoPersistente<G> balancear(G conteudo, NoPersistente<G> esquerdo, NoPersistente<G> direito) {
+
+		int fator = NoPersistente.altura(esquerdo) - NoPersistente.altura(direito);
+
+		/*
+		 * Se a subrvore esquerda for mais alta, ento aplicar uma rotao  direita,
+		 * precedida por uma rotao  esquerda no filho esquerdo, caso este esteja
+		 * pendendo para a direita (rotao dupla).
+		 */
+		if (fator > 1) {
+
+			NoPersistente<G> e = esquerdo;
+
+			if (NoPersistente.altura(e.getEsquerdo()) < NoPersistente.altura(e.getDireito())) {
+
+				NoPersistente<G> m = e.getDireito();
+
+				return new NoPersistente<G>(m.getConteudo(),
+						new NoPersistente<G>(e.getConteudo(), e.getEsquerdo(), m.getEsquerdo()),
+						new NoPersistente<G>(conteudo, m.getDireito(), direito));
+			}
+
+			return new NoPersistente<G>(e.getConteudo(), e.getEsquerdo(),
+					new NoPersistente<G>(conteudo, e.getDireito(), direito));
+		}
+
+		/*
+		 * Se a subrvore direita for mais alta, ento aplicar uma rotao  esquerda,
+		 * precedida por uma rotao  direita no filho direito, caso este esteja
+		 * pendendo para a esquerda (rotao dupla).
+		 */
+		if (fator < -1) {
+
+			NoPersistente<G> d = direito;
+
+			if (NoPersistente.altura(d.getDireito()) < NoPersistente.altura(d.getEsquerdo())) {
+
+				NoPersistente<G> m = d.getEsquerdo();
+
+				return new NoPersistente<G>(m.getConteudo(),
+						new NoPersistente<G>(conteudo, esquerdo, m.getEsquerdo()),
+						new NoPersistente<G>(d.getConteudo(), m.getDireito(), d.getDireito()));
+			}
+
+			return new NoPersistente<G>(d.getConteudo(), new NoPersistente<G>(conteudo, esquerdo, d.getEsquerdo()),
+					d.getDireito());
+		}
+
+		return new NoPersistente<G>(conteudo, esquerdo, direito);
+	}
+
+	/**
+	 * Mtodo que escreve a representao de uma subrvore em pr-ordem. Como a
+	 * rvore  balanceada, a profundidade da recurso  O(log n).
+	 *
+	 * @param no     Raiz da subrvore, no nula.
+	 *
+	 * @param string Destino do texto.
+	 */
+	private void escrever(NoPersistente<G> no, StringBuilder string) {
+
+		string.append(no.getConteudo());
+
+		if (no.getEsquerdo() != null || no.getDireito() != null) {
+
+			string.append("( ");
+
+			if (no.getEsquerdo() == null) {
+
+				string.append("-");
+			}
+
+			else {
+
+				this.escrever(no.getEsquerdo(), string);
+			}
+
+			string.append(" , ");
+
+			if (no.getDireito() == null) {
+
+				string.append("-");
+			}
+
+			else {
+
+				this.escrever(no.getDireito(), string);
+			}
+
+			string.append(" )");
+		}
+	}
+}
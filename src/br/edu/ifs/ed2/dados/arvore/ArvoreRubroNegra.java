@@ -0,0 +1,391 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import java.util.Comparator;
+
+import br.edu.ifs.ed2.dados.no.NoRubroNegro;
+import br.edu.ifs.ed2.dados.no.NoTriplo;
+
+/**
+ * Classe que implementa as operaes de uma rvore rubro-negra, ou seja, uma
+ * rvore binria de busca cujos ns so coloridos de vermelho ou preto, de modo
+ * que nenhum n vermelho possua filho vermelho e todos os caminhos entre um n
+ * e as folhas possuam a mesma quantidade de ns pretos. O balanceamento  mais
+ * relaxado do que o da rvore AVL, sendo necessrias no mximo duas rotaes por
+ * insero e trs rotaes por remoo.
+ *
+ * @author Marlos Tacio Silva.
+ *
+ */
+public class ArvoreRubroNegra<G> extends ArvoreBinaria<G> {
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe.
+	 */
+	public ArvoreRubroNegra() {
+
+		super();
+	}
+
+	/**
+	 * Construtor da classe, com os elementos ordenados por um comparador.
+	 *
+	 * @param comparador Comparador dos elementos, ou nulo, para a ordem natural.
+	 */
+	public ArvoreRubroNegra(Comparator<? super G> comparador) {
+
+		super(null, comparador);
+	}
+
+	/*
+	 * Mtodos pblicos ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo para a remoo de um elemento na rvore rubro-negra. A remoo segue
+	 * a da rvore binria de busca, mas preserva a cor da posio ocupada pelo n
+	 * removido, de modo que apenas a remoo de um n preto exija correes.
+	 */
+	@Override
+	public boolean remover(G conteudo) {
+
+		/*
+		 * Efetua uma operao de busca a partir do contedo.
+		 */
+		NoTriplo<G> alvo = this.buscar(conteudo);
+
+		/*
+		 * Verificao do resultado da busca e, em caso de busca mal sucedida, indicao
+		 * de remoo mal sucedida.
+		 */
+		if (alvo == null) {
+
+			return false;
+		}
+
+		/*
+		 * Cor da posio efetivamente retirada da rvore, n que assume essa posio
+		 * (possivelmente nulo) e o pai desse n.
+		 */
+		boolean vermelho = this.ehVermelho(alvo);
+		NoTriplo<G> filho;
+		NoTriplo<G> pai;
+
+		/*
+		 * Se o n a ser removido no possuir um dos filhos, ento dever ser
+		 * substitudo pelo outro filho.
+		 */
+		if (alvo.getEsquerdo() == null) {
+
+			filho = alvo.getDireito();
+			pai = alvo.getPai();
+			this.substituir(alvo, filho);
+		}
+
+		else if (alvo.getDireito() == null) {
+
+			filho = alvo.getEsquerdo();
+			pai = alvo.getPai();
+			this.substituir(alvo, filho);
+		}
+
+		/*
+		 * Caso o n a ser removido possua ambos os filhos, ento o sucessor assumir
+		 * sua posio e sua cor, sendo a posio original do sucessor a efetivamente
+		 * retirada da rvore.
+		 */
+		else {
+
+			NoTriplo<G> substituto = alvo.getDireito();
+
+			while (substituto.getEsquerdo() != null) {
+
+				substituto = substituto.getEsquerdo();
+			}
+
+			vermelho = this.ehVermelho(substituto);
+			filho = substituto.getDireito();
+
+			if (substituto.getPai() == alvo) {
+
+				pai = substituto;
+			}
+
+			else {
+
+				pai = substituto.getPai();
+				this.substituir(substituto, filho);
+				substituto.setDireito(alvo.getDireito());
+			}
+
+			this.substituir(alvo, substituto);
+			substituto.setEsquerdo(alvo.getEsquerdo());
+			this.colorir(substituto, this.ehVermelho(alvo));
+		}
+
+		this.registrarModificacao(-1);
+
+		/*
+		 * A retirada de uma posio preta reduz a altura negra de um dos caminhos,
+		 * sendo necessria a correo da rvore.
+		 */
+		if (!vermelho) {
+
+			this.corrigirRemocao(filho, pai);
+		}
+
+		/*
+		 * Indicao de remoo bem sucedida.
+		 */
+		return true;
+	}
+
+	/*
+	 * Mtodos protegidos ----------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que constri um n capaz de armazenar a sua cor.
+	 */
+	@Override
+	protected NoTriplo<G> criarNo(G conteudo) {
+
+		return new NoRubroNegro<>(conteudo);
+	}
+
+	/**
+	 * Mtodo que restabelece as propriedades da rvore aps a insero de um n
+	 * vermelho, recolorindo os ns e aplicando no mximo duas rotaes.
+	 */
+	@Override
+	protected void aposInsercao(NoTriplo<G> no) {
+
+		/*
+		 * Enquanto o n em foco e o seu pai forem vermelhos, corrigir a violao.
+		 */
+		while (this.ehVermelho(no.getPai())) {
+
+			NoTriplo<G> pai = no.getPai();
+			NoTriplo<G> avo = pai.getPai();
+
+			if (pai == avo.getEsquerdo()) {
+
+				NoTriplo<G> tio = avo.getDireito();
+
+				/*
+				 * Se o tio for vermelho, ento recolorir e continuar a partir do av.
+				 */
+				if (this.ehVermelho(tio)) {
+
+					this.colorir(pai, false);
+					this.colorir(tio, false);
+					this.colorir(avo, true);
+					no = avo;
+					continue;
+				}
+
+				/*
+				 * Caso contrrio, alinhar o n ao pai e rotacionar o av.
+				 */
+				if (no == pai.getDireito()) {
+
+					no = pai;
+					pai = this.rotacionarEsquerda(pai);
+				}
+
+				this.colorir(pai, false);
+				this.colorir(avo, true);
+				this.rotacionarDireita(avo);
+			}
+
+			else {
+
+				NoTriplo<G> tio = avo.getEsquerdo();
+
+				/*
+				 * Se o tio for vermelho, ento recolorir e continuar a partir do av.
+				 */
+				if (this.ehVermelho(tio)) {
+
+					this.colorir(pai, false);
+					this.colorir(tio, false);
+					this.colorir(avo, true);
+					no = avo;
+					continue;
+				}
+
+				/*
+				 * Caso contrrio, alinhar o n ao pai e rotacionar o av.
+				 */
+				if (no == pai.getEsquerdo()) {
+
+					no = pai;
+					pai = this.rotacionarDireita(pai);
+				}
+
+				this.colorir(pai, false);
+				this.colorir(avo, true);
+				this.rotacionarEsquerda(avo);
+			}
+		}
+
+		/*
+		 * A raiz da rvore  sempre preta.
+		 */
+		this.colorir(this.getRaiz(), false);
+	}
+
+	/*
+	 * Mtodos privados ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que verifica se um n  vermelho. Os ns nulos so considerados
+	 * pretos.
+	 *
+	 * @param no N em foco.
+	 *
+	 * @return Verdadeiro, caso o n seja vermelho, ou falso, caso contrrio.
+	 */
+	private boolean ehVermelho(NoTriplo<G> no) {
+
+		return no != null && ((NoRubroNegro<G>) no).ehVermelho();
+	}
+
+	/**
+	 * Mtodo que altera a cor de um n no nulo.
+	 *
+	 * @param no       N em foco.
+	 *
+	 * @param vermelho Verdadeiro, para a cor vermelha, ou falso, para a cor preta.
+	 */
+	private void colorir(NoTriplo<G> no, boolean vermelho) {
+
+		if (no != null) {
+
+			((NoRubroNegro<G>) no).setVermelho(vermelho);
+		}
+	}
+
+	/**
+	 * Mtodo que restabelece as propriedades da rvore aps a retirada de uma
+	 * posio preta, aplicando no mximo trs rotaes.
+	 *
+	 * @param no  N que assumiu a posio retirada, possivelmente nulo.
+	 *
+	 * @param pai Pai da posio retirada.
+	 */
+	private void corrigirRemocao(NoTriplo<G> no, NoTriplo<G> pai) {
+
+		/*
+		 * Enquanto o n em foco possuir um preto excedente, corrigir a violao.
+		 */
+		while (pai != null && !this.ehVermelho(no)) {
+
+			if (no == pai.getEsquerdo()) {
+
+				NoTriplo<G> irmao = pai.getDireito();
+
+				/*
+				 * Se o irmo for vermelho, ento rotacionar o pai para obter um irmo preto.
+				 */
+				if (this.ehVermelho(irmao)) {
+
+					this.colorir(irmao, false);
+					this.colorir(pai, true);
+					this.rotacionarEsquerda(pai);
+					irmao = pai.getDireito();
+				}
+
+				/*
+				 * Se ambos os filhos do irmo forem pretos, ento recolorir o irmo e
+				 * continuar a partir do pai.
+				 */
+				if (!this.ehVermelho(irmao.getEsquerdo()) && !this.ehVermelho(irmao.getDireito())) {
+
+					this.colorir(irmao, true);
+					no = pai;
+					pai = no.getPai();
+					continue;
+				}
+
+				/*
+				 * Caso contrrio, garantir que o filho direito do irmo seja vermelho e
+				 * rotacionar o pai, encerrando a correo.
+				 */
+				if (!this.ehVermelho(irmao.getDireito())) {
+
+					this.colorir(irmao.getEsquerdo(), false);
+					this.colorir(irmao, true);
+					irmao = this.rotacionarDireita(irmao);
+				}
+
+				this.colorir(irmao, this.ehVermelho(pai));
+				this.colorir(pai, false);
+				this.colorir(irmao.getDireito(), false);
+				this.rotacionarEsquerda(pai);
+			}
+
+			else {
+
+				NoTriplo<G> irmao = pai.getEsquerdo();
+
+				/*
+				 * Se o irmo for vermelho, ento rotacionar o pai para obter um irmo preto.
+				 */
+				if (this.ehVermelho(irmao)) {
+
+					this.colorir(irmao, false);
+					this.colorir(pai, true);
+					this.rotacionarDireita(pai);
+					irmao = pai.getEsquerdo();
+				}
+
+				/*
+				 * Se ambos os filhos do irmo forem pretos, ento recolorir o irmo e
+				 * continuar a partir do pai.
+				 */
+				if (!this.ehVermelho(irmao.getEsquerdo()) && !this.ehVermelho(irmao.getDireito())) {
+
+					this.colorir(irmao, true);
+					no = pai;
+					pai = no.getPai();
+					continue;
+				}
+
+				/*
+				 * Caso contrrio, garantir que o filho esquerdo do irmo seja vermelho e
+				 * rotacionar o pai, encerrando a correo.
+				 */
+				if (!this.ehVermelho(irmao.getEsquerdo())) {
+
+					this.colorir(irmao.getDireito(), false);
+					this.colorir(irmao, true);
+					irmao = this.rotacionarEsquerda(irmao);
+				}
+
+				this.colorir(irmao, this.ehVermelho(pai));
+				this.colorir(pai, false);
+				this.colorir(irmao.getEsquerdo(), false);
+				this.rotacionarDireita(pai);
+			}
+
+			/*
+			 * Aps a rotao final a rvore est corrigida.
+			 */
+			no = this.getRaiz();
+			pai = null;
+		}
+
+		/*
+		 * O n que absorveu o preto excedente torna-se preto.
+		 */
+		this.colorir(no, false);
+	}
+}
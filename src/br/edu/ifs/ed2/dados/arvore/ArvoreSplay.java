@@ -0,0 +1,188 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import br.edu.ifs.ed2.dados.no.NoTriplo;
+
+/**
+ * Classe que implementa as operaes de uma rvore splay, ou seja, uma rvore
+ * binria de busca autoajustvel que, aps cada acesso, move o n acessado at
+ * a raiz por meio de rotaes (afunilamento). Os elementos acessados com maior
+ * frequncia permanecem prximos  raiz, e o custo amortizado de cada operao
+ *  O(log n), sem a necessidade de armazenar informaes de balanceamento nos
+ * ns.
+ *
+ * Como a busca altera a estrutura da rvore, os iteradores existentes so
+ * invalidados tambm pelas buscas.
+ *
+ * @author Marlos Tacio Silva.
+ *
+ */
+public class ArvoreSplay<G extends Comparable<G>> extends ArvoreBinaria<G> {
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe.
+	 */
+	public ArvoreSplay() {
+
+		super();
+	}
+
+	/*
+	 * Mtodos pblicos ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo para a busca de um elemento na rvore splay. O n encontrado, ou, em
+	 * caso de busca mal sucedida, o ltimo n visitado,  movido at a raiz.
+	 */
+	@Override
+	public NoTriplo<G> buscar(G conteudo) {
+
+		/*
+		 * Verificao e indicao de busca mal sucedida, caso o contedo seja nulo.
+		 */
+		if (conteudo == null) {
+
+			return null;
+		}
+
+		NoTriplo<G> aux = this.getRaiz();
+		NoTriplo<G> ultimo = null;
+
+		/*
+		 * Percorre a rvore enquanto no encontrar o contedo ou o n nulo, guardando
+		 * o ltimo n visitado.
+		 */
+		while (aux != null) {
+
+			int comparacao = conteudo.compareTo(aux.getConteudo());
+
+			if (comparacao == 0) {
+
+				this.afunilar(aux);
+				return aux;
+			}
+
+			ultimo = aux;
+			aux = comparacao > 0 ? aux.getDireito() : aux.getEsquerdo();
+		}
+
+		/*
+		 * Afunilamento do ltimo n visitado e indicao de busca mal sucedida.
+		 */
+		this.afunilar(ultimo);
+
+		return null;
+	}
+
+	/*
+	 * Mtodos protegidos ----------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que move o n inserido at a raiz.
+	 */
+	@Override
+	protected void aposInsercao(NoTriplo<G> no) {
+
+		this.afunilar(no);
+	}
+
+	/**
+	 * Mtodo que move o pai do n removido at a raiz.
+	 */
+	@Override
+	protected void aposRemocao(NoTriplo<G> no) {
+
+		this.afunilar(no);
+	}
+
+	/*
+	 * Mtodos privados ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que move um n at a raiz por meio de rotaes de baixo para cima.
+	 * Quando o n e o seu pai so filhos do mesmo lado (zig-zig), o av 
+	 * rotacionado antes do pai, o que reduz pela metade, aproximadamente, a
+	 * profundidade dos ns do caminho acessado.
+	 *
+	 * @param no N a ser movido, possivelmente nulo.
+	 */
+	private void afunilar(NoTriplo<G> no) {
+
+		if (no == null || no.getPai() == null) {
+
+			return;
+		}
+
+		/*
+		 * As rotaes alteram a estrutura da rvore.
+		 */
+		this.registrarModificacao(0);
+
+		while (no.getPai() != null) {
+
+			NoTriplo<G> pai = no.getPai();
+			NoTriplo<G> avo = pai.getPai();
+
+			boolean esquerdo = no == pai.getEsquerdo();
+
+			/*
+			 * Se o pai for a raiz, ento rotacionar o pai (zig).
+			 */
+			if (avo == null) {
+
+				this.rotacionar(pai, esquerdo);
+			}
+
+			/*
+			 * Se o n e o pai forem filhos do mesmo lado, ento rotacionar o av e, em
+			 * seguida, o pai (zig-zig).
+			 */
+			else if (esquerdo == (pai == avo.getEsquerdo())) {
+
+				this.rotacionar(avo, esquerdo);
+				this.rotacionar(pai, esquerdo);
+			}
+
+			/*
+			 * Caso contrrio, rotacionar o pai e, em seguida, o av (zig-zag).
+			 */
+			else {
+
+				this.rotacionar(pai, esquerdo);
+				this.rotacionar(avo, !esquerdo);
+			}
+		}
+	}
+
+	/**
+	 * Mtodo que rotaciona um n de modo que um de seus filhos assuma a sua
+	 * posio.
+	 *
+	 * @param no       N em foco.
+	 *
+	 * @param esquerdo Verdadeiro, para que o filho esquerdo assuma a posio
+	 *                 (rotao  direita), ou falso, para o filho direito
+	 *                 (rotao  esquerda).
+	 */
+	private void rotacionar(NoTriplo<G> no, boolean esquerdo) {
+
+		if (esquerdo) {
+
+			this.rotacionarDireita(no);
+		}
+
+		else {
+
+			this.rotacionarEsquerda(no);
+		}
+	}
+}
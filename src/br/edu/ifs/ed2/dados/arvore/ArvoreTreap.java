@@ -0,0 +1,431 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import java.util.Random;
+
+import br.edu.ifs.ed2.dados.no.NoTreap;
+import br.edu.ifs.ed2.dados.no.NoTriplo;
+
+/**
+ * Classe que implementa as operaes de uma treap, ou seja, uma rvore binria
+ * de busca cujos ns armazenam tambm uma prioridade aleatria, mantida em
+ * ordem de heap (cada n possui prioridade maior ou igual s de seus
+ * descendentes). A forma da rvore  a de uma rvore construda pela insero
+ * dos elementos em ordem aleatria, de modo que a profundidade esperada 
+ * O(log n), independentemente da ordem das inseres.
+ *
+ * Alm das operaes da rvore binria de busca, a treap oferece a diviso da
+ * rvore a partir de uma chave e a unio de duas rvores, ambas percorrendo
+ * apenas um caminho a partir da raiz, com custo esperado O(log n).
+ *
+ * @author Marlos Tacio Silva.
+ *
+ */
+public class ArvoreTreap<G extends Comparable<G>> extends ArvoreBinaria<G> {
+
+	/*
+	 * Atributos -------------------------------------------------------------------
+	 */
+
+	/**
+	 * Atributo que gera as prioridades dos ns.
+	 */
+	private final Random aleatorio;
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe.
+	 */
+	public ArvoreTreap() {
+
+		this(new Random().nextLong());
+	}
+
+	/**
+	 * Construtor da classe, com uma semente para a gerao das prioridades, o que
+	 * torna a forma da rvore reproduzvel.
+	 *
+	 * @param semente Semente do gerador de prioridades.
+	 */
+	public ArvoreTreap(long semente) {
+
+		super();
+
+		this.aleatorio = new Random(semente);
+	}
+
+	/*
+	 * Mtodos pblicos ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo para a remoo de um elemento na treap. O n a ser removido desce por
+	 * meio de rotaes, sempre em direo ao filho de maior prioridade, at possuir
+	 * no mximo um filho, sendo ento substitudo por esse filho.
+	 */
+	@Override
+	public boolean remover(G conteudo) {
+
+		/*
+		 * Efetua uma operao de busca a partir do contedo.
+		 */
+		NoTriplo<G> alvo = this.buscar(conteudo);
+
+		/*
+		 * Verificao do resultado da busca e, em caso de busca mal sucedida, indicao
+		 * de remoo mal sucedida.
+		 */
+		if (alvo == null) {
+
+			return false;
+		}
+
+		/*
+		 * Enquanto o n possuir ambos os filhos, o filho de maior prioridade assume a
+		 * sua posio.
+		 */
+		while (alvo.getEsquerdo() != null && alvo.getDireito() != null) {
+
+			if (this.prioridade(alvo.getEsquerdo()) > this.prioridade(alvo.getDireito())) {
+
+				this.rotacionarDireita(alvo);
+			}
+
+			else {
+
+				this.rotacionarEsquerda(alvo);
+			}
+		}
+
+		/*
+		 * Substituio do n pelo seu nico filho (possivelmente nulo).
+		 */
+		NoTriplo<G> pai = alvo.getPai();
+
+		this.substituir(alvo, alvo.getEsquerdo() != null ? alvo.getEsquerdo() : alvo.getDireito());
+		this.registrarModificacao(-1);
+
+		/*
+		 * Atualizao da quantidade de ns das subrvores dos ancestrais.
+		 */
+		this.atualizarCaminho(pai);
+
+		/*
+		 * Indicao de remoo bem sucedida.
+		 */
+		return true;
+	}
+
+	/**
+	 * Mtodo que divide a treap a partir de uma chave. Os elementos menores do que
+	 * a chave permanecem na rvore, enquanto os elementos maiores ou iguais  chave
+	 * so transferidos para a treap retornada. Apenas o caminho de busca da chave 
+	 * percorrido, com custo esperado O(log n).
+	 *
+	 * @param chave Chave da diviso.
+	 *
+	 * @return Treap com os elementos maiores ou iguais  chave.
+	 *
+	 * @throws IllegalArgumentException Caso a chave seja nula.
+	 */
+	public ArvoreTreap<G> dividir(G chave) {
+
+		if (chave == null) {
+
+			throw new IllegalArgumentException("A chave no pode ser nula.");
+		}
+
+		NoTriplo<G> menores = null;
+		NoTriplo<G> maiores = null;
+		NoTriplo<G> ultimoMenor = null;
+		NoTriplo<G> ultimoMaior = null;
+		NoTriplo<G> aux = this.getRaiz();
+
+		/*
+		 * Descida pelo caminho de busca da chave. Cada n visitado, com a sua
+		 * subrvore do lado oposto ao da descida,  pendurado na borda direita da
+		 * rvore dos menores ou na borda esquerda da rvore dos maiores, o que
+		 * preserva a ordem de heap das prioridades.
+		 */
+		while (aux != null) {
+
+			if (aux.getConteudo().compareTo(chave) < 0) {
+
+				if (ultimoMenor == null) {
+
+					menores = aux;
+				}
+
+				else {
+
+					ultimoMenor.setDireito(aux);
+				}
+
+				ultimoMenor = aux;
+				aux = aux.getDireito();
+			}
+
+			else {
+
+				if (ultimoMaior == null) {
+
+					maiores = aux;
+				}
+
+				else {
+
+					ultimoMaior.setEsquerdo(aux);
+				}
+
+				ultimoMaior = aux;
+				aux = aux.getEsquerdo();
+			}
+		}
+
+		/*
+		 * Desligamento das referncias que ainda apontam para a outra rvore.
+		 */
+		if (ultimoMenor != null) {
+
+			ultimoMenor.setDireito(null);
+		}
+
+		if (ultimoMaior != null) {
+
+			ultimoMaior.setEsquerdo(null);
+		}
+
+		if (menores != null) {
+
+			menores.desvincularPai();
+		}
+
+		if (maiores != null) {
+
+			maiores.desvincularPai();
+		}
+
+		/*
+		 * Atualizao das bordas alteradas, de baixo para cima, e das estruturas de
+		 * ambas as rvores.
+		 */
+		this.atualizarCaminho(ultimoMenor);
+		this.atualizarCaminho(ultimoMaior);
+
+		boolean distintos = this.possuiDistintos();
+		ArvoreTreap<G> resultado = new ArvoreTreap<>(this.aleatorio.nextLong());
+
+		this.redefinir(menores, this.tamanho(menores), distintos);
+		resultado.redefinir(maiores, this.tamanho(maiores), distintos);
+
+		return resultado;
+	}
+
+	/**
+	 * Mtodo que une outra treap ao final desta. Todos os elementos da outra treap
+	 * devem ser maiores ou iguais aos elementos desta, sendo a outra treap
+	 * esvaziada pela unio. Apenas as bordas entre as duas rvores so percorridas,
+	 * com custo esperado O(log n).
+	 *
+	 * @param outra Treap cujos elementos sero transferidos.
+	 *
+	 * @throws IllegalArgumentException Caso a outra treap seja nula, seja esta
+	 *                                  mesma treap, ou possua algum elemento menor
+	 *                                  do que os desta.
+	 */
+	public void unir(ArvoreTreap<G> outra) {
+
+		if (outra == null || outra == this) {
+
+			throw new IllegalArgumentException("A rvore a ser unida deve ser outra treap.");
+		}
+
+		NoTriplo<G> maximo = this.maximo();
+		NoTriplo<G> minimo = outra.minimo();
+
+		/*
+		 * Verificao da ordem entre as duas rvores.
+		 */
+		int comparacao = maximo == null || minimo == null ? -1
+				: maximo.getConteudo().compareTo(minimo.getConteudo());
+
+		if (comparacao > 0) {
+
+			throw new IllegalArgumentException("Os elementos da outra rvore devem ser maiores ou iguais aos desta.");
+		}
+
+		NoTriplo<G> esquerda = this.getRaiz();
+		NoTriplo<G> direita = outra.getRaiz();
+		NoTriplo<G> raiz = null;
+		NoTriplo<G> pai = null;
+		boolean ladoDireito = false;
+
+		/*
+		 * Descida simultnea pela borda direita desta rvore e pela borda esquerda da
+		 * outra, pendurando a cada passo o n de maior prioridade no lado por onde
+		 * chegou o n anterior.
+		 */
+		while (esquerda != null && direita != null) {
+
+			boolean daEsquerda = this.prioridade(esquerda) >= this.prioridade(direita);
+			NoTriplo<G> escolhido = daEsquerda ? esquerda : direita;
+
+			if (pai == null) {
+
+				raiz = escolhido;
+			}
+
+			else if (ladoDireito) {
+
+				pai.setDireito(escolhido);
+			}
+
+			else {
+
+				pai.setEsquerdo(escolhido);
+			}
+
+			pai = escolhido;
+			ladoDireito = daEsquerda;
+
+			if (daEsquerda) {
+
+				esquerda = esquerda.getDireito();
+			}
+
+			else {
+
+				direita = direita.getEsquerdo();
+			}
+		}
+
+		/*
+		 * O restante da borda que no se esgotou  pendurado no ltimo n escolhido.
+		 */
+		NoTriplo<G> restante = esquerda != null ? esquerda : direita;
+
+		if (pai == null) {
+
+			raiz = restante;
+		}
+
+		else if (ladoDireito) {
+
+			pai.setDireito(restante);
+		}
+
+		else {
+
+			pai.setEsquerdo(restante);
+		}
+
+		/*
+		 * Atualizao da borda percorrida, de baixo para cima, e das estruturas de
+		 * ambas as rvores.
+		 */
+		this.atualizarCaminho(pai);
+
+		boolean distintos = this.possuiDistintos() && outra.possuiDistintos() && comparacao < 0;
+
+		this.redefinir(raiz, this.tamanho(raiz), distintos);
+		outra.redefinir(null, 0, true);
+	}
+
+	/*
+	 * Mtodos protegidos ----------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que constri um n com uma prioridade aleatria.
+	 */
+	@Override
+	protected NoTriplo<G> criarNo(G conteudo) {
+
+		return new NoTreap<>(conteudo, this.aleatorio.nextInt());
+	}
+
+	/**
+	 * Mtodo que sobe o n inserido, por meio de rotaes, enquanto a sua
+	 * prioridade for maior do que a de seu pai.
+	 */
+	@Override
+	protected void aposInsercao(NoTriplo<G> no) {
+
+		while (no.getPai() != null && this.prioridade(no) > this.prioridade(no.getPai())) {
+
+			if (no == no.getPai().getEsquerdo()) {
+
+				this.rotacionarDireita(no.getPai());
+			}
+
+			else {
+
+				this.rotacionarEsquerda(no.getPai());
+			}
+		}
+
+		/*
+		 * Atualizao da quantidade de ns das subrvores dos ancestrais.
+		 */
+		this.atualizarCaminho(no.getPai());
+	}
+
+	/**
+	 * Mtodo que recalcula a quantidade de ns da subrvore cuja raiz  o n.
+	 */
+	@Override
+	protected void atualizar(NoTriplo<G> no) {
+
+		int esquerda = this.tamanho(no.getEsquerdo());
+		int direita = this.tamanho(no.getDireito());
+
+		((NoTreap<G>) no).setTamanho(1 + esquerda + direita);
+	}
+
+	/*
+	 * Mtodos privados ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna a prioridade de um n no nulo.
+	 *
+	 * @param no N em foco.
+	 *
+	 * @return Prioridade do n.
+	 */
+	private int prioridade(NoTriplo<G> no) {
+
+		return ((NoTreap<G>) no).getPrioridade();
+	}
+
+	/**
+	 * Mtodo que retorna a quantidade de ns de uma subrvore.
+	 *
+	 * @param no Raiz da subrvore, possivelmente nula.
+	 *
+	 * @return Quantidade de ns da subrvore, ou zero, caso a subrvore seja vazia.
+	 */
+	private int tamanho(NoTriplo<G> no) {
+
+		return no == null ? 0 : ((NoTreap<G>) no).getTamanho();
+	}
+
+	/**
+	 * Mtodo que recalcula a quantidade de ns das subrvores de um n e de todos
+	 * os seus ancestrais, de baixo para cima.
+	 *
+	 * @param no N inicial, possivelmente nulo.
+	 */
+	private void atualizarCaminho(NoTriplo<G> no) {
+
+		for (NoTriplo<G> aux = no; aux != null; aux = aux.getPai()) {
+
+			this.atualizar(aux);
+		}
+	}
+}
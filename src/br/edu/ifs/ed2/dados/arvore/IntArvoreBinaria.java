@@ -0,0 +1,725 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Classe que implementa as operaes de uma rvore binria de busca
+ * especializada para chaves inteiras. Os ns so representados por ndices em
+ * vetores paralelos de chaves, filhos esquerdos, filhos direitos e pais, de modo
+ * que as chaves no sejam encapsuladas em objetos e a rvore no possua um
+ * objeto por n. As posies dos ns removidos so reaproveitadas por meio de
+ * uma lista de posies livres.
+ *
+ * @author Marlos Tacio Silva.
+ *
+ */
+public class IntArvoreBinaria {
+
+	/*
+	 * Atributos -------------------------------------------------------------------
+	 */
+
+	/**
+	 * ndice que representa a ausncia de n.
+	 */
+	public static final int NULO = -1;
+
+	/**
+	 * Capacidade inicial padro dos vetores.
+	 */
+	public static final int CAPACIDADE_PADRAO = 16;
+
+	/**
+	 * Atributo que armazena as chaves dos ns.
+	 */
+	private int[] chaves;
+
+	/**
+	 * Atributo que armazena os ndices dos filhos esquerdos dos ns. Nas posies
+	 * livres, armazena o ndice da prxima posio livre.
+	 */
+	private int[] esquerdo;
+
+	/**
+	 * Atributo que armazena os ndices dos filhos direitos dos ns.
+	 */
+	private int[] direito;
+
+	/**
+	 * Atributo que armazena os ndices dos pais dos ns.
+	 */
+	private int[] pai;
+
+	/**
+	 * Atributo que armazena o ndice do n raiz da rvore.
+	 */
+	private int raiz;
+
+	/**
+	 * Atributo que armazena o ndice da primeira posio da lista de posies
+	 * livres.
+	 */
+	private int livre;
+
+	/**
+	 * Atributo que armazena a quantidade de posies j utilizadas dos vetores.
+	 */
+	private int utilizadas;
+
+	/**
+	 * Atributo que armazena a quantidade de elementos da rvore.
+	 */
+	private int quantidade;
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe.
+	 */
+	public IntArvoreBinaria() {
+
+		this(CAPACIDADE_PADRAO);
+	}
+
+	/**
+	 * Construtor da classe.
+	 *
+	 * @param capacidade Capacidade inicial dos vetores.
+	 *
+	 * @throws IllegalArgumentException Caso a capacidade seja menor do que um.
+	 */
+	public IntArvoreBinaria(int capacidade) {
+
+		if (capacidade < 1) {
+
+			throw new IllegalArgumentException("A capacidade deve ser maior do que zero.");
+		}
+
+		this.chaves = new int[capacidade];
+		this.esquerdo = new int[capacidade];
+		this.direito = new int[capacidade];
+		this.pai = new int[capacidade];
+
+		this.limpar();
+	}
+
+	/*
+	 * Mtodos pblicos ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo para a insero de um elemento na rvore binria de busca. Assim como
+	 * na rvore binria de busca genrica, as chaves repetidas so inseridas 
+	 * direita.
+	 *
+	 * @param chave Chave a ser inserida.
+	 *
+	 * @return Verdadeiro, indicando insero bem sucedida.
+	 */
+	public boolean inserir(int chave) {
+
+		/*
+		 * Percorre a rvore a partir da raiz at encontrar o ponto de insero.
+		 */
+		int aux1 = this.raiz;
+		int aux2 = NULO;
+
+		while (aux1 != NULO) {
+
+			aux2 = aux1;
+			aux1 = chave >= this.chaves[aux1] ? this.direito[aux1] : this.esquerdo[aux1];
+		}
+
+		/*
+		 * Alocao do novo n e ligao ao pai, ou estabelecimento como raiz, caso a
+		 * rvore esteja vazia.
+		 */
+		int novo = this.alocar(chave);
+
+		this.pai[novo] = aux2;
+
+		if (aux2 == NULO) {
+
+			this.raiz = novo;
+		}
+
+		else if (chave >= this.chaves[aux2]) {
+
+			this.direito[aux2] = novo;
+		}
+
+		else {
+
+			this.esquerdo[aux2] = novo;
+		}
+
+		++this.quantidade;
+
+		return true;
+	}
+
+	/**
+	 * Mtodo para a remoo de um elemento na rvore binria de busca.
+	 *
+	 * @param chave Chave a ser removida.
+	 *
+	 * @return Verdadeiro, para remoo bem sucedida, ou falso, caso contrrio.
+	 */
+	public boolean remover(int chave) {
+
+		/*
+		 * Efetua uma operao de busca a partir da chave.
+		 */
+		int aux = this.buscar(chave);
+
+		if (aux == NULO) {
+
+			return false;
+		}
+
+		/*
+		 * Se o n a ser removido no possuir um dos filhos, ento dever ser
+		 * substitudo pelo outro filho.
+		 */
+		if (this.esquerdo[aux] == NULO) {
+
+			this.substituir(aux, this.direito[aux]);
+		}
+
+		else if (this.direito[aux] == NULO) {
+
+			this.substituir(aux, this.esquerdo[aux]);
+		}
+
+		/*
+		 * Caso contrrio, o sucessor assumir a posio do n a ser removido.
+		 */
+		else {
+
+			int substituto = this.minimo(this.direito[aux]);
+
+			if (this.pai[substituto] != aux) {
+
+				this.substituir(substituto, this.direito[substituto]);
+
+				this.direito[substituto] = this.direito[aux];
+				this.pai[this.direito[substituto]] = substituto;
+			}
+
+			this.substituir(aux, substituto);
+
+			this.esquerdo[substituto] = this.esquerdo[aux];
+			this.pai[this.esquerdo[substituto]] = substituto;
+		}
+
+		/*
+		 * Devoluo da posio do n removido  lista de posies livres.
+		 */
+		this.liberar(aux);
+
+		--this.quantidade;
+
+		return true;
+	}
+
+	/**
+	 * Mtodo para a busca de um elemento na rvore binria de busca.
+	 *
+	 * @param chave Chave a ser buscada.
+	 *
+	 * @return ndice do n encontrado, para busca bem sucedida, ou {@link #NULO},
+	 *         caso contrrio.
+	 */
+	public int buscar(int chave) {
+
+		int aux = this.raiz;
+
+		/*
+		 * Percorre a rvore enquanto no encontrar a chave ou o n nulo.
+		 */
+		while (aux != NULO && this.chaves[aux] != chave) {
+
+			aux = chave > this.chaves[aux] ? this.direito[aux] : this.esquerdo[aux];
+		}
+
+		return aux;
+	}
+
+	/**
+	 * Mtodo que retorna o n com mximo valor na rvore.
+	 *
+	 * @return ndice do n mximo, ou {@link #NULO}, caso a rvore esteja vazia.
+	 */
+	public int maximo() {
+
+		return this.maximo(this.raiz);
+	}
+
+	/**
+	 * Mtodo que retorna o n com mnimo valor na rvore.
+	 *
+	 * @return ndice do n mnimo, ou {@link #NULO}, caso a rvore esteja vazia.
+	 */
+	public int minimo() {
+
+		return this.minimo(this.raiz);
+	}
+
+	/**
+	 * Mtodo que retorna o sucessor de uma determinada chave na rvore, ou seja, o
+	 * n com a menor chave maior do que ela.
+	 *
+	 * @param chave Chave em foco.
+	 *
+	 * @return ndice do n sucessor, caso a chave esteja na rvore e possua
+	 *         sucessor, ou {@link #NULO}, caso contrrio.
+	 */
+	public int sucessor(int chave) {
+
+		if (this.buscar(chave) == NULO) {
+
+			return NULO;
+		}
+
+		int sucessor = NULO;
+
+		/*
+		 * Descida a partir da raiz, guardando o ltimo n com chave maior.
+		 */
+		for (int aux = this.raiz; aux != NULO;) {
+
+			if (this.chaves[aux] > chave) {
+
+				sucessor = aux;
+				aux = this.esquerdo[aux];
+			}
+
+			else {
+
+				aux = this.direito[aux];
+			}
+		}
+
+		return sucessor;
+	}
+
+	/**
+	 * Mtodo que retorna o predecessor de uma determinada chave na rvore, ou
+	 * seja, o n com a maior chave menor do que ela.
+	 *
+	 * @param chave Chave em foco.
+	 *
+	 * @return ndice do n predecessor, caso a chave esteja na rvore e possua
+	 *         predecessor, ou {@link #NULO}, caso contrrio.
+	 */
+	public int predecessor(int chave) {
+
+		if (this.buscar(chave) == NULO) {
+
+			return NULO;
+		}
+
+		int predecessor = NULO;
+
+		/*
+		 * Descida a partir da raiz, guardando o ltimo n com chave menor.
+		 */
+		for (int aux = this.raiz; aux != NULO;) {
+
+			if (this.chaves[aux] < chave) {
+
+				predecessor = aux;
+				aux = this.direito[aux];
+			}
+
+			else {
+
+				aux = this.esquerdo[aux];
+			}
+		}
+
+		return predecessor;
+	}
+
+	/**
+	 * Mtodo que retorna o prximo n em ordem a partir de um determinado n,
+	 * permitindo percorrer as chaves da rvore sem encapsul-las em objetos.
+	 *
+	 * @param indice ndice do n de origem.
+	 *
+	 * @return ndice do prximo n em ordem, ou {@link #NULO}, caso o n de origem
+	 *         seja o ltimo.
+	 */
+	public int proximo(int indice) {
+
+		/*
+		 * Se o n possuir filho direito, ento o prximo n  o mnimo dessa subrvore.
+		 */
+		if (this.direito[indice] != NULO) {
+
+			return this.minimo(this.direito[indice]);
+		}
+
+		/*
+		 * Caso contrrio, subir at o primeiro ancestral alcanado pela esquerda.
+		 */
+		int pai = this.pai[indice];
+
+		while (pai != NULO && indice == this.direito[pai]) {
+
+			indice = pai;
+			pai = this.pai[pai];
+		}
+
+		return pai;
+	}
+
+	/**
+	 * Mtodo que efetua a limpeza da rvore binria de busca. A capacidade dos
+	 * vetores  preservada.
+	 */
+	public void limpar() {
+
+		this.raiz = NULO;
+		this.livre = NULO;
+		this.utilizadas = 0;
+		this.quantidade = 0;
+	}
+
+	/**
+	 * Mtodo que retorna a quantidade de elementos da rvore.
+	 *
+	 * @return Quantidade de elementos da rvore.
+	 */
+	public int tamanho() {
+
+		return this.quantidade;
+	}
+
+	/**
+	 * Mtodo que retorna a altura da rvore, ou seja, a quantidade de nveis do
+	 * caminho mais longo entre a raiz e uma folha. O percurso utiliza as
+	 * referncias aos pais, sem recurso e sem memria adicional.
+	 *
+	 * @return Altura da rvore, ou zero, caso a rvore esteja vazia.
+	 */
+	public int altura() {
+
+		int altura = 0;
+		int profundidade = 0;
+		int no = this.raiz;
+
+		while (no != NULO) {
+
+			/*
+			 * Atualizao da profundidade ao descer para o n em foco.
+			 */
+			altura = Math.max(altura, ++profundidade);
+
+			if (this.esquerdo[no] != NULO) {
+
+				no = this.esquerdo[no];
+				continue;
+			}
+
+			if (this.direito[no] != NULO) {
+
+				no = this.direito[no];
+				continue;
+			}
+
+			/*
+			 * Ao atingir uma folha, subir at o primeiro ancestral cujo filho direito ainda
+			 * no foi percorrido.
+			 */
+			while (true) {
+
+				int pai = this.pai[no];
+
+				--profundidade;
+
+				if (pai == NULO) {
+
+					return altura;
+				}
+
+				if (no == this.esquerdo[pai] && this.direito[pai] != NULO) {
+
+					no = this.direito[pai];
+					break;
+				}
+
+				no = pai;
+			}
+		}
+
+		return altura;
+	}
+
+	/**
+	 * Mtodo que escreve a representao da rvore no formato texto, no mesmo
+	 * formato do mtodo {@link #toString()}, diretamente em um destino. O
+	 * percurso  iterativo e utiliza as referncias aos pais.
+	 *
+	 * @param saida Destino do texto.
+	 *
+	 * @throws IOException Caso ocorra um erro na escrita.
+	 */
+	public void escrever(Appendable saida) throws IOException {
+
+		int no = this.raiz;
+
+		while (no != NULO) {
+
+			/*
+			 * Adiciona a chave do n em foco ao destino e desce para o primeiro filho no
+			 * nulo, representando o filho esquerdo nulo por um trao.
+			 */
+			saida.append(String.valueOf(this.chaves[no]));
+
+			if (this.esquerdo[no] != NULO) {
+
+				saida.append("( ");
+				no = this.esquerdo[no];
+				continue;
+			}
+
+			if (this.direito[no] != NULO) {
+
+				saida.append("( - , ");
+				no = this.direito[no];
+				continue;
+			}
+
+			/*
+			 * Ao atingir uma folha, subir at o primeiro ancestral cujo filho direito ainda
+			 * no foi percorrido, encerrando as subrvores concludas.
+			 */
+			while (true) {
+
+				int pai = this.pai[no];
+
+				if (pai == NULO) {
+
+					return;
+				}
+
+				if (no == this.esquerdo[pai]) {
+
+					saida.append(" , ");
+
+					if (this.direito[pai] != NULO) {
+
+						no = this.direito[pai];
+						break;
+					}
+
+					saida.append("-");
+				}
+
+				saida.append(" )");
+				no = pai;
+			}
+		}
+	}
+
+	/*
+	 * Gets e Sets -----------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna o ndice do n raiz da rvore.
+	 *
+	 * @return ndice da raiz, ou {@link #NULO}, caso a rvore esteja vazia.
+	 */
+	public int getRaiz() {
+
+		return this.raiz;
+	}
+
+	/**
+	 * Mtodo que retorna a chave armazenada em um n.
+	 *
+	 * @param indice ndice do n, obtido por uma das operaes da rvore.
+	 *
+	 * @return Chave do n.
+	 */
+	public int getChave(int indice) {
+
+		return this.chaves[indice];
+	}
+
+	/*
+	 * Mtodos Sobrescritos --------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna uma representao da rvore no formato texto (string).
+	 * Para essa representao  utilizado o mtodo de caminhamento em pr-ordem.
+	 */
+	@Override
+	public String toString() {
+
+		StringBuilder string = new StringBuilder();
+
+		try {
+
+			this.escrever(string);
+		}
+
+		catch (IOException e) {
+
+			throw new UncheckedIOException(e);
+		}
+
+		return string.toString();
+	}
+
+	/*
+	 * Mtodos privados ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que aloca uma posio para um novo n, reaproveitando as posies
+	 * livres e dobrando a capacidade dos vetores quando necessrio.
+	 *
+	 * @param chave Chave do novo n.
+	 *
+	 * @return ndice do novo n.
+	 */
+	private int alocar(int chave) {
+
+		int indice;
+
+		/*
+		 * Reaproveitamento da primeira posio livre, caso exista.
+		 */
+		if (this.livre != NULO) {
+
+			indice = this.livre;
+			this.livre = this.esquerdo[indice];
+		}
+
+		/*
+		 * Caso contrrio, utilizao da prxima posio ainda no utilizada.
+		 */
+		else {
+
+			if (this.utilizadas == this.chaves.length) {
+
+				int capacidade = this.chaves.length * 2;
+
+				this.chaves = Arrays.copyOf(this.chaves, capacidade);
+				this.esquerdo = Arrays.copyOf(this.esquerdo, capacidade);
+				this.direito = Arrays.copyOf(this.direito, capacidade);
+				this.pai = Arrays.copyOf(this.pai, capacidade);
+			}
+
+			indice = this.utilizadas++;
+		}
+
+		this.chaves[indice] = chave;
+		this.esquerdo[indice] = NULO;
+		this.direito[indice] = NULO;
+		this.pai[indice] = NULO;
+
+		return indice;
+	}
+
+	/**
+	 * Mtodo que devolve a posio de um n removido  lista de posies livres.
+	 *
+	 * @param indice ndice do n removido.
+	 */
+	private void liberar(int indice) {
+
+		this.esquerdo[indice] = this.livre;
+		this.direito[indice] = NULO;
+		this.pai[indice] = NULO;
+		this.livre = indice;
+	}
+
+	/**
+	 * Mtodo para efetuar a substituio de um determinado n por outro na posio
+	 * ocupada pelo primeiro.
+	 *
+	 * @param antigo ndice do n a ser substitudo.
+	 *
+	 * @param novo   ndice do n substituto, possivelmente {@link #NULO}.
+	 */
+	private void substituir(int antigo, int novo) {
+
+		int pai = this.pai[antigo];
+
+		if (pai == NULO) {
+
+			this.raiz = novo;
+		}
+
+		else if (antigo == this.esquerdo[pai]) {
+
+			this.esquerdo[pai] = novo;
+		}
+
+		else {
+
+			this.direito[pai] = novo;
+		}
+
+		if (novo != NULO) {
+
+			this.pai[novo] = pai;
+		}
+	}
+
+	/**
+	 * Mtodo que retorna o n mximo a partir de um determinado n de origem.
+	 *
+	 * @param no ndice do n de origem.
+	 *
+	 * @return ndice do n mximo, ou {@link #NULO}, caso o n de origem seja nulo.
+	 */
+	private int maximo(int no) {
+
+		if (no == NULO) {
+
+			return NULO;
+		}
+
+		while (this.direito[no] != NULO) {
+
+			no = this.direito[no];
+		}
+
+		return no;
+	}
+
+	/**
+	 * Mtodo que retorna o n mnimo a partir de um determinado n de origem.
+	 *
+	 * @param no ndice do n de origem.
+	 *
+	 * @return ndice do n mnimo, ou {@link #NULO}, caso o n de origem seja nulo.
+	 */
+	private int minimo(int no) {
+
+		if (no == NULO) {
+
+			return NULO;
+		}
+
+		while (this.esquerdo[no] != NULO) {
+
+			no = this.esquerdo[no];
+		}
+
+		return no;
+	}
+}
@@ -0,0 +1,579 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import br.edu.ifs.ed2.dados.no.NoSalto;
+
+/**
+ * Classe que implementa um conjunto ordenado concorrente e livre de travas
+ * (lock-free), baseado em uma lista de saltos (skip list), com as mesmas
+ * operaes da rvore binria de busca. Cada elemento ocupa uma quantidade
+ * aleatria de nveis, de modo que as buscas descendam dos nveis mais esparsos
+ * aos mais densos em tempo O(log n) esperado.
+ *
+ * A remoo  efetuada em duas etapas: o n  inicialmente marcado em todos os
+ * seus nveis (remoo lgica) e, em seguida, desligado da lista por meio de
+ * operaes compare-and-set (remoo fsica), que tambm podem ser concludas
+ * por outras threads durante os seus percursos. As buscas nunca modificam a
+ * lista e no aguardam outras threads.
+ *
+ * Diferentemente da rvore binria de busca, a lista no armazena elementos
+ * repetidos.
+ *
+ * @author Marlos Tacio Silva.
+ *
+ */
+public class ListaSaltosConcorrente<G extends Comparable<G>> implements Iterable<G> {
+
+	/*
+	 * Atributos -------------------------------------------------------------------
+	 */
+
+	/**
+	 * Quantidade mxima de nveis de um n, suficiente para dezenas de milhes de
+	 * elementos com probabilidade de promoo de um meio.
+	 */
+	private static final int NIVEIS = 24;
+
+	/**
+	 * Atributo que contm o n sentinela inicial, menor do que qualquer elemento.
+	 */
+	private final NoSalto<G> cabeca;
+
+	/**
+	 * Atributo que contm o n sentinela final, maior do que qualquer elemento.
+	 */
+	private final NoSalto<G> cauda;
+
+	/**
+	 * Atributo que contabiliza a quantidade de elementos, sem concentrar a
+	 * disputa entre as threads escritoras em uma nica varivel.
+	 */
+	private final LongAdder quantidade;
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe.
+	 */
+	public ListaSaltosConcorrente() {
+
+		this.cabeca = new NoSalto<G>(null, NIVEIS);
+		this.cauda = new NoSalto<G>(null, NIVEIS);
+		this.quantidade = new LongAdder();
+
+		for (int nivel = 0; nivel < NIVEIS; ++nivel) {
+
+			this.cabeca.getProximo(nivel).set(this.cauda, false);
+		}
+	}
+
+	/*
+	 * Mtodos pblicos ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo para a insero de um elemento na lista. O n  inserido no nvel
+	 * inferior, o que torna a insero visvel, e em seguida nos demais nveis.
+	 *
+	 * @param conteudo Contedo a ser inserido.
+	 *
+	 * @return Verdadeiro, para insero bem sucedida, ou falso, caso o contedo
+	 *         seja nulo ou j esteja na lista.
+	 */
+	public boolean inserir(G conteudo) {
+
+		if (conteudo == null) {
+
+			return false;
+		}
+
+		@SuppressWarnings("unchecked")
+		NoSalto<G>[] anteriores = (NoSalto<G>[]) new NoSalto<?>[NIVEIS];
+		@SuppressWarnings("unchecked")
+		NoSalto<G>[] sucessores = (NoSalto<G>[]) new NoSalto<?>[NIVEIS];
+
+		NoSalto<G> novo = new NoSalto<G>(conteudo, this.sortearAltura());
+
+		while (true) {
+
+			/*
+			 * Se o contedo j estiver na lista, ento indicar insero mal sucedida.
+			 */
+			if (this.localizar(conteudo, anteriores, sucessores)) {
+
+				return false;
+			}
+
+			/*
+			 * Ligao do novo n aos sucessores e insero no nvel inferior, repetindo a
+			 * localizao caso outra thread tenha alterado o ponto de insero.
+			 */
+			for (int nivel = 0; nivel < novo.getAltura(); ++nivel) {
+
+				novo.getProximo(nivel).set(sucessores[nivel], false);
+			}
+
+			if (anteriores[0].getProximo(0).compareAndSet(sucessores[0], novo, false, false)) {
+
+				break;
+			}
+		}
+
+		this.quantidade.increment();
+
+		/*
+		 * Insero nos demais nveis. Caso o novo n seja removido durante a insero,
+		 * os nveis restantes so abandonados.
+		 */
+		for (int nivel = 1; nivel < novo.getAltura(); ++nivel) {
+
+			while (true) {
+
+				NoSalto<G> anterior = anteriores[nivel];
+				NoSalto<G> sucessor = sucessores[nivel];
+				NoSalto<G> atual = novo.getProximo(nivel).getReference();
+
+				if (novo.getProximo(nivel).isMarked()) {
+
+					return true;
+				}
+
+				if (atual != sucessor && !novo.getProximo(nivel).compareAndSet(atual, sucessor, false, false)) {
+
+					continue;
+				}
+
+				if (anterior.getProximo(nivel).compareAndSet(sucessor, novo, false, false)) {
+
+					break;
+				}
+
+				this.localizar(conteudo, anteriores, sucessores);
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Mtodo para a remoo de um elemento da lista. A thread que marcar o nvel
+	 * inferior do n  a responsvel pela remoo.
+	 *
+	 * @param conteudo Contedo a ser removido.
+	 *
+	 * @return Verdadeiro, para remoo bem sucedida, ou falso, caso o contedo
+	 *         seja nulo ou no esteja na lista.
+	 */
+	public boolean remover(G conteudo) {
+
+		if (conteudo == null) {
+
+			return false;
+		}
+
+		@SuppressWarnings("unchecked")
+		NoSalto<G>[] anteriores = (NoSalto<G>[]) new NoSalto<?>[NIVEIS];
+		@SuppressWarnings("unchecked")
+		NoSalto<G>[] sucessores = (NoSalto<G>[]) new NoSalto<?>[NIVEIS];
+
+		if (!this.localizar(conteudo, anteriores, sucessores)) {
+
+			return false;
+		}
+
+		NoSalto<G> alvo = sucessores[0];
+		boolean[] marcado = { false };
+
+		/*
+		 * Marcao dos nveis superiores do n, do mais alto ao mais baixo.
+		 */
+		for (int nivel = alvo.getAltura() - 1; nivel > 0; --nivel) {
+
+			NoSalto<G> sucessor = alvo.getProximo(nivel).get(marcado);
+
+			while (!marcado[0]) {
+
+				alvo.getProximo(nivel).attemptMark(sucessor, true);
+				sucessor = alvo.getProximo(nivel).get(marcado);
+			}
+		}
+
+		/*
+		 * Marcao do nvel inferior, que determina a thread responsvel pela remoo.
+		 */
+		NoSalto<G> sucessor = alvo.getProximo(0).get(marcado);
+
+		while (true) {
+
+			if (alvo.getProximo(0).compareAndSet(sucessor, sucessor, false, true)) {
+
+				/*
+				 * Remoo fsica do n, efetuada pela localizao.
+				 */
+				this.quantidade.decrement();
+				this.localizar(conteudo, anteriores, sucessores);
+
+				return true;
+			}
+
+			sucessor = alvo.getProximo(0).get(marcado);
+
+			if (marcado[0]) {
+
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Mtodo para a busca de um elemento na lista, sem modific-la e sem aguardar
+	 * outras threads.
+	 *
+	 * @param conteudo Contedo a ser buscado.
+	 *
+	 * @return Contedo armazenado na lista igual ao buscado, para busca bem
+	 *         sucedida, ou nulo, caso contrrio.
+	 */
+	public G buscar(G conteudo) {
+
+		if (conteudo == null) {
+
+			return null;
+		}
+
+		NoSalto<G> no = this.proximo(this.anterior(conteudo));
+
+		return this.comparar(no, conteudo) == 0 ? no.getConteudo() : null;
+	}
+
+	/**
+	 * Mtodo que retorna o elemento com mximo valor na lista.
+	 *
+	 * @return Contedo mximo, ou nulo, caso a lista esteja vazia.
+	 */
+	public G maximo() {
+
+		return this.anterior(null).getConteudo();
+	}
+
+	/**
+	 * Mtodo que retorna o elemento com mnimo valor na lista.
+	 *
+	 * @return Contedo mnimo, ou nulo, caso a lista esteja vazia.
+	 */
+	public G minimo() {
+
+		return this.proximo(this.cabeca).getConteudo();
+	}
+
+	/**
+	 * Mtodo que retorna o sucessor de um determinado contedo na lista.
+	 *
+	 * @param conteudo Contedo em foco.
+	 *
+	 * @return O contedo sucessor, caso o contedo em foco esteja na lista e
+	 *         possua sucessor, ou nulo, caso contrrio.
+	 */
+	public G sucessor(G conteudo) {
+
+		if (conteudo == null) {
+
+			return null;
+		}
+
+		NoSalto<G> no = this.proximo(this.anterior(conteudo));
+
+		if (this.comparar(no, conteudo) != 0) {
+
+			return null;
+		}
+
+		return this.proximo(no).getConteudo();
+	}
+
+	/**
+	 * Mtodo que retorna o predecessor de um determinado contedo na lista.
+	 *
+	 * @param conteudo Contedo em foco.
+	 *
+	 * @return O contedo predecessor, caso o contedo em foco esteja na lista e
+	 *         possua predecessor, ou nulo, caso contrrio.
+	 */
+	public G predecessor(G conteudo) {
+
+		if (conteudo == null) {
+
+			return null;
+		}
+
+		NoSalto<G> anterior = this.anterior(conteudo);
+
+		if (this.comparar(this.proximo(anterior), conteudo) != 0) {
+
+			return null;
+		}
+
+		return anterior.getConteudo();
+	}
+
+	/**
+	 * Mtodo que retorna a quantidade de elementos da lista. Na presena de
+	 * escritas concorrentes, o valor retornado  uma aproximao.
+	 *
+	 * @return Quantidade de elementos da lista.
+	 */
+	public int tamanho() {
+
+		return this.quantidade.intValue();
+	}
+
+	/*
+	 * Mtodos Sobrescritos --------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna um iterador sobre os elementos da lista em ordem
+	 * crescente. O iterador  fracamente consistente: nunca lana
+	 * {@link java.util.ConcurrentModificationException} e reflete as
+	 * modificaes concorrentes ocorridas  frente de sua posio.
+	 */
+	@Override
+	public Iterator<G> iterator() {
+
+		return new Iterator<G>() {
+
+			/*
+			 * Prximo n a ser retornado.
+			 */
+			private NoSalto<G> proximo = ListaSaltosConcorrente.this.proximo(ListaSaltosConcorrente.this.cabeca);
+
+			@Override
+			public boolean hasNext() {
+
+				return this.proximo != ListaSaltosConcorrente.this.cauda;
+			}
+
+			@Override
+			public G next() {
+
+				if (!this.hasNext()) {
+
+					throw new NoSuchElementException();
+				}
+
+				G conteudo = this.proximo.getConteudo();
+				this.proximo = ListaSaltosConcorrente.this.proximo(this.proximo);
+
+				return conteudo;
+			}
+		};
+	}
+
+	/**
+	 * Mtodo que retorna uma representao da lista no formato texto (string),
+	 * com os elementos em ordem crescente.
+	 */
+	@Override
+	public String toString() {
+
+		StringBuilder string = new StringBuilder("[");
+
+		for (G conteudo : this) {
+
+			if (string.length() > 1) {
+
+				string.append(", ");
+			}
+
+			string.append(conteudo);
+		}
+
+		return string.append("]").toString();
+	}
+
+	/*
+	 * Mtodos privados ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que compara o contedo de um n com um determinado contedo,
+	 * considerando o n sentinela final maior do que qualquer contedo e o
+	 * contedo nulo maior do que qualquer outro n.
+	 *
+	 * @param no       N em foco, diferente da cabea.
+	 *
+	 * @param conteudo Contedo em foco, possivelmente nulo.
+	 *
+	 * @return Valor negativo, zero ou positivo, caso o n seja menor, igual ou
+	 *         maior do que o contedo.
+	 */
+	private int comparar(NoSalto<G> no, G conteudo) {
+
+		if (no == this.cauda) {
+
+			return conteudo == null ? 0 : 1;
+		}
+
+		if (conteudo == null) {
+
+			return -1;
+		}
+
+		return no.getConteudo().compareTo(conteudo);
+	}
+
+	/**
+	 * Mtodo que sorteia a quantidade de nveis de um novo n, de modo que cada
+	 * nvel adicional ocorra com probabilidade de um meio.
+	 *
+	 * @return Quantidade de nveis.
+	 */
+	private int sortearAltura() {
+
+		int niveis = Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt()) + 1;
+
+		return Math.min(niveis, NIVEIS);
+	}
+
+	/**
+	 * Mtodo que localiza, em cada nvel, o ltimo n menor do que um contedo e o
+	 * primeiro n maior do que ou igual a ele, desligando da lista os ns marcados
+	 * encontrados pelo caminho.
+	 *
+	 * @param conteudo   Contedo em foco.
+	 *
+	 * @param anteriores Vetor que recebe os ns anteriores de cada nvel.
+	 *
+	 * @param sucessores Vetor que recebe os ns sucessores de cada nvel.
+	 *
+	 * @return Verdadeiro, caso o contedo esteja na lista, ou falso, caso
+	 *         contrrio.
+	 */
+	private boolean localizar(G conteudo, NoSalto<G>[] anteriores, NoSalto<G>[] sucessores) {
+
+		boolean[] marcado = { false };
+
+		tentativa: while (true) {
+
+			NoSalto<G> anterior = this.cabeca;
+			NoSalto<G> atual = null;
+
+			for (int nivel = NIVEIS - 1; nivel >= 0; --nivel) {
+
+				atual = anterior.getProximo(nivel).getReference();
+
+				while (true) {
+
+					/*
+					 * Desligamento dos ns marcados, reiniciando a localizao caso o n anterior
+					 * tenha sido alterado por outra thread.
+					 */
+					NoSalto<G> sucessor = atual.getProximo(nivel).get(marcado);
+
+					while (marcado[0]) {
+
+						if (!anterior.getProximo(nivel).compareAndSet(atual, sucessor, false, false)) {
+
+							continue tentativa;
+						}
+
+						atual = sucessor;
+						sucessor = atual.getProximo(nivel).get(marcado);
+					}
+
+					/*
+					 * Avano enquanto o n em foco for menor do que o contedo.
+					 */
+					if (this.comparar(atual, conteudo) < 0) {
+
+						anterior = atual;
+						atual = sucessor;
+					}
+
+					else {
+
+						break;
+					}
+				}
+
+				anteriores[nivel] = anterior;
+				sucessores[nivel] = atual;
+			}
+
+			return this.comparar(atual, conteudo) == 0;
+		}
+	}
+
+	/**
+	 * Mtodo que retorna o ltimo n no marcado menor do que um contedo, sem
+	 * modificar a lista.
+	 *
+	 * @param conteudo Contedo em foco, ou nulo, para o ltimo n da lista.
+	 *
+	 * @return ltimo n menor do que o contedo, ou a cabea, caso no exista.
+	 */
+	private NoSalto<G> anterior(G conteudo) {
+
+		NoSalto<G> anterior = this.cabeca;
+
+		for (int nivel = NIVEIS - 1; nivel >= 0; --nivel) {
+
+			NoSalto<G> atual = this.proximo(anterior, nivel);
+
+			/*
+			 * Avano enquanto o n em foco for menor do que o contedo, saltando os ns
+			 * marcados.
+			 */
+			while (this.comparar(atual, conteudo) < 0) {
+
+				anterior = atual;
+				atual = this.proximo(atual, nivel);
+			}
+		}
+
+		return anterior;
+	}
+
+	/**
+	 * Mtodo que retorna o prximo n no marcado no nvel inferior.
+	 *
+	 * @param no N de origem.
+	 *
+	 * @return Prximo n no marcado, ou a cauda.
+	 */
+	private NoSalto<G> proximo(NoSalto<G> no) {
+
+		return this.proximo(no, 0);
+	}
+
+	/**
+	 * Mtodo que retorna o prximo n no marcado em um nvel, sem modificar a
+	 * lista.
+	 *
+	 * @param no    N de origem.
+	 *
+	 * @param nivel Nvel em foco.
+	 *
+	 * @return Prximo n no marcado, ou a cauda.
+	 */
+	private NoSalto<G> proximo(NoSalto<G> no, int nivel) {
+
+		NoSalto<G> atual = no.getProximo(nivel).getReference();
+
+		while (atual != this.cauda && atual.getProximo(nivel).isMarked()) {
+
+			atual = atual.getProximo(nivel).getReference();
+		}
+
+		return atual;
+	}
+}
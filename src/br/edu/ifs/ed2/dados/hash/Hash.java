@@ -3,6 +3,8 @@
  */
 package br.edu.ifs.ed2.dados.hash;
 
+import java.util.List;
+
 import br.edu.ifs.ed2.dados.hash.chave.EstrategiaChave;
 import br.edu.ifs.ed2.dados.hash.colisao.EstrategiaColisao;
 import br.edu.ifs.ed2.dados.hash.espalhamento.EstrategiaEspalhamento;
@@ -36,7 +38,24 @@ public abstract class Hash<G> {
 	private EstrategiaEspalhamento<G> espalhamento;
 
 	/**
-	 * Construtor da classe.
+	 * Quantidade de elementos armazenados na tabela de espalhamento.
+	 */
+	private int quantidade;
+
+	/**
+	 * Fator de carga mximo (razo entre a quantidade de elementos e o tamanho da
+	 * tabela) a partir do qual a tabela  redimensionada, sendo zero para uma
+	 * tabela de tamanho fixo.
+	 */
+	private double fatorCarga;
+
+	/**
+	 * Tamanho inicial da tabela, abaixo do qual a tabela no  reduzida.
+	 */
+	private int tamanhoInicial;
+
+	/**
+	 * Construtor da classe, com uma tabela de tamanho fixo.
 	 * 
 	 * @param tamanho      Tamanho da tabela de espalhamento.
 	 * 
@@ -48,10 +67,47 @@ public abstract class Hash<G> {
 	 */
 	public Hash(int tamanho, EstrategiaChave<G> chave, EstrategiaEspalhamento<G> espalhamento, EstrategiaColisao<G> colisao) {
 
+		this(tamanho, chave, espalhamento, colisao, 0);
+	}
+
+	/**
+	 * Construtor da classe, com uma tabela redimensionada automaticamente. A tabela
+	 *  duplicada sempre que a insero de um elemento exceder o fator de carga
+	 * mximo, e reduzida  metade sempre que a quantidade de elementos for inferior
+	 * a um quarto desse fator, respeitando o tamanho inicial.
+	 * 
+	 * @param tamanho      Tamanho inicial da tabela de espalhamento.
+	 * 
+	 * @param chave        Estratgia para a construo de chaves.
+	 * 
+	 * @param espalhamento Estratgia para a funo de espalhamento.
+	 * 
+	 * @param colisao      Estratgia para o tratamento de colises.
+	 * 
+	 * @param fatorCarga   Fator de carga mximo, ou zero, para uma tabela de
+	 *                     tamanho fixo.
+	 * 
+	 * @throws IllegalArgumentException Caso o fator de carga seja negativo ou o
+	 *                                  tamanho no seja suportado pela estratgia
+	 *                                  de tratamento de colises.
+	 */
+	public Hash(int tamanho, EstrategiaChave<G> chave, EstrategiaEspalhamento<G> espalhamento, EstrategiaColisao<G> colisao,
+			double fatorCarga) {
+
+		/*
+		 * Verificao do fator de carga.
+		 */
+		if (!(fatorCarga >= 0)) {
+
+			throw new IllegalArgumentException("Fator de carga invlido: " + fatorCarga);
+		}
+
 		/*
-		 * Estabelecimento do tamanho da tabela.
+		 * Estabelecimento do tamanho da tabela e do fator de carga mximo.
 		 */
 		this.setTamanho(tamanho);
+		this.tamanhoInicial = tamanho;
+		this.fatorCarga = fatorCarga;
 
 		/*
 		 * Estabelecimento das estratgias de construo da chave, funo de
@@ -60,6 +116,16 @@ public abstract class Hash<G> {
 		this.setChave(chave);
 		this.setColisao(colisao);
 		this.setEspalhamento(espalhamento);
+
+		/*
+		 * Verificao do tamanho da tabela. Os redimensionamentos duplicam ou reduzem
+		 *  metade o tamanho, sem torn-lo menor do que o inicial, preservando o
+		 * suporte da estratgia de tratamento de colises (e.g., potncias de dois).
+		 */
+		if (!colisao.suportaTamanho(tamanho)) {
+
+			throw new IllegalArgumentException("Tamanho no suportado pela estratgia de coliso: " + tamanho);
+		}
 	}
 
 	/**
@@ -94,6 +160,22 @@ public abstract class Hash<G> {
 	 */
 	protected abstract boolean finalizarRemocao(int indice, G conteudo);
 
+	/**
+	 * Mtodo que aloca uma nova tabela vazia, descartando a estrutura de
+	 * endereamento atual. Tal mtodo  utilizado no redimensionamento da tabela.
+	 * 
+	 * @param tamanho Tamanho da nova tabela.
+	 */
+	protected abstract void alocarTabela(int tamanho);
+
+	/**
+	 * Mtodo que retorna todos os elementos armazenados na tabela de
+	 * espalhamento. Tal mtodo  utilizado no redimensionamento da tabela.
+	 * 
+	 * @return Lista com os elementos da tabela.
+	 */
+	protected abstract List<G> listarElementos();
+
 	/**
 	 * Mtodo para a insero de um elemento na tabela de espalhamento.
 	 * 
@@ -105,25 +187,34 @@ public abstract class Hash<G> {
 	public boolean inserir(G conteudo) {
 
 		/*
-		 * Construo da chave a partir do contedo a ser inserido.
+		 * Verificao e, consequente, reconstruo da tabela, caso a insero exceda o
+		 * fator de carga mximo. As clulas removidas tambm ocupam a tabela, sendo
+		 * contabilizadas no fator de carga.
 		 */
-		int chave = this.getChave().gerarChave(conteudo);
+		double limite = this.getFatorCarga() * this.getTamanho();
 
-		/*
-		 * Clculo do ndice inicial em que o contedo ser inserido.
-		 */
-		int indice = this.getEspalhamento().calcularIndice(chave, this.getTamanho());
+		if (this.getFatorCarga() > 0 && this.getQuantidade() + this.getRemovidos() + 1 > limite) {
 
-		/*
-		 * Clculo do ndice final com base em eventuais colises.
-		 */
-		int indiceFinal = this.getColisao().obterIndice(indice, this);
+			/*
+			 * Se os elementos ocuparem no mximo metade do limite, ento as clulas
+			 * removidas predominam e a tabela  reconstruda no mesmo tamanho, descartando-
+			 * as. Caso contrrio, a tabela  ampliada.
+			 */
+			if (this.getQuantidade() + 1 <= limite / 2) {
+
+				this.redimensionar(this.getTamanho());
+			}
+
+			else {
+
+				this.redimensionar(2 * this.getTamanho());
+			}
+		}
 
 		/*
 		 * Insero do elemento na tabela de espalhamento.
 		 */
-		return this.finalizarInsercao(indiceFinal, conteudo);
-
+		return this.posicionar(conteudo);
 	}
 
 	/**
@@ -136,15 +227,10 @@ public abstract class Hash<G> {
 	 */
 	public int buscar(G conteudo) {
 
-		/*
-		 * Construo da chave a partir do contedo a ser buscado.
-		 */
-		int chave = this.getChave().gerarChave(conteudo);
-
 		/*
 		 * Clculo do ndice inicial do contedo a ser buscado.
 		 */
-		int indice = this.getEspalhamento().calcularIndice(chave, this.getTamanho());
+		int indice = this.calcularIndice(conteudo);
 
 		/*
 		 * Obteno do ndice final com base em eventuais colises.
@@ -170,7 +256,110 @@ public abstract class Hash<G> {
 		/*
 		 * Remoo do elemento na tabela de espalhamento.
 		 */
-		return this.finalizarRemocao(indice, conteudo);
+		if (!this.finalizarRemocao(indice, conteudo)) {
+
+			return false;
+		}
+
+		--this.quantidade;
+
+		/*
+		 * Verificao e, consequente, reduo da tabela, caso a quantidade de
+		 * elementos seja inferior a um quarto do fator de carga mximo.
+		 */
+		if (this.getFatorCarga() > 0 && this.getTamanho() / 2 >= this.tamanhoInicial
+				&& this.getQuantidade() < this.getFatorCarga() * this.getTamanho() / 4) {
+
+			this.redimensionar(this.getTamanho() / 2);
+		}
+
+		/*
+		 * Indicao de remoo bem sucedida.
+		 */
+		return true;
+	}
+
+	/**
+	 * Mtodo que altera o tamanho da tabela de espalhamento, reaplicando a
+	 * estratgia de espalhamento a cada um dos elementos armazenados.
+	 * 
+	 * @param tamanho Novo tamanho da tabela.
+	 */
+	protected void redimensionar(int tamanho) {
+
+		/*
+		 * Obteno dos elementos armazenados na tabela atual.
+		 */
+		List<G> elementos = this.listarElementos();
+
+		/*
+		 * Alocao da nova tabela.
+		 */
+		this.setTamanho(tamanho);
+		this.alocarTabela(tamanho);
+		this.quantidade = 0;
+
+		/*
+		 * Reinsero dos elementos na nova tabela.
+		 */
+		for (G elemento : elementos) {
+
+			this.posicionar(elemento);
+		}
+	}
+
+	/**
+	 * Mtodo que calcula o ndice inicial de um contedo na tabela de
+	 * espalhamento, a partir das estratgias de construo de chaves e de
+	 * espalhamento.
+	 * 
+	 * @param conteudo Contedo em foco.
+	 * 
+	 * @return ndice inicial do contedo.
+	 */
+	protected int calcularIndice(G conteudo) {
+
+		/*
+		 * Construo da chave a partir do contedo.
+		 */
+		int chave = this.getChave().gerarChave(conteudo);
+
+		/*
+		 * Clculo do ndice inicial do contedo.
+		 */
+		return this.getEspalhamento().calcularIndice(chave, this.getTamanho());
+	}
+
+	/**
+	 * Mtodo que posiciona um elemento na tabela de espalhamento, sem verificar o
+	 * fator de carga.
+	 * 
+	 * @param conteudo Contedo a ser inserido na tabela.
+	 * 
+	 * @return Verdadeiro, em caso de insero bem sucedida, ou Falso, em caso de
+	 *         insero mal sucedida.
+	 */
+	private boolean posicionar(G conteudo) {
+
+		/*
+		 * Clculo do ndice final com base em eventuais colises.
+		 */
+		int indice = this.getColisao().obterIndiceLivre(this.calcularIndice(conteudo), this, conteudo);
+
+		/*
+		 * Insero do elemento na tabela de espalhamento.
+		 */
+		if (!this.finalizarInsercao(indice, conteudo)) {
+
+			return false;
+		}
+
+		++this.quantidade;
+
+		/*
+		 * Indicao de insero bem sucedida.
+		 */
+		return true;
 	}
 
 	/**
@@ -193,6 +382,38 @@ public abstract class Hash<G> {
 		this.tamanho = tamanho;
 	}
 
+	/**
+	 * Mtodo que retorna a quantidade de elementos armazenados na tabela.
+	 * 
+	 * @return Quantidade de elementos.
+	 */
+	public int getQuantidade() {
+
+		return this.quantidade;
+	}
+
+	/**
+	 * Mtodo que retorna a quantidade de clulas removidas que ainda ocupam a
+	 * tabela, isto , que no podem ser tratadas como livres durante a busca. As
+	 * tabelas que no marcam clulas removidas retornam zero.
+	 * 
+	 * @return Quantidade de clulas removidas.
+	 */
+	protected int getRemovidos() {
+
+		return 0;
+	}
+
+	/**
+	 * Mtodo que retorna o fator de carga mximo da tabela.
+	 * 
+	 * @return Fator de carga mximo, ou zero, para uma tabela de tamanho fixo.
+	 */
+	public double getFatorCarga() {
+
+		return this.fatorCarga;
+	}
+
 	/**
 	 * Mtodo que retorna a estratgia de construo de chaves.
 	 * 
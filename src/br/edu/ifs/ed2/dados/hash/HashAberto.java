@@ -3,6 +3,9 @@
  */
 package br.edu.ifs.ed2.dados.hash;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import br.edu.ifs.ed2.dados.hash.chave.EstrategiaChave;
 import br.edu.ifs.ed2.dados.hash.colisao.EstrategiaColisao;
 import br.edu.ifs.ed2.dados.hash.espalhamento.EstrategiaEspalhamento;
@@ -16,6 +19,22 @@ import br.edu.ifs.ed2.dados.hash.espalhamento.EstrategiaEspalhamento;
  */
 public class HashAberto<G> extends Hash<G> {
 
+	/**
+	 * Estado de uma clula livre, isto , que nunca foi ocupada.
+	 */
+	public static final byte LIVRE = 0;
+
+	/**
+	 * Estado de uma clula ocupada.
+	 */
+	public static final byte OCUPADO = 1;
+
+	/**
+	 * Estado de uma clula removida, isto , que j foi ocupada e cujo contedo foi
+	 * removido.
+	 */
+	public static final byte REMOVIDO = 2;
+
 	/**
 	 * Vetor que armazena os elementos da tabela.
 	 */
@@ -23,12 +42,17 @@ public class HashAberto<G> extends Hash<G> {
 
 	/**
 	 * Vetor auxiliar que armazena os estados de cada clula da tabela de
-	 * espalhamento: null - Livre; O - Ocupado; R - Removido.
+	 * espalhamento: LIVRE, OCUPADO ou REMOVIDO.
+	 */
+	private byte estado[];
+
+	/**
+	 * Quantidade de clulas no estado REMOVIDO.
 	 */
-	private String estado[];
+	private int removidos;
 
 	/**
-	 * Construtor da classe.
+	 * Construtor da classe, com uma tabela de tamanho fixo.
 	 * 
 	 * @param tamanho      Tamanho da tabela de espalhamento.
 	 * 
@@ -38,19 +62,50 @@ public class HashAberto<G> extends Hash<G> {
 	 * 
 	 * @param colisao      Estratgia para o tratamento de colises.
 	 */
-	@SuppressWarnings("unchecked")
 	public HashAberto(int tamanho, EstrategiaChave<G> chave, EstrategiaEspalhamento<G> espalhamento, EstrategiaColisao<G> colisao) {
 
+		this(tamanho, chave, espalhamento, colisao, 0);
+	}
+
+	/**
+	 * Construtor da classe, com uma tabela redimensionada automaticamente.
+	 * 
+	 * @param tamanho      Tamanho inicial da tabela de espalhamento.
+	 * 
+	 * @param chave        Estratgia para a construo de chaves.
+	 * 
+	 * @param espalhamento Estratgia para a funo de espalhamento.
+	 * 
+	 * @param colisao      Estratgia para o tratamento de colises.
+	 * 
+	 * @param fatorCarga   Fator de carga mximo, entre zero e um, ou zero, para
+	 *                     uma tabela de tamanho fixo.
+	 * 
+	 * @throws IllegalArgumentException Caso o fator de carga seja negativo ou
+	 *                                  maior do que um, haja vista que no
+	 *                                  endereamento aberto cada clula armazena no
+	 *                                  mximo um elemento.
+	 */
+	public HashAberto(int tamanho, EstrategiaChave<G> chave, EstrategiaEspalhamento<G> espalhamento, EstrategiaColisao<G> colisao,
+			double fatorCarga) {
+
 		/*
 		 * Invocao do construtor da super classe.
 		 */
-		super(tamanho, chave, espalhamento, colisao);
+		super(tamanho, chave, espalhamento, colisao, fatorCarga);
+
+		/*
+		 * Verificao do fator de carga.
+		 */
+		if (fatorCarga > 1) {
+
+			throw new IllegalArgumentException("Fator de carga invlido: " + fatorCarga);
+		}
 
 		/*
 		 * Inicializao dos vetores de estado e contedo da tabela de espalhamento.
 		 */
-		this.setEstado(new String[tamanho]);
-		this.setTabela((G[]) new Object[tamanho]);
+		this.alocarTabela(tamanho);
 	}
 
 	/**
@@ -64,13 +119,22 @@ public class HashAberto<G> extends Hash<G> {
 		 */
 		if (indice < 0) {
 
+			return false;
+		}
+
+		/*
+		 * Reaproveitamento de uma eventual clula removida.
+		 */
+		if (this.getEstado()[indice] == REMOVIDO) {
+
+			--this.removidos;
 		}
 
 		/*
 		 * Insero do elemento e alterao do estado para ocupado.
 		 */
-		this.getEstado()[indice] = null;
-		this.getTabela()[indice] = null;
+		this.getEstado()[indice] = OCUPADO;
+		this.getTabela()[indice] = conteudo;
 
 		/*
 		 * Indicao de insero bem sucedida.
@@ -89,13 +153,15 @@ public class HashAberto<G> extends Hash<G> {
 		 */
 		if (indice < 0) {
 
+			return false;
 		}
 
 		/*
 		 * Remoo do elemento e alterao do estado para removido.
 		 */
-		this.getEstado()[indice] = null;
+		this.getEstado()[indice] = REMOVIDO;
 		this.getTabela()[indice] = null;
+		++this.removidos;
 
 		/*
 		 * Indicao de remoo bem sucedida.
@@ -103,6 +169,59 @@ public class HashAberto<G> extends Hash<G> {
 		return true;
 	}
 
+	/**
+	 * 
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void alocarTabela(int tamanho) {
+
+		/*
+		 * Inicializao dos vetores de estado e contedo da tabela de espalhamento.
+		 */
+		this.setEstado(new byte[tamanho]);
+		this.setTabela((G[]) new Object[tamanho]);
+		this.removidos = 0;
+	}
+
+	/**
+	 * 
+	 */
+	@Override
+	protected int getRemovidos() {
+
+		return this.removidos;
+	}
+
+	/**
+	 * 
+	 */
+	@Override
+	protected List<G> listarElementos() {
+
+		/*
+		 * Inicializao da lista de elementos.
+		 */
+		List<G> elementos = new ArrayList<G>(this.getQuantidade());
+
+		/*
+		 * Varredura das clulas ocupadas da tabela de espalhamento. As clulas
+		 * removidas so descartadas.
+		 */
+		for (int i = 0; i < this.getTamanho(); ++i) {
+
+			if (this.getEstado()[i] == OCUPADO) {
+
+				elementos.add(this.getTabela()[i]);
+			}
+		}
+
+		/*
+		 * Retorno dos elementos da tabela.
+		 */
+		return elementos;
+	}
+
 	/**
 	 * Mtodo que retorna um vetor com os contedos da tabela de espalhamento.
 	 * 
@@ -125,11 +244,11 @@ public class HashAberto<G> extends Hash<G> {
 
 	/**
 	 * Mtodo que retorna um vetor com os estados das clulas da tabela de
-	 * espalhamento: : null - Livre; O - Ocupado; R - Removido.
+	 * espalhamento: LIVRE, OCUPADO ou REMOVIDO.
 	 * 
-	 * @return Contedo da tabela de espalhamento.
+	 * @return Estados das clulas da tabela de espalhamento.
 	 */
-	public String[] getEstado() {
+	public byte[] getEstado() {
 
 		return this.estado;
 	}
@@ -137,9 +256,9 @@ public class HashAberto<G> extends Hash<G> {
 	/**
 	 * Mtodo que altera o vetor de estados da tabela de espalhamento.
 	 * 
-	 * @param tabela Novo vetor de estados da tabela.
+	 * @param estado Novo vetor de estados da tabela.
 	 */
-	private void setEstado(String estado[]) {
+	private void setEstado(byte estado[]) {
 
 		this.estado = estado;
 	}
@@ -161,18 +280,9 @@ public class HashAberto<G> extends Hash<G> {
 		for (int i = 0; i < this.getTamanho(); ++i) {
 
 			/*
-			 * Verificao e, consequente, representao de clula vazia.
-			 */
-			if (this.getTabela()[i] == null) {
-
-				s.append("-").append("\n");
-				continue;
-			}
-
-			/*
-			 * Verificao e, consequente, representao de clula removida.
+			 * Verificao e, consequente, representao de clula livre ou removida.
 			 */
-			if (this.getTabela()[i].equals("R")) {
+			if (this.getEstado()[i] != OCUPADO) {
 
 				s.append("-").append("\n");
 				continue;
@@ -3,10 +3,15 @@
  */
 package br.edu.ifs.ed2.dados.hash;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import br.edu.ifs.ed2.dados.hash.chave.EstrategiaChave;
 import br.edu.ifs.ed2.dados.hash.colisao.EstrategiaColisao;
 import br.edu.ifs.ed2.dados.hash.espalhamento.EstrategiaEspalhamento;
 import br.edu.ifs.ed2.dados.lista.Lista;
+import br.edu.ifs.ed2.dados.lista.ListaSimples;
+import br.edu.ifs.ed2.dados.no.NoSimples;
 
 /**
  * 
@@ -15,13 +20,49 @@ import br.edu.ifs.ed2.dados.lista.Lista;
  */
 public class HashEncadeado<G> extends Hash<G> {
 
+	/**
+	 * Quantidade de clulas da tabela anterior migradas a cada operao durante um
+	 * redimensionamento incremental.
+	 */
+	private static final int CELULAS_POR_OPERACAO = 2;
+
+	/**
+	 * Quantidade mxima de clulas vazias da tabela anterior visitadas a cada
+	 * operao durante um redimensionamento incremental.
+	 */
+	private static final int VISITAS_VAZIAS = 10 * CELULAS_POR_OPERACAO;
+
 	/**
 	 * Vetor que armazena os elementos da tabela.
 	 */
 	private Lista<G> tabela[];
 
 	/**
-	 * Construtor da classe.
+	 * Indica se o redimensionamento da tabela  incremental, ou seja, se os
+	 * elementos so migrados para a nova tabela aos poucos, a cada operao, em vez
+	 * de todos de uma s vez.
+	 */
+	private boolean incremental;
+
+	/**
+	 * Tabela anterior ao redimensionamento incremental em curso, ou nula, caso no
+	 * haja redimensionamento em curso.
+	 */
+	private Lista<G> anterior[];
+
+	/**
+	 * ndice da prxima clula da tabela anterior a ser migrada.
+	 */
+	private int migracao;
+
+	/**
+	 * Quantidade total de clulas da tabela anterior migradas. Visvel no pacote
+	 * para a verificao do custo de migrao por operao.
+	 */
+	int migracoes;
+
+	/**
+	 * Construtor da classe, com uma tabela de tamanho fixo.
 	 * 
 	 * @param tamanho      Tamanho da tabela de espalhamento.
 	 * 
@@ -31,19 +72,117 @@ public class HashEncadeado<G> extends Hash<G> {
 	 * 
 	 * @param colisao      Estratgia para o tratamento de colises.
 	 */
-	@SuppressWarnings("unchecked")
 	public HashEncadeado(int tamanho, EstrategiaChave<G> chave, EstrategiaEspalhamento<G> espalhamento,
 			EstrategiaColisao<G> colisao) {
 
+		this(tamanho, chave, espalhamento, colisao, 0);
+	}
+
+	/**
+	 * Construtor da classe, com uma tabela redimensionada automaticamente.
+	 * 
+	 * @param tamanho      Tamanho inicial da tabela de espalhamento.
+	 * 
+	 * @param chave        Estratgia para a construo de chaves.
+	 * 
+	 * @param espalhamento Estratgia para a funo de espalhamento.
+	 * 
+	 * @param colisao      Estratgia para o tratamento de colises.
+	 * 
+	 * @param fatorCarga   Fator de carga mximo, ou zero, para uma tabela de
+	 *                     tamanho fixo.
+	 */
+	public HashEncadeado(int tamanho, EstrategiaChave<G> chave, EstrategiaEspalhamento<G> espalhamento,
+			EstrategiaColisao<G> colisao, double fatorCarga) {
+
+		this(tamanho, chave, espalhamento, colisao, fatorCarga, false);
+	}
+
+	/**
+	 * Construtor da classe, com uma tabela redimensionada automaticamente e,
+	 * opcionalmente, de forma incremental. No redimensionamento incremental, as
+	 * tabelas anterior e nova coexistem e cada insero, busca ou remoo migra
+	 * algumas clulas da tabela anterior, limitando o custo de cada operao.
+	 * 
+	 * @param tamanho      Tamanho inicial da tabela de espalhamento.
+	 * 
+	 * @param chave        Estratgia para a construo de chaves.
+	 * 
+	 * @param espalhamento Estratgia para a funo de espalhamento.
+	 * 
+	 * @param colisao      Estratgia para o tratamento de colises.
+	 * 
+	 * @param fatorCarga   Fator de carga mximo, ou zero, para uma tabela de
+	 *                     tamanho fixo.
+	 * 
+	 * @param incremental  Verdadeiro, para o redimensionamento incremental, ou
+	 *                     falso, para a migrao de todos os elementos de uma s
+	 *                     vez.
+	 */
+	public HashEncadeado(int tamanho, EstrategiaChave<G> chave, EstrategiaEspalhamento<G> espalhamento,
+			EstrategiaColisao<G> colisao, double fatorCarga, boolean incremental) {
+
 		/*
 		 * Invocao do construtor da super classe.
 		 */
-		super(tamanho, chave, espalhamento, colisao);
+		super(tamanho, chave, espalhamento, colisao, fatorCarga);
 
 		/*
 		 * Inicializao da tabela de espalhamento.
 		 */
-		this.setTabela((Lista<G>[]) new Lista<?>[tamanho]);
+		this.incremental = incremental;
+		this.alocarTabela(tamanho);
+	}
+
+	/**
+	 * Mtodo para a insero de um elemento na tabela de espalhamento. Durante um
+	 * redimensionamento incremental, a insero tambm migra algumas clulas da
+	 * tabela anterior.
+	 */
+	@Override
+	public boolean inserir(G conteudo) {
+
+		/*
+		 * Migrao de parte da tabela anterior, caso haja redimensionamento em curso.
+		 */
+		this.migrar(conteudo);
+
+		/*
+		 * Insero do elemento na tabela de espalhamento.
+		 */
+		return super.inserir(conteudo);
+	}
+
+	/**
+	 * Mtodo para a busca de um elemento na tabela de espalhamento. Durante um
+	 * redimensionamento incremental, a clula da tabela anterior que poderia
+	 * conter o contedo  migrada antes da busca, de modo que o ndice retornado
+	 * sempre se refira  nova tabela. A remoo, que se baseia na busca, segue o
+	 * mesmo comportamento.
+	 */
+	@Override
+	public int buscar(G conteudo) {
+
+		/*
+		 * Migrao de parte da tabela anterior, caso haja redimensionamento em curso.
+		 */
+		this.migrar(conteudo);
+
+		/*
+		 * Busca do elemento na tabela de espalhamento.
+		 */
+		return super.buscar(conteudo);
+	}
+
+	/**
+	 * Mtodo que verifica se h um redimensionamento incremental em curso.
+	 * 
+	 * @return Verdadeiro, caso haja elementos na tabela anterior a serem migrados,
+	 *         ou falso, caso contrrio.
+	 */
+	public boolean estaRedimensionando() {
+
+		return this.anterior != null;
 	}
 
 	/**
@@ -57,6 +196,7 @@ public class HashEncadeado<G> extends Hash<G> {
 		 */
 		if (indice < 0) {
 
+			return false;
 		}
 
 		/*
@@ -64,11 +204,13 @@ public class HashEncadeado<G> extends Hash<G> {
 		 */
 		if (this.getTabela()[indice] == null) {
 
+			this.getTabela()[indice] = new ListaSimples<G>();
 		}
 
 		/*
 		 * Insero do elemento na lista.
 		 */
+		this.getTabela()[indice].inserirFim(conteudo);
 
 		/*
 		 * Indicao de insero bem sucedida.
@@ -87,16 +229,92 @@ public class HashEncadeado<G> extends Hash<G> {
 		 */
 		if (indice < 0) {
 
+			return false;
 		}
 
 		/*
-		 * Remoo do elemento e alterao do estado para removido.
+		 * Remoo do elemento da lista.
 		 */
+		return this.getTabela()[indice].remover(conteudo);
+	}
+
+	/**
+	 * Mtodo que altera o tamanho da tabela de espalhamento. No redimensionamento
+	 * incremental, a tabela atual passa a ser a tabela anterior, cujas clulas
+	 * so migradas aos poucos pelas operaes seguintes. Enquanto houver uma
+	 * migrao em curso, novos redimensionamentos so ignorados, haja vista que
+	 * conclu-la de uma s vez anularia o redimensionamento incremental. As
+	 * operaes seguintes voltam a verificar o fator de carga.
+	 */
+	@Override
+	protected void redimensionar(int tamanho) {
 
 		/*
-		 * Indicao de remoo bem sucedida.
+		 * Redimensionamento de uma s vez, caso no seja incremental.
 		 */
-		return true;
+		if (!this.incremental) {
+
+			super.redimensionar(tamanho);
+			return;
+		}
+
+		/*
+		 * Verificao de um eventual redimensionamento em curso.
+		 */
+		if (this.anterior != null) {
+
+			return;
+		}
+
+		/*
+		 * Preservao da tabela atual e alocao da nova tabela.
+		 */
+		this.anterior = this.getTabela();
+		this.migracao = 0;
+
+		this.setTamanho(tamanho);
+		this.alocarTabela(tamanho);
+	}
+
+	/**
+	 * 
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void alocarTabela(int tamanho) {
+
+		/*
+		 * Inicializao da tabela de espalhamento.
+		 */
+		this.setTabela((Lista<G>[]) new Lista<?>[tamanho]);
+	}
+
+	/**
+	 * 
+	 */
+	@Override
+	protected List<G> listarElementos() {
+
+		/*
+		 * Inicializao da lista de elementos.
+		 */
+		List<G> elementos = new ArrayList<G>(this.getQuantidade());
+
+		/*
+		 * Varredura da tabela atual e da tabela anterior, caso haja redimensionamento
+		 * em curso.
+		 */
+		this.listar(this.getTabela(), elementos);
+
+		if (this.anterior != null) {
+
+			this.listar(this.anterior, elementos);
+		}
+
+		/*
+		 * Retorno dos elementos da tabela.
+		 */
+		return elementos;
 	}
 
 	/**
@@ -111,23 +329,15 @@ public class HashEncadeado<G> extends Hash<G> {
 		StringBuilder s = new StringBuilder();
 
 		/*
-		 * Varredura das clulas da tabela de espalhamento.
+		 * Representao da tabela atual e da tabela anterior, caso haja
+		 * redimensionamento em curso.
 		 */
-		for (int i = 0; i < this.getTamanho(); ++i) {
+		this.escrever(this.getTabela(), s);
 
-			/*
-			 * Verificao e, consequente, representao de clula vazia.
-			 */
-			if (this.getTabela()[i] == null) {
-
-				s.append("-").append("\n");
-				continue;
-			}
+		if (this.anterior != null) {
 
-			/*
-			 * Representao de clula ocupada.
-			 */
-			s.append(this.getTabela()[i]).append("\n");
+			s.append("Tabela anterior:").append("\n");
+			this.escrever(this.anterior, s);
 		}
 
 		/*
@@ -151,4 +361,165 @@ public class HashEncadeado<G> extends Hash<G> {
 
 		this.tabela = tabela;
 	}
+
+	/**
+	 * Mtodo que migra, durante um redimensionamento incremental, a clula da
+	 * tabela anterior que poderia conter um contedo e algumas das clulas
+	 * seguintes ainda no migradas.
+	 * 
+	 * @param conteudo Contedo em foco.
+	 */
+	private void migrar(G conteudo) {
+
+		/*
+		 * Verificao de redimensionamento em curso.
+		 */
+		if (this.anterior == null) {
+
+			return;
+		}
+
+		/*
+		 * Migrao da clula da tabela anterior que poderia conter o contedo.
+		 */
+		int chave = this.getChave().gerarChave(conteudo);
+		this.migrarCelula(this.getEspalhamento().calcularIndice(chave, this.anterior.length));
+
+		/*
+		 * Migrao das clulas seguintes.
+		 */
+		this.migrar(CELULAS_POR_OPERACAO);
+	}
+
+	/**
+	 * Mtodo que migra, a partir da clula em foco, uma quantidade de clulas no
+	 * vazias da tabela anterior, visitando um nmero limitado de clulas vazias.
+	 * Ao fim da migrao, a tabela anterior  descartada.
+	 * 
+	 * @param celulas Quantidade de clulas no vazias a serem migradas.
+	 */
+	private void migrar(int celulas) {
+
+		/*
+		 * Inicializao da quantidade de clulas vazias que podem ser visitadas.
+		 */
+		int vazias = VISITAS_VAZIAS;
+
+		/*
+		 * Varredura das clulas da tabela anterior a partir da clula em foco.
+		 */
+		while (celulas > 0 && vazias > 0 && this.migracao < this.anterior.length) {
+
+			if (this.anterior[this.migracao] == null) {
+
+				--vazias;
+			}
+
+			else {
+
+				this.migrarCelula(this.migracao);
+				--celulas;
+			}
+
+			++this.migracao;
+		}
+
+		/*
+		 * Descarte da tabela anterior ao fim da migrao.
+		 */
+		if (this.migracao >= this.anterior.length) {
+
+			this.anterior = null;
+		}
+	}
+
+	/**
+	 * Mtodo que move os elementos de uma clula da tabela anterior para as
+	 * clulas correspondentes da nova tabela.
+	 * 
+	 * @param indice ndice da clula na tabela anterior.
+	 */
+	private void migrarCelula(int indice) {
+
+		++this.migracoes;
+
+		/*
+		 * Verificao de clula vazia.
+		 */
+		if (this.anterior[indice] == null) {
+
+			return;
+		}
+
+		/*
+		 * Reinsero de cada elemento da clula na nova tabela.
+		 */
+		for (NoSimples<G> no = ((ListaSimples<G>) this.anterior[indice]).getInicio(); no != null; no = no.getPosterior()) {
+
+			int novoIndice = this.calcularIndice(no.getConteudo());
+
+			if (this.getTabela()[novoIndice] == null) {
+
+				this.getTabela()[novoIndice] = new ListaSimples<G>();
+			}
+
+			this.getTabela()[novoIndice].inserirInicio(no.getConteudo());
+		}
+
+		/*
+		 * Esvaziamento da clula migrada.
+		 */
+		this.anterior[indice] = null;
+	}
+
+	/**
+	 * Mtodo que adiciona os elementos de uma tabela a uma lista. As listas da
+	 * tabela so todas construdas como listas simplesmente encadeadas.
+	 * 
+	 * @param tabela    Tabela em foco.
+	 * 
+	 * @param elementos Lista que recebe os elementos.
+	 */
+	private void listar(Lista<G> tabela[], List<G> elementos) {
+
+		for (int i = 0; i < tabela.length; ++i) {
+
+			if (tabela[i] == null) {
+
+				continue;
+			}
+
+			for (NoSimples<G> no = ((ListaSimples<G>) tabela[i]).getInicio(); no != null; no = no.getPosterior()) {
+
+				elementos.add(no.getConteudo());
+			}
+		}
+	}
+
+	/**
+	 * Mtodo que adiciona a representao das clulas de uma tabela a uma string.
+	 * 
+	 * @param tabela Tabela em foco.
+	 * 
+	 * @param s      Estrutura para construo da string.
+	 */
+	private void escrever(Lista<G> tabela[], StringBuilder s) {
+
+		for (int i = 0; i < tabela.length; ++i) {
+
+			/*
+			 * Verificao e, consequente, representao de clula vazia.
+			 */
+			if (tabela[i] == null) {
+
+				s.append("-").append("\n");
+				continue;
+			}
+
+			/*
+			 * Representao de clula ocupada.
+			 */
+			s.append(tabela[i]).append("\n");
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,233 @@
+/**
+ * 
+ */
+package br.edu.ifs.ed2.dados.hash;
+
+import br.edu.ifs.ed2.dados.hash.chave.EstrategiaChave;
+import br.edu.ifs.ed2.dados.hash.colisao.ColisaoRobinHood;
+import br.edu.ifs.ed2.dados.hash.espalhamento.EstrategiaEspalhamento;
+
+/**
+ * Classe que estabelece as operaes de uma tabela de espalhamento com
+ * endereamento aberto e sondagem linear segundo a poltica Robin Hood. Cada
+ * clula armazena a distncia entre o seu ndice e o ndice inicial do seu
+ * contedo. Na insero, o contedo em foco toma a clula de um contedo mais
+ * prximo do seu ndice inicial, que passa a ser inserido adiante, o que reduz a
+ * varincia das distncias. Na remoo, os contedos seguintes so deslocados
+ * uma clula para trs, dispensando as clulas removidas, e a busca 
+ * interrompida assim que encontra um contedo mais prximo do seu ndice
+ * inicial do que o contedo buscado estaria.
+ * 
+ * @author Marlos Tacio Silva.
+ *
+ */
+public class HashRobinHood<G> extends HashAberto<G> {
+
+	/**
+	 * Vetor auxiliar que armazena, para cada clula ocupada, a distncia entre o
+	 * seu ndice e o ndice inicial do seu contedo.
+	 */
+	private int distancia[];
+
+	/**
+	 * Construtor da classe, com uma tabela de tamanho fixo.
+	 * 
+	 * @param tamanho      Tamanho da tabela de espalhamento.
+	 * 
+	 * @param chave        Estratgia para a construo de chaves.
+	 * 
+	 * @param espalhamento Estratgia para a funo de espalhamento.
+	 */
+	public HashRobinHood(int tamanho, EstrategiaChave<G> chave, EstrategiaEspalhamento<G> espalhamento) {
+
+		this(tamanho, chave, espalhamento, 0);
+	}
+
+	/**
+	 * Construtor da classe, com uma tabela redimensionada automaticamente.
+	 * 
+	 * @param tamanho      Tamanho inicial da tabela de espalhamento.
+	 * 
+	 * @param chave        Estratgia para a construo de chaves.
+	 * 
+	 * @param espalhamento Estratgia para a funo de espalhamento.
+	 * 
+	 * @param fatorCarga   Fator de carga mximo, ou zero, para uma tabela de
+	 *                     tamanho fixo.
+	 */
+	public HashRobinHood(int tamanho, EstrategiaChave<G> chave, EstrategiaEspalhamento<G> espalhamento, double fatorCarga) {
+
+		/*
+		 * Invocao do construtor da super classe com a estratgia de tratamento de
+		 * colises prpria da poltica Robin Hood.
+		 */
+		super(tamanho, chave, espalhamento, new ColisaoRobinHood<G>(), fatorCarga);
+	}
+
+	/**
+	 * Mtodo para a insero de um elemento a partir do seu ndice inicial. A cada
+	 * clula ocupada por um contedo mais prximo do seu ndice inicial do que o
+	 * contedo em foco, os contedos so trocados e a insero prossegue com o
+	 * contedo desalojado.
+	 */
+	@Override
+	protected boolean finalizarInsercao(int indice, G conteudo) {
+
+		/*
+		 * Verificao e, consequente, indicao de insero mal sucedida.
+		 */
+		if (indice < 0) {
+
+			return false;
+		}
+
+		/*
+		 * Inicializao do contedo em foco e da sua distncia ao ndice inicial.
+		 */
+		G atual = conteudo;
+		int distanciaAtual = 0;
+
+		/*
+		 * Sondagem linear at uma clula livre, haja vista que a estratgia de
+		 * coliso garante a existncia de uma.
+		 */
+		while (this.getEstado()[indice] == OCUPADO) {
+
+			/*
+			 * Troca do contedo em foco com o contedo da clula, caso este esteja mais
+			 * prximo do seu ndice inicial.
+			 */
+			if (this.distancia[indice] < distanciaAtual) {
+
+				G desalojado = this.getTabela()[indice];
+				int distanciaDesalojado = this.distancia[indice];
+
+				this.getTabela()[indice] = atual;
+				this.distancia[indice] = distanciaAtual;
+
+				atual = desalojado;
+				distanciaAtual = distanciaDesalojado;
+			}
+
+			/*
+			 * Clculo do novo ndice.
+			 */
+			indice = this.proximo(indice);
+			++distanciaAtual;
+		}
+
+		/*
+		 * Insero do contedo em foco na clula livre.
+		 */
+		this.getEstado()[indice] = OCUPADO;
+		this.getTabela()[indice] = atual;
+		this.distancia[indice] = distanciaAtual;
+
+		/*
+		 * Indicao de insero bem sucedida.
+		 */
+		return true;
+	}
+
+	/**
+	 * Mtodo para a remoo de um elemento com deslocamento para trs: os
+	 * contedos seguintes que no estejam no seu ndice inicial so deslocados uma
+	 * clula para trs, de modo que nenhuma clula seja marcada como removida.
+	 */
+	@Override
+	protected boolean finalizarRemocao(int indice, G conteudo) {
+
+		/*
+		 * Verificao e, consequente, indicao de remoo mal sucedida.
+		 */
+		if (indice < 0) {
+
+			return false;
+		}
+
+		/*
+		 * Deslocamento para trs dos contedos seguintes.
+		 */
+		int seguinte = this.proximo(indice);
+
+		while (this.getEstado()[seguinte] == OCUPADO && this.distancia[seguinte] > 0) {
+
+			this.getTabela()[indice] = this.getTabela()[seguinte];
+			this.distancia[indice] = this.distancia[seguinte] - 1;
+
+			indice = seguinte;
+			seguinte = this.proximo(seguinte);
+		}
+
+		/*
+		 * Liberao da ltima clula deslocada.
+		 */
+		this.getEstado()[indice] = LIVRE;
+		this.getTabela()[indice] = null;
+		this.distancia[indice] = 0;
+
+		/*
+		 * Indicao de remoo bem sucedida.
+		 */
+		return true;
+	}
+
+	/**
+	 * 
+	 */
+	@Override
+	protected void alocarTabela(int tamanho) {
+
+		/*
+		 * Inicializao dos vetores de estado, contedo e distncia da tabela de
+		 * espalhamento.
+		 */
+		super.alocarTabela(tamanho);
+		this.distancia = new int[tamanho];
+	}
+
+	/**
+	 * Mtodo que retorna um vetor com as distncias entre o ndice de cada clula
+	 * ocupada e o ndice inicial do seu contedo.
+	 * 
+	 * @return Distncias das clulas da tabela de espalhamento.
+	 */
+	public int[] getDistancia() {
+
+		return this.distancia;
+	}
+
+	/**
+	 * Mtodo que retorna a maior distncia entre o ndice de uma clula ocupada e o
+	 * ndice inicial do seu contedo, isto , o maior comprimento de sondagem de
+	 * uma busca bem sucedida, menos um.
+	 * 
+	 * @return Maior distncia da tabela.
+	 */
+	public int getDistanciaMaxima() {
+
+		int maxima = 0;
+
+		for (int i = 0; i < this.getTamanho(); ++i) {
+
+			if (this.getEstado()[i] == OCUPADO) {
+
+				maxima = Math.max(maxima, this.distancia[i]);
+			}
+		}
+
+		return maxima;
+	}
+
+	/**
+	 * Mtodo que calcula o ndice da clula seguinte, de forma circular.
+	 * 
+	 * @param indice ndice em foco.
+	 * 
+	 * @return ndice da clula seguinte.
+	 */
+	private int proximo(int indice) {
+
+		return indice + 1 == this.getTamanho() ? 0 : indice + 1;
+	}
+}
@@ -30,8 +30,8 @@ public class ChaveNumerica implements EstrategiaChave<Integer> {
 		/*
 		 * Clculo da chave.
 		 */
+		chave = Math.abs(conteudo);
 
-		
 		/*
 		 * Retorno da chave.
 		 */
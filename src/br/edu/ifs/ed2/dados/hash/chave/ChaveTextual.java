@@ -46,6 +46,7 @@ public class ChaveTextual implements EstrategiaChave<String> {
 		 */
 		for (int i = 0; i < conteudo.length(); ++i) {
 
+			chave = 31 * chave + Character.toLowerCase(conteudo.charAt(i));
 		}
 
 		/*
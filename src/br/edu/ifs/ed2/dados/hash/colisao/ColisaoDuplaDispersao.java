@@ -0,0 +1,193 @@
+/**
+ * 
+ */
+package br.edu.ifs.ed2.dados.hash.colisao;
+
+import br.edu.ifs.ed2.dados.hash.Hash;
+import br.edu.ifs.ed2.dados.hash.HashAberto;
+import br.edu.ifs.ed2.dados.hash.espalhamento.EstrategiaEspalhamento;
+
+/**
+ * Classe que implementa a tcnica de disperso dupla para o tratamento de
+ * colises. O deslocamento entre sondagens consecutivas  calculado por uma
+ * segunda funo de espalhamento aplicada  chave do contedo, de modo que
+ * contedos com o mesmo ndice inicial sigam sequncias de sondagem distintas.
+ * O deslocamento  sempre mpar, percorrendo todas as clulas quando o tamanho
+ * da tabela  uma potncia de dois.
+ * 
+ * @author Marlos Tacio Silva
+ *
+ */
+public class ColisaoDuplaDispersao<G> implements EstrategiaColisao<G> {
+
+	/**
+	 * Estratgia de espalhamento utilizada no clculo do deslocamento entre
+	 * sondagens.
+	 */
+	private EstrategiaEspalhamento<G> espalhamento;
+
+	/**
+	 * Construtor da classe.
+	 * 
+	 * @param espalhamento Segunda estratgia de espalhamento, utilizada no clculo
+	 *                     do deslocamento entre sondagens.
+	 */
+	public ColisaoDuplaDispersao(EstrategiaEspalhamento<G> espalhamento) {
+
+		this.espalhamento = espalhamento;
+	}
+
+	/**
+	 * 
+	 */
+	@Override
+	public int obterIndiceLivre(int indiceInicial, Hash<G> tabela, G conteudo) {
+
+		/*
+		 * Coero da tabela para um hash aberto.
+		 */
+		HashAberto<G> hash = (HashAberto<G>) tabela;
+
+		/*
+		 * Obteno dos estados das clulas e inicializao do novo ndice e do
+		 * deslocamento.
+		 */
+		byte estado[] = hash.getEstado();
+		int tamanho = hash.getTamanho();
+		int passo = this.calcularPasso(hash, conteudo);
+		int novoIndice = indiceInicial;
+
+		/*
+		 * Aplicao da tcnica de disperso dupla para a busca de uma clula livre a
+		 * partir do ndice inicial.
+		 */
+		for (int i = 0; i < tamanho; ++i) {
+
+			/*
+			 * Se a clula da tabela estiver livre ou removida ento retornar o ndice
+			 * calculado.
+			 */
+			if (estado[novoIndice] != HashAberto.OCUPADO) {
+
+				return novoIndice;
+			}
+
+			/*
+			 * Clculo do novo ndice
+			 */
+			novoIndice += passo;
+
+			if (novoIndice >= tamanho) {
+
+				novoIndice -= tamanho;
+			}
+		}
+
+		/*
+		 * Indicao de resoluo de coliso mal sucedida.
+		 */
+		return -1;
+	}
+
+	/**
+	 * 
+	 */
+	@Override
+	public int obterIndice(int indiceInicial, Hash<G> tabela, G conteudo) {
+
+		/*
+		 * Coero da tabela para um hash aberto.
+		 */
+		HashAberto<G> hash = (HashAberto<G>) tabela;
+
+		/*
+		 * Obteno dos estados e contedos das clulas e inicializao do ndice e do
+		 * deslocamento.
+		 */
+		byte estado[] = hash.getEstado();
+		G conteudos[] = hash.getTabela();
+		int tamanho = hash.getTamanho();
+		int passo = this.calcularPasso(hash, conteudo);
+		int novoIndice = indiceInicial;
+
+		/*
+		 * Aplicao da tcnica de disperso dupla para a busca de um contedo a partir
+		 * do ndice inicial.
+		 */
+		for (int i = 0; i < tamanho; ++i) {
+
+			/*
+			 * Se a clula da tabela estiver livre ento a busca foi mal sucedida.
+			 */
+			if (estado[novoIndice] == HashAberto.LIVRE) {
+
+				return -1;
+			}
+
+			/*
+			 * Se a clula estiver ocupada e o seu contedo for igual ao do valor buscado
+			 * ento retornar o ndice calculado. As clulas removidas so ignoradas.
+			 */
+			if (estado[novoIndice] == HashAberto.OCUPADO && conteudos[novoIndice].equals(conteudo)) {
+
+				return novoIndice;
+			}
+
+			/*
+			 * Clculo do novo ndice
+			 */
+			novoIndice += passo;
+
+			if (novoIndice >= tamanho) {
+
+				novoIndice -= tamanho;
+			}
+		}
+
+		/*
+		 * Indicao de resoluo de coliso mal sucedida.
+		 */
+		return -1;
+	}
+
+	/**
+	 * Mtodo que verifica se o tamanho da tabela  uma potncia de dois, nico
+	 * caso em que os deslocamentos mpares percorrem todas as clulas.
+	 */
+	@Override
+	public boolean suportaTamanho(int tamanho) {
+
+		return tamanho > 0 && Integer.bitCount(tamanho) == 1;
+	}
+
+	/**
+	 * Mtodo que calcula o deslocamento entre sondagens de um contedo. A segunda
+	 * funo de espalhamento  aplicada sobre o tamanho da tabela menos um, que 
+	 * mpar para tabelas cujo tamanho  uma potncia de dois, evitando que o
+	 * deslocamento seja determinado pelo ndice inicial.
+	 * 
+	 * @param hash     Tabela de espalhamento.
+	 * 
+	 * @param conteudo Contedo em foco.
+	 * 
+	 * @return Deslocamento mpar entre sondagens.
+	 * 
+	 * @throws IllegalArgumentException Caso o contedo seja nulo, j que o
+	 *                                  deslocamento depende da sua chave.
+	 */
+	private int calcularPasso(HashAberto<G> hash, G conteudo) {
+
+		/*
+		 * Uma sondagem linear no lugar da disperso dupla divergiria da sequncia
+		 * utilizada pelas buscas.
+		 */
+		if (conteudo == null) {
+
+			throw new IllegalArgumentException("A disperso dupla requer o contedo para calcular o deslocamento.");
+		}
+
+		int chave = hash.getChave().gerarChave(conteudo);
+
+		return this.espalhamento.calcularIndice(chave, Math.max(hash.getTamanho() - 1, 1)) | 1;
+	}
+}
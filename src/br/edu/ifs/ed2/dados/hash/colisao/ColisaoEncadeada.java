@@ -18,7 +18,7 @@ public class ColisaoEncadeada<G> implements EstrategiaColisao<G> {
 	 * 
 	 */
 	@Override
-	public int obterIndice(int indiceInicial, Hash<G> tabela) {
+	public int obterIndiceLivre(int indiceInicial, Hash<G> tabela, G conteudo) {
 
 		/*
 		 * Inicializao do novo ndice.
@@ -26,8 +26,10 @@ public class ColisaoEncadeada<G> implements EstrategiaColisao<G> {
 		int novoIndice = 0;
 
 		/*
-		 * Resoluo da coliso e, consequentemente, clculo do novo valor do ndice.
+		 * Resoluo da coliso e, consequentemente, clculo do novo valor do ndice. No
+		 * endereamento encadeado, os elementos em coliso compartilham a mesma clula.
 		 */
+		novoIndice = indiceInicial;
 
 		/*
 		 * Retorno do novo ndice.
@@ -48,6 +50,7 @@ public class ColisaoEncadeada<G> implements EstrategiaColisao<G> {
 		 */
 		if (hash.getTabela()[indiceInicial] == null) {
 
+			return -1;
 		}
 
 		/*
@@ -55,6 +58,7 @@ public class ColisaoEncadeada<G> implements EstrategiaColisao<G> {
 		 */
 		if (hash.getTabela()[indiceInicial].buscar(conteudo) == null) {
 
+			return -1;
 		}
 
 		/*
@@ -18,7 +18,7 @@ public class ColisaoLinear<G> implements EstrategiaColisao<G> {
 	 * 
 	 */
 	@Override
-	public int obterIndice(int indiceInicial, Hash<G> tabela) {
+	public int obterIndiceLivre(int indiceInicial, Hash<G> tabela, G conteudo) {
 
 		/*
 		 * Coero da tabela para um hash aberto.
@@ -26,33 +26,33 @@ public class ColisaoLinear<G> implements EstrategiaColisao<G> {
 		HashAberto<G> hash = (HashAberto<G>) tabela;
 
 		/*
-		 * Inicializao do novo ndice.
+		 * Obteno dos estados das clulas e inicializao do novo ndice.
 		 */
-		int novoIndice = 0;
+		byte estado[] = hash.getEstado();
+		int tamanho = hash.getTamanho();
+		int novoIndice = indiceInicial;
 
 		/*
 		 * Aplicao da tcnica de endereamento linear para a busca de uma clula livre
 		 * a partir do ndice inicial.
 		 */
-		for (int i = 0; i < hash.getTamanho(); ++i) {
+		for (int i = 0; i < tamanho; ++i) {
 
 			/*
-			 * Clculo do novo ndice
-			 */
-			novoIndice = 0;
-
-			/*
-			 * Se a clula da tabela estiver livre ento retornar o ndice calculado.
+			 * Se a clula da tabela estiver livre ou removida ento retornar o ndice
+			 * calculado.
 			 */
-			if (hash.getEstado()[novoIndice] == null) {
+			if (estado[novoIndice] != HashAberto.OCUPADO) {
 
+				return novoIndice;
 			}
 
 			/*
-			 * Se a clula da tabela estiver removida ento retornar o ndice calculado.
+			 * Clculo do novo ndice
 			 */
-			if (hash.getEstado()[novoIndice].equals("R")) {
+			if (++novoIndice == tamanho) {
 
+				novoIndice = 0;
 			}
 		}
 
@@ -74,41 +74,42 @@ public class ColisaoLinear<G> implements EstrategiaColisao<G> {
 		HashAberto<G> hash = (HashAberto<G>) tabela;
 
 		/*
-		 * Inicializao do ndice.
+		 * Obteno dos estados e contedos das clulas e inicializao do ndice.
 		 */
-		int novoIndice = 0;
+		byte estado[] = hash.getEstado();
+		G conteudos[] = hash.getTabela();
+		int tamanho = hash.getTamanho();
+		int novoIndice = indiceInicial;
 
 		/*
 		 * Aplicao da tcnica de endereamento linear para a busca de um contedo a
 		 * partir do ndice inicial.
 		 */
-		for (int i = 0; i < hash.getTamanho(); ++i) {
-
-			/*
-			 * 
-			 */
-			novoIndice = 0;
+		for (int i = 0; i < tamanho; ++i) {
 
 			/*
 			 * Se a clula da tabela estiver livre ento a busca foi mal sucedida.
 			 */
-			if (hash.getEstado()[novoIndice] == null) {
+			if (estado[novoIndice] == HashAberto.LIVRE) {
 
+				return -1;
 			}
 
 			/*
-			 * Se a clula da tabela estiver removida ento continuar com a busca.
+			 * Se a clula estiver ocupada e o seu contedo for igual ao do valor buscado
+			 * ento retornar o ndice calculado. As clulas removidas so ignoradas.
 			 */
-			if (hash.getEstado()[novoIndice].equals("R")) {
+			if (estado[novoIndice] == HashAberto.OCUPADO && conteudos[novoIndice].equals(conteudo)) {
 
+				return novoIndice;
 			}
 
 			/*
-			 * Se o contedo da clula for igual ao do valor buscado ento retornar o ndice
-			 * calculado.
+			 * Clculo do novo ndice
 			 */
-			if (hash.getTabela()[novoIndice].equals(conteudo)) {
+			if (++novoIndice == tamanho) {
 
+				novoIndice = 0;
 			}
 		}
 
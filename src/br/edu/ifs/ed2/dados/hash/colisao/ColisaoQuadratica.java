@@ -0,0 +1,139 @@
+/**
+ * 
+ */
+package br.edu.ifs.ed2.dados.hash.colisao;
+
+import br.edu.ifs.ed2.dados.hash.Hash;
+import br.edu.ifs.ed2.dados.hash.HashAberto;
+
+/**
+ * Classe que implementa a tcnica quadrtica de tratamento de colises. A
+ * i-sima sondagem  deslocada do ndice inicial pelo i-simo nmero triangular
+ * (0, 1, 3, 6, 10, ...), o que evita os agrupamentos primrios da tcnica
+ * linear e percorre todas as clulas quando o tamanho da tabela  uma potncia
+ * de dois.
+ * 
+ * @author Marlos Tacio Silva
+ *
+ */
+public class ColisaoQuadratica<G> implements EstrategiaColisao<G> {
+
+	/**
+	 * 
+	 */
+	@Override
+	public int obterIndiceLivre(int indiceInicial, Hash<G> tabela, G conteudo) {
+
+		/*
+		 * Coero da tabela para um hash aberto.
+		 */
+		HashAberto<G> hash = (HashAberto<G>) tabela;
+
+		/*
+		 * Obteno dos estados das clulas e inicializao do novo ndice.
+		 */
+		byte estado[] = hash.getEstado();
+		int tamanho = hash.getTamanho();
+		int novoIndice = indiceInicial;
+
+		/*
+		 * Aplicao da tcnica de endereamento quadrtico para a busca de uma clula
+		 * livre a partir do ndice inicial.
+		 */
+		for (int i = 0; i < tamanho; ++i) {
+
+			/*
+			 * Se a clula da tabela estiver livre ou removida ento retornar o ndice
+			 * calculado.
+			 */
+			if (estado[novoIndice] != HashAberto.OCUPADO) {
+
+				return novoIndice;
+			}
+
+			/*
+			 * Clculo do novo ndice
+			 */
+			novoIndice += i + 1;
+
+			if (novoIndice >= tamanho) {
+
+				novoIndice -= tamanho;
+			}
+		}
+
+		/*
+		 * Indicao de resoluo de coliso mal sucedida.
+		 */
+		return -1;
+	}
+
+	/**
+	 * 
+	 */
+	@Override
+	public int obterIndice(int indiceInicial, Hash<G> tabela, G conteudo) {
+
+		/*
+		 * Coero da tabela para um hash aberto.
+		 */
+		HashAberto<G> hash = (HashAberto<G>) tabela;
+
+		/*
+		 * Obteno dos estados e contedos das clulas e inicializao do ndice.
+		 */
+		byte estado[] = hash.getEstado();
+		G conteudos[] = hash.getTabela();
+		int tamanho = hash.getTamanho();
+		int novoIndice = indiceInicial;
+
+		/*
+		 * Aplicao da tcnica de endereamento quadrtico para a busca de um contedo
+		 * a partir do ndice inicial.
+		 */
+		for (int i = 0; i < tamanho; ++i) {
+
+			/*
+			 * Se a clula da tabela estiver livre ento a busca foi mal sucedida.
+			 */
+			if (estado[novoIndice] == HashAberto.LIVRE) {
+
+				return -1;
+			}
+
+			/*
+			 * Se a clula estiver ocupada e o seu contedo for igual ao do valor buscado
+			 * ento retornar o ndice calculado. As clulas removidas so ignoradas.
+			 */
+			if (estado[novoIndice] == HashAberto.OCUPADO && conteudos[novoIndice].equals(conteudo)) {
+
+				return novoIndice;
+			}
+
+			/*
+			 * Clculo do novo ndice
+			 */
+			novoIndice += i + 1;
+
+			if (novoIndice >= tamanho) {
+
+				novoIndice -= tamanho;
+			}
+		}
+
+		/*
+		 * Indicao de resoluo de coliso mal sucedida.
+		 */
+		return -1;
+	}
+
+	/**
+	 * Mtodo que verifica se o tamanho da tabela  uma potncia de dois, nico
+	 * caso em que os deslocamentos triangulares percorrem todas as clulas.
+	 */
+	@Override
+	public boolean suportaTamanho(int tamanho) {
+
+		return tamanho > 0 && Integer.bitCount(tamanho) == 1;
+	}
+}
@@ -0,0 +1,104 @@
+/**
+ * 
+ */
+package br.edu.ifs.ed2.dados.hash.colisao;
+
+import br.edu.ifs.ed2.dados.hash.Hash;
+import br.edu.ifs.ed2.dados.hash.HashAberto;
+import br.edu.ifs.ed2.dados.hash.HashRobinHood;
+
+/**
+ * Classe que implementa a tcnica linear de tratamento de colises segundo a
+ * poltica Robin Hood, utilizada exclusivamente pela tabela
+ * {@link br.edu.ifs.ed2.dados.hash.HashRobinHood}. Na insero, a resoluo da
+ * coliso  efetuada pela prpria tabela, que troca os contedos de acordo com
+ * as suas distncias aos ndices iniciais. Na busca, a sondagem  interrompida
+ * assim que uma clula contm um contedo mais prximo do seu ndice inicial
+ * do que o contedo buscado estaria.
+ * 
+ * @author Marlos Tacio Silva
+ *
+ */
+public class ColisaoRobinHood<G> implements EstrategiaColisao<G> {
+
+	/**
+	 * Mtodo que retorna o prprio ndice inicial, a partir do qual a tabela
+	 * efetua a insero, ou -1, caso a tabela esteja cheia.
+	 */
+	@Override
+	public int obterIndiceLivre(int indiceInicial, Hash<G> tabela, G conteudo) {
+
+		/*
+		 * Verificao e, consequente, indicao de tabela cheia.
+		 */
+		if (tabela.getQuantidade() >= tabela.getTamanho()) {
+
+			return -1;
+		}
+
+		/*
+		 * Retorno do ndice inicial.
+		 */
+		return indiceInicial;
+	}
+
+	/**
+	 * 
+	 */
+	@Override
+	public int obterIndice(int indiceInicial, Hash<G> tabela, G conteudo) {
+
+		/*
+		 * Coero da tabela para um hash Robin Hood.
+		 */
+		HashRobinHood<G> hash = (HashRobinHood<G>) tabela;
+
+		/*
+		 * Obteno dos estados, contedos e distncias das clulas e inicializao do
+		 * ndice.
+		 */
+		byte estado[] = hash.getEstado();
+		G conteudos[] = hash.getTabela();
+		int distancia[] = hash.getDistancia();
+		int tamanho = hash.getTamanho();
+		int novoIndice = indiceInicial;
+
+		/*
+		 * Aplicao da tcnica de endereamento linear para a busca de um contedo a
+		 * partir do ndice inicial, sendo i a distncia ao ndice inicial.
+		 */
+		for (int i = 0; i < tamanho; ++i) {
+
+			/*
+			 * Se a clula da tabela estiver livre ou contiver um contedo mais prximo do
+			 * seu ndice inicial ento a busca foi mal sucedida.
+			 */
+			if (estado[novoIndice] != HashAberto.OCUPADO || distancia[novoIndice] < i) {
+
+				return -1;
+			}
+
+			/*
+			 * Se o contedo da clula for igual ao do valor buscado ento retornar o ndice
+			 * calculado.
+			 */
+			if (conteudos[novoIndice].equals(conteudo)) {
+
+				return novoIndice;
+			}
+
+			/*
+			 * Clculo do novo ndice
+			 */
+			if (++novoIndice == tamanho) {
+
+				novoIndice = 0;
+			}
+		}
+
+		/*
+		 * Indicao de resoluo de coliso mal sucedida.
+		 */
+		return -1;
+	}
+}
@@ -15,7 +15,9 @@ public interface EstrategiaColisao<G> {
 
 	/**
 	 * Mtodo que aplica uma tcnica de tratamento de coliso, a partir de um ndice
-	 * inicial, no intuito de obter o ndice de uma clula no ocupada.
+	 * inicial, no intuito de obter o ndice de uma clula no ocupada, sem
+	 * considerar o contedo a ser inserido. Equivale ao mtodo
+	 * {@link #obterIndiceLivre(int, Hash, Object)} com um contedo nulo.
 	 * 
 	 * @param indiceInicial ndice inicial.
 	 * 
@@ -23,8 +25,35 @@ public interface EstrategiaColisao<G> {
 	 * 
 	 * @return ndice obtido aps a resoluo da coliso, em caso de resoluo bem
 	 *         sucedida, ou -1, em caso de tabela cheia.
+	 * 
+	 * @deprecated As tcnicas cuja sequncia de sondagem depende da chave (e.g.,
+	 *             disperso dupla) no podem atender a este mtodo, pois o
+	 *             contedo  desconhecido, e o rejeitam. Deve ser utilizado o
+	 *             mtodo {@link #obterIndiceLivre(int, Hash, Object)}.
+	 */
+	@Deprecated
+	public default int obterIndice(int indiceInicial, Hash<G> tabela) {
+
+		return this.obterIndiceLivre(indiceInicial, tabela, null);
+	}
+
+	/**
+	 * Mtodo que aplica uma tcnica de tratamento de coliso, a partir de um ndice
+	 * inicial, no intuito de obter o ndice de uma clula no ocupada para a
+	 * insero de um determinado contedo. O contedo  considerado apenas pelas
+	 * tcnicas cuja sequncia de sondagem dependa da chave (e.g., disperso dupla),
+	 * sendo ignorado pelas demais.
+	 * 
+	 * @param indiceInicial ndice inicial.
+	 * 
+	 * @param tabela        Tabela de espalhamento.
+	 * 
+	 * @param conteudo      Contedo a ser inserido, possivelmente nulo.
+	 * 
+	 * @return ndice obtido aps a resoluo da coliso, em caso de resoluo bem
+	 *         sucedida, ou -1, em caso de tabela cheia.
 	 */
-	public int obterIndice(int indiceInicial, Hash<G> tabela);
+	public int obterIndiceLivre(int indiceInicial, Hash<G> tabela, G conteudo);
 
 	/**
 	 * Mtodo que aplica uma tcnica de tratamento de coliso, a partir de um ndice
@@ -42,4 +71,18 @@ public interface EstrategiaColisao<G> {
 	 */
 	public int obterIndice(int indiceInicial, Hash<G> tabela, G conteudo);
 
+	/**
+	 * Mtodo que verifica se a tcnica de tratamento de coliso percorre todas as
+	 * clulas de uma tabela com o tamanho informado. Por padro, todos os tamanhos
+	 * so suportados.
+	 * 
+	 * @param tamanho Tamanho da tabela de espalhamento.
+	 * 
+	 * @return Verdadeiro, caso o tamanho seja suportado, ou falso, caso contrrio.
+	 */
+	public default boolean suportaTamanho(int tamanho) {
+
+		return true;
+	}
+
 }
@@ -23,9 +23,10 @@ public class EspalhamentoDivisao<G> implements EstrategiaEspalhamento<G> {
 		int indice = 0;
 
 		/*
-		 * Clculo do ndice com base na tcnica de diviso
+		 * Clculo do ndice com base na tcnica de diviso, mantendo o ndice no
+		 * negativo mesmo para chaves negativas (e.g., chaves textuais longas).
 		 */
-		indice = 0;
+		indice = Math.floorMod(chave, tamanho);
 
 		/*
 		 * Retorno do ndice
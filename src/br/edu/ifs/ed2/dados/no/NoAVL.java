@@ -0,0 +1,64 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.no;
+
+/**
+ * Classe que implementas as operaes de um n com encadeamento triplo que
+ * armazena a altura de sua subrvore, utilizado por rvores AVL.
+ *
+ * @author Marlos Tacio Silva
+ *
+ */
+public class NoAVL<G> extends NoTriplo<G> {
+
+	/*
+	 * Atributos -------------------------------------------------------------------
+	 */
+
+	/**
+	 * Atributo que armazena a altura da subrvore cuja raiz  o n, sendo um para
+	 * o n folha.
+	 */
+	private int altura;
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe.
+	 *
+	 * @param conteudo Contedo do n.
+	 */
+	public NoAVL(G conteudo) {
+
+		super(conteudo);
+
+		this.setAltura(1);
+	}
+
+	/*
+	 * Gets e Sets -----------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna a altura da subrvore cuja raiz  o n.
+	 *
+	 * @return Altura da subrvore.
+	 */
+	public int getAltura() {
+
+		return this.altura;
+	}
+
+	/**
+	 * Mtodo que altera a altura da subrvore cuja raiz  o n.
+	 *
+	 * @param altura Nova altura da subrvore.
+	 */
+	public void setAltura(int altura) {
+
+		this.altura = altura;
+	}
+}
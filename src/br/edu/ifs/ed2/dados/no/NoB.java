@@ -0,0 +1,261 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.no;
+
+/**
+ * Classe que implementas as operaes de um n de uma rvore B, o qual armazena
+ * um conjunto ordenado de chaves e as referncias para os seus filhos em vetores
+ * contguos.
+ *
+ * @author Marlos Tacio Silva
+ *
+ */
+public class NoB<G> {
+
+	/*
+	 * Atributos -------------------------------------------------------------------
+	 */
+
+	/**
+	 * Vetor que armazena as chaves do n, em ordem crescente.
+	 */
+	private Object chaves[];
+
+	/**
+	 * Vetor que armazena as referncias para os filhos do n, ou nulo, caso o n
+	 * seja uma folha.
+	 */
+	private NoB<G> filhos[];
+
+	/**
+	 * Quantidade de chaves armazenadas no n.
+	 */
+	private int quantidade;
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe.
+	 *
+	 * @param capacidade Quantidade mxima de chaves do n.
+	 *
+	 * @param folha      Verdadeiro, caso o n seja uma folha, ou falso, caso
+	 *                   contrrio.
+	 */
+	@SuppressWarnings("unchecked")
+	public NoB(int capacidade, boolean folha) {
+
+		this.chaves = new Object[capacidade];
+
+		if (!folha) {
+
+			this.filhos = (NoB<G>[]) new NoB<?>[capacidade + 1];
+		}
+	}
+
+	/*
+	 * Mtodos pblicos ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que verifica se o n  uma folha.
+	 *
+	 * @return Verdadeiro, caso o n seja uma folha, ou falso, caso contrrio.
+	 */
+	public boolean ehFolha() {
+
+		return this.filhos == null;
+	}
+
+	/**
+	 * Mtodo que insere uma chave em uma determinada posio do n, deslocando as
+	 * chaves seguintes para a direita.
+	 *
+	 * @param posicao Posio da chave.
+	 *
+	 * @param chave   Chave a ser inserida.
+	 */
+	public void inserirChave(int posicao, G chave) {
+
+		System.arraycopy(this.chaves, posicao, this.chaves, posicao + 1, this.quantidade - posicao);
+
+		this.chaves[posicao] = chave;
+		++this.quantidade;
+	}
+
+	/**
+	 * Mtodo que remove a chave de uma determinada posio do n, deslocando as
+	 * chaves seguintes para a esquerda.
+	 *
+	 * @param posicao Posio da chave.
+	 *
+	 * @return Chave removida.
+	 */
+	public G removerChave(int posicao) {
+
+		G chave = this.getChave(posicao);
+
+		System.arraycopy(this.chaves, posicao + 1, this.chaves, posicao, this.quantidade - posicao - 1);
+
+		this.chaves[--this.quantidade] = null;
+
+		return chave;
+	}
+
+	/**
+	 * Mtodo que insere um filho em uma determinada posio do n, deslocando os
+	 * filhos seguintes para a direita. A quantidade de chaves no  alterada.
+	 *
+	 * @param posicao Posio do filho.
+	 *
+	 * @param filho   Filho a ser inserido.
+	 */
+	public void inserirFilho(int posicao, NoB<G> filho) {
+
+		System.arraycopy(this.filhos, posicao, this.filhos, posicao + 1, this.quantidade - posicao);
+
+		this.filhos[posicao] = filho;
+	}
+
+	/**
+	 * Mtodo que remove o filho de uma determinada posio do n, deslocando os
+	 * filhos seguintes para a esquerda. A quantidade de chaves no  alterada.
+	 *
+	 * @param posicao Posio do filho.
+	 *
+	 * @return Filho removido.
+	 */
+	public NoB<G> removerFilho(int posicao) {
+
+		NoB<G> filho = this.filhos[posicao];
+
+		System.arraycopy(this.filhos, posicao + 1, this.filhos, posicao, this.quantidade - posicao);
+
+		this.filhos[this.quantidade] = null;
+
+		return filho;
+	}
+
+	/**
+	 * Mtodo que transfere as chaves e os filhos a partir de uma determinada
+	 * posio para o final de outro n, removendo-os deste n.
+	 *
+	 * @param posicao Posio da primeira chave a ser transferida.
+	 *
+	 * @param destino N de destino.
+	 */
+	public void transferir(int posicao, NoB<G> destino) {
+
+		int total = this.quantidade - posicao;
+
+		System.arraycopy(this.chaves, posicao, destino.chaves, destino.quantidade, total);
+
+		if (!this.ehFolha()) {
+
+			System.arraycopy(this.filhos, posicao, destino.filhos, destino.quantidade, total + 1);
+		}
+
+		for (int i = posicao; i <= this.quantidade; ++i) {
+
+			if (i < this.quantidade) {
+
+				this.chaves[i] = null;
+			}
+
+			if (!this.ehFolha()) {
+
+				this.filhos[i] = null;
+			}
+		}
+
+		destino.quantidade += total;
+		this.quantidade = posicao;
+	}
+
+	/*
+	 * Gets e Sets -----------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna a chave de uma determinada posio do n.
+	 *
+	 * @param posicao Posio da chave.
+	 *
+	 * @return Chave armazenada na posio.
+	 */
+	@SuppressWarnings("unchecked")
+	public G getChave(int posicao) {
+
+		return (G) this.chaves[posicao];
+	}
+
+	/**
+	 * Mtodo que altera a chave de uma determinada posio do n.
+	 *
+	 * @param posicao Posio da chave.
+	 *
+	 * @param chave   Nova chave.
+	 */
+	public void setChave(int posicao, G chave) {
+
+		this.chaves[posicao] = chave;
+	}
+
+	/**
+	 * Mtodo que retorna o filho de uma determinada posio do n.
+	 *
+	 * @param posicao Posio do filho.
+	 *
+	 * @return Filho armazenado na posio.
+	 */
+	public NoB<G> getFilho(int posicao) {
+
+		return this.filhos[posicao];
+	}
+
+	/**
+	 * Mtodo que altera o filho de uma determinada posio do n.
+	 *
+	 * @param posicao Posio do filho.
+	 *
+	 * @param filho   Novo filho.
+	 */
+	public void setFilho(int posicao, NoB<G> filho) {
+
+		this.filhos[posicao] = filho;
+	}
+
+	/**
+	 * Mtodo que retorna a quantidade de chaves armazenadas no n.
+	 *
+	 * @return Quantidade de chaves.
+	 */
+	public int getQuantidade() {
+
+		return this.quantidade;
+	}
+
+	/*
+	 * Mtodos Sobrescritos --------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna uma representao das chaves do n no formato texto
+	 * (string).
+	 */
+	@Override
+	public String toString() {
+
+		StringBuilder string = new StringBuilder("[");
+
+		for (int i = 0; i < this.quantidade; ++i) {
+
+			string.append(i == 0 ? "" : " ").append(this.chaves[i]);
+		}
+
+		return string.append("]").toString();
+	}
+}
@@ -0,0 +1,64 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.no;
+
+/**
+ * Classe que implementas as operaes de um n AVL que armazena, alm da
+ * altura, a quantidade de ocorrncias de seu contedo, utilizado por rvores
+ * de multiconjuntos.
+ *
+ * @author Marlos Tacio Silva
+ *
+ */
+public class NoContado<G> extends NoAVL<G> {
+
+	/*
+	 * Atributos -------------------------------------------------------------------
+	 */
+
+	/**
+	 * Atributo que armazena a quantidade de ocorrncias do contedo do n.
+	 */
+	private int ocorrencias;
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe. Todo n  construdo com uma nica ocorrncia.
+	 *
+	 * @param conteudo Contedo do n.
+	 */
+	public NoContado(G conteudo) {
+
+		super(conteudo);
+
+		this.setOcorrencias(1);
+	}
+
+	/*
+	 * Gets e Sets -----------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna a quantidade de ocorrncias do contedo do n.
+	 *
+	 * @return Quantidade de ocorrncias.
+	 */
+	public int getOcorrencias() {
+
+		return this.ocorrencias;
+	}
+
+	/**
+	 * Mtodo que altera a quantidade de ocorrncias do contedo do n.
+	 *
+	 * @param ocorrencias Nova quantidade de ocorrncias.
+	 */
+	public void setOcorrencias(int ocorrencias) {
+
+		this.ocorrencias = ocorrencias;
+	}
+}
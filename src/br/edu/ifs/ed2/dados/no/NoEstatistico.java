@@ -0,0 +1,65 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.no;
+
+/**
+ * Classe que implementas as operaes de um n AVL que armazena, alm da
+ * altura, a quantidade de ns de sua subrvore, utilizado por rvores de
+ * estatsticas de ordem.
+ *
+ * @author Marlos Tacio Silva
+ *
+ */
+public class NoEstatistico<G> extends NoAVL<G> {
+
+	/*
+	 * Atributos -------------------------------------------------------------------
+	 */
+
+	/**
+	 * Atributo que armazena a quantidade de ns da subrvore cuja raiz  o n,
+	 * incluindo o prprio n.
+	 */
+	private int tamanho;
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe.
+	 *
+	 * @param conteudo Contedo do n.
+	 */
+	public NoEstatistico(G conteudo) {
+
+		super(conteudo);
+
+		this.setTamanho(1);
+	}
+
+	/*
+	 * Gets e Sets -----------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna a quantidade de ns da subrvore cuja raiz  o n.
+	 *
+	 * @return Quantidade de ns da subrvore.
+	 */
+	public int getTamanho() {
+
+		return this.tamanho;
+	}
+
+	/**
+	 * Mtodo que altera a quantidade de ns da subrvore cuja raiz  o n.
+	 *
+	 * @param tamanho Nova quantidade de ns da subrvore.
+	 */
+	public void setTamanho(int tamanho) {
+
+		this.tamanho = tamanho;
+	}
+}
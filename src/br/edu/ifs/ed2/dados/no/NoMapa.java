@@ -0,0 +1,62 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.no;
+
+/**
+ * Classe que implementas as operaes de um n AVL cujo contedo  uma chave e
+ * que armazena, alm da altura, o valor associado a essa chave, utilizado por
+ * rvores de mapeamento.
+ *
+ * @author Marlos Tacio Silva
+ *
+ */
+public class NoMapa<K, V> extends NoAVL<K> {
+
+	/*
+	 * Atributos -------------------------------------------------------------------
+	 */
+
+	/**
+	 * Atributo que armazena o valor associado  chave do n.
+	 */
+	private V valor;
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe.
+	 *
+	 * @param chave Chave do n.
+	 */
+	public NoMapa(K chave) {
+
+		super(chave);
+	}
+
+	/*
+	 * Gets e Sets -----------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna o valor associado  chave do n.
+	 *
+	 * @return Valor associado, possivelmente nulo.
+	 */
+	public V getValor() {
+
+		return this.valor;
+	}
+
+	/**
+	 * Mtodo que altera o valor associado  chave do n.
+	 *
+	 * @param valor Novo valor associado.
+	 */
+	public void setValor(V valor) {
+
+		this.valor = valor;
+	}
+}
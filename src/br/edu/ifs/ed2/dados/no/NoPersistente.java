@@ -0,0 +1,165 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.no;
+
+/**
+ * Classe que implementas um n imutvel de uma rvore persistente. Todos os
+ * atributos so finais e o n no possui referncia para o pai, de modo que
+ * uma mesma subrvore possa ser compartilhada por diversas verses da rvore e
+ * lida por diversas threads sem sincronizao.
+ *
+ * @author Marlos Tacio Silva
+ *
+ */
+public final class NoPersistente<G> {
+
+	/*
+	 * Atributos -------------------------------------------------------------------
+	 */
+
+	/**
+	 * Atributo que armazena o contedo do n.
+	 */
+	private final G conteudo;
+
+	/**
+	 * Atributo que armazena uma referncia para o n que modela o filho esquerdo.
+	 */
+	private final NoPersistente<G> esquerdo;
+
+	/**
+	 * Atributo que armazena uma referncia para o n que modela o filho direito.
+	 */
+	private final NoPersistente<G> direito;
+
+	/**
+	 * Atributo que armazena a altura da subrvore cuja raiz  o n, sendo um para
+	 * o n folha.
+	 */
+	private final int altura;
+
+	/**
+	 * Atributo que armazena a quantidade de ns da subrvore cuja raiz  o n.
+	 */
+	private final int tamanho;
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe. A altura e o tamanho so calculados a partir dos
+	 * filhos.
+	 *
+	 * @param conteudo Contedo do n.
+	 *
+	 * @param esquerdo Filho esquerdo, possivelmente nulo.
+	 *
+	 * @param direito  Filho direito, possivelmente nulo.
+	 */
+	public NoPersistente(G conteudo, NoPersistente<G> esquerdo, NoPersistente<G> direito) {
+
+		this.conteudo = conteudo;
+		this.esquerdo = esquerdo;
+		this.direito = direito;
+
+		this.altura = 1 + Math.max(altura(esquerdo), altura(direito));
+		this.tamanho = 1 + tamanho(esquerdo) + tamanho(direito);
+	}
+
+	/*
+	 * Mtodos pblicos ------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna a altura de um n.
+	 *
+	 * @param no N em foco.
+	 *
+	 * @return Altura do n, ou zero, caso o n seja nulo.
+	 */
+	public static int altura(NoPersistente<?> no) {
+
+		return no == null ? 0 : no.altura;
+	}
+
+	/**
+	 * Mtodo que retorna o tamanho da subrvore de um n.
+	 *
+	 * @param no N em foco.
+	 *
+	 * @return Tamanho da subrvore, ou zero, caso o n seja nulo.
+	 */
+	public static int tamanho(NoPersistente<?> no) {
+
+		return no == null ? 0 : no.tamanho;
+	}
+
+	/*
+	 * Gets e Sets -----------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna o contedo do n.
+	 *
+	 * @return Contedo do n.
+	 */
+	public G getConteudo() {
+
+		return this.conteudo;
+	}
+
+	/**
+	 * Mtodo que retorna uma referncia para o n filho esquerdo.
+	 *
+	 * @return Filho esquerdo, caso exista, ou nulo, caso contrrio.
+	 */
+	public NoPersistente<G> getEsquerdo() {
+
+		return this.esquerdo;
+	}
+
+	/**
+	 * Mtodo que retorna uma referncia para o n filho direito.
+	 *
+	 * @return Filho direito, caso exista, ou nulo, caso contrrio.
+	 */
+	public NoPersistente<G> getDireito() {
+
+		return this.direito;
+	}
+
+	/**
+	 * Mtodo que retorna a altura da subrvore cuja raiz  o n.
+	 *
+	 * @return Altura da subrvore.
+	 */
+	public int getAltura() {
+
+		return this.altura;
+	}
+
+	/**
+	 * Mtodo que retorna a quantidade de ns da subrvore cuja raiz  o n.
+	 *
+	 * @return Quantidade de ns da subrvore.
+	 */
+	public int getTamanho() {
+
+		return this.tamanho;
+	}
+
+	/*
+	 * Mtodos Sobrescritos --------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna uma representao do n em formato texto (string).
+	 */
+	@Override
+	public String toString() {
+
+		return String.valueOf(this.conteudo);
+	}
+}
@@ -0,0 +1,63 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.no;
+
+/**
+ * Classe que implementas as operaes de um n com encadeamento triplo que
+ * armazena uma cor (vermelho ou preto), utilizado por rvores rubro-negras.
+ *
+ * @author Marlos Tacio Silva
+ *
+ */
+public class NoRubroNegro<G> extends NoTriplo<G> {
+
+	/*
+	 * Atributos -------------------------------------------------------------------
+	 */
+
+	/**
+	 * Atributo que indica se o n  vermelho (verdadeiro) ou preto (falso).
+	 */
+	private boolean vermelho;
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe. Todo n  construdo com a cor vermelha.
+	 *
+	 * @param conteudo Contedo do n.
+	 */
+	public NoRubroNegro(G conteudo) {
+
+		super(conteudo);
+
+		this.setVermelho(true);
+	}
+
+	/*
+	 * Gets e Sets -----------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que verifica se o n  vermelho.
+	 *
+	 * @return Verdadeiro, caso o n seja vermelho, ou falso, caso seja preto.
+	 */
+	public boolean ehVermelho() {
+
+		return this.vermelho;
+	}
+
+	/**
+	 * Mtodo que altera a cor do n.
+	 *
+	 * @param vermelho Verdadeiro, para a cor vermelha, ou falso, para a cor preta.
+	 */
+	public void setVermelho(boolean vermelho) {
+
+		this.vermelho = vermelho;
+	}
+}
@@ -0,0 +1,77 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.no;
+
+import java.util.concurrent.atomic.AtomicMarkableReference;
+
+/**
+ * Classe que implementas as operaes de um n de uma lista de saltos
+ * concorrente. Cada nvel do n possui uma referncia atmica para o prximo
+ * n, acompanhada de uma marca que indica a remoo lgica do n naquele nvel.
+ *
+ * @author Marlos Tacio Silva
+ *
+ */
+public class NoSalto<G> extends No<G> {
+
+	/*
+	 * Atributos -------------------------------------------------------------------
+	 */
+
+	/**
+	 * Atributo que armazena, para cada nvel, a referncia marcvel para o prximo
+	 * n.
+	 */
+	private final AtomicMarkableReference<NoSalto<G>>[] proximos;
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe.
+	 *
+	 * @param conteudo Contedo do n.
+	 *
+	 * @param altura   Quantidade de nveis do n.
+	 */
+	@SuppressWarnings("unchecked")
+	public NoSalto(G conteudo, int altura) {
+
+		super(conteudo);
+
+		this.proximos = (AtomicMarkableReference<NoSalto<G>>[]) new AtomicMarkableReference<?>[altura];
+
+		for (int nivel = 0; nivel < altura; ++nivel) {
+
+			this.proximos[nivel] = new AtomicMarkableReference<NoSalto<G>>(null, false);
+		}
+	}
+
+	/*
+	 * Gets e Sets -----------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna a referncia marcvel para o prximo n em um nvel.
+	 *
+	 * @param nivel Nvel em foco, iniciando em zero.
+	 *
+	 * @return Referncia marcvel para o prximo n.
+	 */
+	public AtomicMarkableReference<NoSalto<G>> getProximo(int nivel) {
+
+		return this.proximos[nivel];
+	}
+
+	/**
+	 * Mtodo que retorna a quantidade de nveis do n.
+	 *
+	 * @return Quantidade de nveis do n.
+	 */
+	public int getAltura() {
+
+		return this.proximos.length;
+	}
+}
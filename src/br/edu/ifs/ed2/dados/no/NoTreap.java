@@ -0,0 +1,84 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.no;
+
+/**
+ * Classe que implementas as operaes de um n com encadeamento triplo que
+ * armazena uma prioridade aleatria e a quantidade de ns de sua subrvore,
+ * utilizado por treaps.
+ *
+ * @author Marlos Tacio Silva
+ *
+ */
+public class NoTreap<G> extends NoTriplo<G> {
+
+	/*
+	 * Atributos -------------------------------------------------------------------
+	 */
+
+	/**
+	 * Atributo que armazena a prioridade do n, que deve ser maior ou igual s
+	 * prioridades de seus descendentes.
+	 */
+	private final int prioridade;
+
+	/**
+	 * Atributo que armazena a quantidade de ns da subrvore cuja raiz  o n,
+	 * incluindo o prprio n.
+	 */
+	private int tamanho;
+
+	/*
+	 * Construtores ----------------------------------------------------------------
+	 */
+
+	/**
+	 * Construtor da classe.
+	 *
+	 * @param conteudo   Contedo do n.
+	 *
+	 * @param prioridade Prioridade do n.
+	 */
+	public NoTreap(G conteudo, int prioridade) {
+
+		super(conteudo);
+
+		this.prioridade = prioridade;
+		this.setTamanho(1);
+	}
+
+	/*
+	 * Gets e Sets -----------------------------------------------------------------
+	 */
+
+	/**
+	 * Mtodo que retorna a prioridade do n.
+	 *
+	 * @return Prioridade do n.
+	 */
+	public int getPrioridade() {
+
+		return this.prioridade;
+	}
+
+	/**
+	 * Mtodo que retorna a quantidade de ns da subrvore cuja raiz  o n.
+	 *
+	 * @return Quantidade de ns da subrvore.
+	 */
+	public int getTamanho() {
+
+		return this.tamanho;
+	}
+
+	/**
+	 * Mtodo que altera a quantidade de ns da subrvore cuja raiz  o n.
+	 *
+	 * @param tamanho Nova quantidade de ns da subrvore.
+	 */
+	public void setTamanho(int tamanho) {
+
+		this.tamanho = tamanho;
+	}
+}
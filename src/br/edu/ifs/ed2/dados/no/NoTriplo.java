@@ -3,6 +3,9 @@
  */
 package br.edu.ifs.ed2.dados.no;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 /**
  * Classe que implementas as operaes de um n com encadeamento triplo.
  * 
@@ -69,6 +72,17 @@ public class NoTriplo<G> extends No<G> {
 		this.pai = pai;
 	}
 
+	/**
+	 * Mtodo que remove a referncia para o n pai. Essa operao no altera os
+	 * filhos do antigo pai, sendo utilizada para desligar o n que assume a raiz
+	 * da rvore.
+	 * 
+	 */
+	public void desvincularPai() {
+
+		this.pai = null;
+	}
+
 	/**
 	 * Mtodo que retorna uma referncia para o n filho esquerdo.
 	 * 
@@ -136,58 +150,105 @@ public class NoTriplo<G> extends No<G> {
 	}
 
 	/*
-	 * Mtodos Sobrescritos --------------------------------------------------------
+	 * Mtodos pblicos ------------------------------------------------------------
 	 */
 
 	/**
-	 * Mtodo que retorna uma representao da rvore no formato texto (string).
-	 * Para essa representao  utilizado o mtodo de caminhamento em ordem.
+	 * Mtodo que escreve a representao da subrvore cuja raiz  o n no formato
+	 * texto, efetuando o caminhamento em pr-ordem. O percurso  iterativo e
+	 * utiliza as referncias aos pais, de modo que a memria adicional seja
+	 * constante, independentemente da altura da subrvore, e o texto seja escrito
+	 * diretamente no destino, sem a construo de textos intermedirios.
+	 *
+	 * @param saida Destino do texto.
+	 *
+	 * @throws IOException Caso ocorra um erro na escrita.
 	 */
-	@Override
-	public String toString() {
+	public void escrever(Appendable saida) throws IOException {
+
+		NoTriplo<G> no = this;
+
+		while (true) {
+
+			/*
+			 * Adiciona o contedo do n em foco ao destino.
+			 */
+			saida.append(String.valueOf(no.getConteudo()));
+
+			/*
+			 * Se pelo menos um dos ns filhos no for nulo, ento descer para o primeiro
+			 * filho no nulo, representando o filho esquerdo nulo por um trao.
+			 */
+			if (no.getEsquerdo() != null) {
+
+				saida.append("( ");
+				no = no.getEsquerdo();
+				continue;
+			}
+
+			if (no.getDireito() != null) {
+
+				saida.append("( - , ");
+				no = no.getDireito();
+				continue;
+			}
+
+			/*
+			 * Ao atingir uma folha, subir at o primeiro ancestral cujo filho direito ainda
+			 * no foi percorrido, encerrando as subrvores concludas.
+			 */
+			while (true) {
 
-		return this.mostrarPreOrdem(this);
+				if (no == this) {
+
+					return;
+				}
+
+				NoTriplo<G> pai = no.getPai();
+
+				/*
+				 * Ao concluir o filho esquerdo, seguir para o filho direito, caso exista.
+				 */
+				if (no == pai.getEsquerdo()) {
+
+					saida.append(" , ");
+
+					if (pai.getDireito() != null) {
+
+						no = pai.getDireito();
+						break;
+					}
+
+					saida.append("-");
+				}
+
+				saida.append(" )");
+				no = pai;
+			}
+		}
 	}
 
 	/*
-	 * Mtodos privados ------------------------------------------------------------
+	 * Mtodos Sobrescritos --------------------------------------------------------
 	 */
 
 	/**
-	 * Mtodo que efetua o caminhamento em ordem a partir de um determinado n.
-	 * 
-	 * @param no N de incio do percurso.
-	 * 
-	 * @return Representao da rvore em formato texto.
+	 * Mtodo que retorna uma representao da rvore no formato texto (string).
+	 * Para essa representao  utilizado o mtodo de caminhamento em pr-ordem.
 	 */
-	private String mostrarPreOrdem(NoTriplo<G> no) {
+	@Override
+	public String toString() {
+
+		StringBuilder string = new StringBuilder();
 
-		/*
-		 * Representao do n nulo.
-		 */
-		if (no == null) {
+		try {
 
-			return "-";
+			this.escrever(string);
 		}
 
-		StringBuilder string = new StringBuilder();
+		catch (IOException e) {
 
-		/*
-		 * Adiciona o contedo do n pai  estrutura de texto.
-		 */
-		string.append(no.getConteudo());
-
-		/*
-		 * Se pelo menos um dos ns filhos no for nulo, ento adicionar recursivamente
-		 * os ns filhos  estrutura de texto.
-		 */
-		if (no.getEsquerdo() != null || no.getDireito() != null) {
-
-			string.append("( ");
-			string.append(mostrarPreOrdem(no.getEsquerdo()));
-			string.append(" , ");
-			string.append(mostrarPreOrdem(no.getDireito()));
-			string.append(" )");
+			throw new UncheckedIOException(e);
 		}
 
 		return string.toString();
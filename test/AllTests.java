@@ -5,22 +5,49 @@ import org.junit.runners.Suite.SuiteClasses;
 
 import br.edu.ifs.ed2.dados.TesteFila;
 import br.edu.ifs.ed2.dados.TestePilha;
+import br.edu.ifs.ed2.dados.arvore.TesteArvoreAVL;
+import br.edu.ifs.ed2.dados.arvore.TesteArvoreB;
+import br.edu.ifs.ed2.dados.arvore.TesteArvoreEstatica;
 import br.edu.ifs.ed2.dados.arvore.TesteArvoreBinaria;
+import br.edu.ifs.ed2.dados.arvore.TesteArvoreBinariaConcorrente;
+import br.edu.ifs.ed2.dados.arvore.TesteArvoreEstatistica;
+import br.edu.ifs.ed2.dados.arvore.TesteArvoreMapa;
+import br.edu.ifs.ed2.dados.arvore.TesteArvoreMulticonjunto;
+import br.edu.ifs.ed2.dados.arvore.TesteArvorePersistente;
+import br.edu.ifs.ed2.dados.arvore.TesteArvoreRubroNegra;
+import br.edu.ifs.ed2.dados.arvore.TesteArvoreSplay;
+import br.edu.ifs.ed2.dados.arvore.TesteArvoreTreap;
+import br.edu.ifs.ed2.dados.arvore.TesteIntArvoreBinaria;
+import br.edu.ifs.ed2.dados.arvore.TesteListaSaltosConcorrente;
 import br.edu.ifs.ed2.dados.hash.TesteHashAberto;
 import br.edu.ifs.ed2.dados.hash.TesteHashEncadeado;
+import br.edu.ifs.ed2.dados.hash.TesteHashRobinHood;
 import br.edu.ifs.ed2.dados.hash.chave.TesteChaveNumerica;
 import br.edu.ifs.ed2.dados.hash.chave.TesteChaveTextual;
 import br.edu.ifs.ed2.dados.hash.colisao.TesteColisaoEncadeada;
 import br.edu.ifs.ed2.dados.hash.colisao.TesteColisaoLinear;
+import br.edu.ifs.ed2.dados.hash.colisao.TesteColisaoQuadratica;
+import br.edu.ifs.ed2.dados.hash.colisao.TesteColisaoDuplaDispersao;
+import br.edu.ifs.ed2.dados.hash.colisao.TesteComprimentoSondagem;
 import br.edu.ifs.ed2.dados.hash.espalhamento.TesteEspalhamentoDivisao;
 import br.edu.ifs.ed2.dados.lista.TesteListaDupla;
 import br.edu.ifs.ed2.dados.lista.TesteListaSimples;
 
 @RunWith(Suite.class)
 @SuiteClasses({ TesteFila.class, TestePilha.class, TesteListaDupla.class, TesteListaSimples.class,
-		TesteHashAberto.class, TesteHashEncadeado.class, TesteChaveNumerica.class, TesteChaveTextual.class,
-		TesteColisaoEncadeada.class, TesteColisaoLinear.class, TesteEspalhamentoDivisao.class,
-		TesteArvoreBinaria.class })
+		TesteHashAberto.class, TesteHashEncadeado.class, TesteHashRobinHood.class,
+		TesteChaveNumerica.class, TesteChaveTextual.class,
+		TesteColisaoEncadeada.class, TesteColisaoLinear.class, TesteColisaoQuadratica.class,
+		TesteColisaoDuplaDispersao.class, TesteComprimentoSondagem.class, TesteEspalhamentoDivisao.class,
+		TesteArvoreBinaria.class, TesteArvoreAVL.class,
+		TesteArvoreRubroNegra.class, TesteArvoreB.class, TesteArvoreEstatistica.class,
+		TesteIntArvoreBinaria.class, TesteArvoreBinariaConcorrente.class,
+		TesteListaSaltosConcorrente.class, TesteArvorePersistente.class,
+		TesteArvoreSplay.class,
+		TesteArvoreTreap.class,
+		TesteArvoreMulticonjunto.class,
+		TesteArvoreMapa.class,
+		TesteArvoreEstatica.class })
 public class AllTests {
 
 }
@@ -0,0 +1,216 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Comparator;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Marlos Tacio Silva
+ *
+ */
+public class TesteArvoreAVL {
+
+	/*
+	 * rvore AVL utilizada nos testes.
+	 */
+	private ArvoreAVL<Integer> arvore;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+
+		/*
+		 * Inicializao da rvore.
+		 */
+		arvore = new ArvoreAVL<Integer>();
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreAVL#inserir(java.lang.Object)}.
+	 */
+	@Test
+	public void testInserir() {
+
+		/*
+		 * Tentativa de insero de um valor nulo na rvore.
+		 */
+		assertFalse(arvore.inserir(null));
+
+		/*
+		 * Insero de valores crescentes que devem provocar uma rotao  esquerda.
+		 */
+		assertTrue(arvore.inserir(10));
+		assertTrue(arvore.inserir(20));
+		assertTrue(arvore.inserir(30));
+		assertEquals(arvore.toString(), "20( 10 , 30 )");
+
+		/*
+		 * Insero de valores crescentes que devem provocar uma rotao  esquerda na
+		 * subrvore direita.
+		 */
+		assertTrue(arvore.inserir(40));
+		assertTrue(arvore.inserir(50));
+		assertEquals(arvore.toString(), "20( 10 , 40( 30 , 50 ) )");
+
+		/*
+		 * Insero do valor 25 que deve provocar uma rotao dupla na raiz.
+		 */
+		assertTrue(arvore.inserir(25));
+		assertEquals(arvore.toString(), "30( 20( 10 , 25 ) , 40( - , 50 ) )");
+		assertEquals(arvore.altura(), 3);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreAVL#inserir(java.lang.Object)}
+	 * com um grande volume de valores ordenados.
+	 */
+	@Test
+	public void testInserirOrdenado() {
+
+		/*
+		 * Insero de um milho de valores em ordem crescente.
+		 */
+		int quantidade = 1000000;
+
+		for (int i = 0; i < quantidade; ++i) {
+
+			arvore.inserir(i);
+		}
+
+		/*
+		 * A altura de uma rvore AVL com n ns  limitada por 1,44 log2(n + 2).
+		 */
+		double limite = 1.44 * Math.log(quantidade + 2) / Math.log(2);
+
+		assertTrue(arvore.altura() <= limite);
+
+		/*
+		 * A altura armazenada na raiz deve coincidir com a altura calculada nvel a
+		 * nvel pela rvore binria de busca.
+		 */
+		ArvoreBinaria<Integer> binaria = new ArvoreBinaria<Integer>(arvore.getRaiz());
+		assertEquals(binaria.altura(), arvore.altura());
+
+		/*
+		 * Verificao dos valores extremos e de um valor qualquer da rvore.
+		 */
+		assertEquals((int) arvore.minimo().getConteudo(), 0);
+		assertEquals((int) arvore.maximo().getConteudo(), quantidade - 1);
+		assertEquals((int) arvore.buscar(123456).getConteudo(), 123456);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreAVL#remover(java.lang.Object)}.
+	 */
+	@Test
+	public void testRemover() {
+
+		/*
+		 * Construo da rvore de teste.
+		 */
+		for (int valor : new int[] { 10, 20, 30, 40, 50, 25 }) {
+
+			arvore.inserir(valor);
+		}
+
+		/*
+		 * Tentativa de remoo de um valor nulo e de um valor inexistente na rvore.
+		 */
+		assertFalse(arvore.remover(null));
+		assertFalse(arvore.remover(1));
+
+		/*
+		 * Remoo de ns folha que no devem provocar rotaes.
+		 */
+		assertTrue(arvore.remover(10));
+		assertEquals(arvore.toString(), "30( 20( - , 25 ) , 40( - , 50 ) )");
+
+		assertTrue(arvore.remover(25));
+		assertEquals(arvore.toString(), "30( 20 , 40( - , 50 ) )");
+
+		/*
+		 * Remoo do valor 20 que deve provocar uma rotao  esquerda na raiz.
+		 */
+		assertTrue(arvore.remover(20));
+		assertEquals(arvore.toString(), "40( 30 , 50 )");
+
+		/*
+		 * Remoo da raiz, que possui ambos os filhos.
+		 */
+		assertTrue(arvore.remover(40));
+		assertEquals(arvore.toString(), "50( 30 , - )");
+		assertEquals(arvore.altura(), 2);
+	}
+
+	/**
+	 * Testar mtodos para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreAVL#sucessor(java.lang.Object)}
+	 * e
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreAVL#predecessor(java.lang.Object)}.
+	 */
+	@Test
+	public void testSucessorPredecessor() {
+
+		/*
+		 * Insero de valores em ordem crescente.
+		 */
+		for (int i = 1; i <= 100; ++i) {
+
+			arvore.inserir(i);
+		}
+
+		/*
+		 * Verificao do sucessor e do predecessor de todos os valores da rvore.
+		 */
+		for (int i = 1; i < 100; ++i) {
+
+			assertEquals((int) arvore.sucessor(i).getConteudo(), i + 1);
+			assertEquals((int) arvore.predecessor(i + 1).getConteudo(), i);
+		}
+
+		/*
+		 * Os valores extremos no possuem sucessor e predecessor, respectivamente.
+		 */
+		assertNull(arvore.sucessor(100));
+		assertNull(arvore.predecessor(1));
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreAVL#ArvoreAVL(java.util.Comparator)}.
+	 */
+	@Test
+	public void testComparador() {
+
+		/*
+		 * Insero de valores crescentes em uma rvore com a ordem invertida, que devem
+		 * provocar rotaes  direita.
+		 */
+		arvore = new ArvoreAVL<Integer>(Comparator.reverseOrder());
+
+		for (int valor : new int[] { 10, 20, 30, 40, 50, 25 }) {
+
+			assertTrue(arvore.inserir(valor));
+		}
+
+		assertEquals(arvore.toString(), "30( 40( 50 , - ) , 20( 25 , 10 ) )");
+		assertEquals((int) arvore.sucessor(30).getConteudo(), 25);
+
+		assertTrue(arvore.remover(40));
+		assertEquals(arvore.toString(), "30( 50 , 20( 25 , 10 ) )");
+	}
+}
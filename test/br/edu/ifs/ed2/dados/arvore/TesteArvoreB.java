@@ -0,0 +1,266 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import br.edu.ifs.ed2.dados.no.NoB;
+
+/**
+ * @author Marlos Tacio Silva
+ *
+ */
+public class TesteArvoreB {
+
+	/*
+	 * rvore B com capacidade mnima, utilizada para verificar a estrutura.
+	 */
+	private ArvoreB<Integer> arvore;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+
+		/*
+		 * Inicializao da rvore com ns de no mximo trs chaves.
+		 */
+		arvore = new ArvoreB<Integer>(3);
+	}
+
+	/**
+	 * Testar construtor
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreB#ArvoreB(int)} com capacidade
+	 * invlida.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testCapacidadeInvalida() {
+
+		new ArvoreB<Integer>(2);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreB#inserir(java.lang.Comparable)}.
+	 */
+	@Test
+	public void testInserir() {
+
+		/*
+		 * Tentativa de insero de um valor nulo na rvore.
+		 */
+		assertFalse(arvore.inserir(null));
+		assertEquals(arvore.toString(), "");
+
+		/*
+		 * Insero de valores que cabem na raiz.
+		 */
+		assertTrue(arvore.inserir(20));
+		assertTrue(arvore.inserir(10));
+		assertTrue(arvore.inserir(30));
+		assertEquals(arvore.toString(), "[10 20 30]");
+
+		/*
+		 * Tentativa de insero de um valor repetido.
+		 */
+		assertFalse(arvore.inserir(20));
+
+		/*
+		 * Insero de um valor com a raiz cheia, que deve ser dividida.
+		 */
+		assertTrue(arvore.inserir(40));
+		assertEquals(arvore.toString(), "[20]( [10] , [30 40] )");
+
+		/*
+		 * Insero de valores que devem provocar a diviso de uma folha.
+		 */
+		assertTrue(arvore.inserir(50));
+		assertTrue(arvore.inserir(60));
+		assertEquals(arvore.toString(), "[20 40]( [10] , [30] , [50 60] )");
+		assertEquals(arvore.tamanho(), 6);
+		assertEquals(arvore.altura(), 2);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreB#remover(java.lang.Comparable)}.
+	 */
+	@Test
+	public void testRemover() {
+
+		for (int valor : new int[] { 20, 10, 30, 40, 50, 60 }) {
+
+			arvore.inserir(valor);
+		}
+
+		/*
+		 * Remoo de um valor de uma folha com chaves excedentes.
+		 */
+		assertTrue(arvore.remover(60));
+		assertEquals(arvore.toString(), "[20 40]( [10] , [30] , [50] )");
+
+		/*
+		 * Remoo de um valor de um n interno, cujos filhos devem ser fundidos.
+		 */
+		assertTrue(arvore.remover(20));
+		assertEquals(arvore.toString(), "[40]( [10 30] , [50] )");
+
+		/*
+		 * Remoo de um valor de uma folha com a quantidade mnima de chaves, que deve
+		 * receber uma chave do irmo.
+		 */
+		assertTrue(arvore.remover(50));
+		assertEquals(arvore.toString(), "[30]( [10] , [40] )");
+
+		/*
+		 * Tentativa de remoo de um valor nulo e de um valor inexistente na rvore.
+		 * A descida em busca do valor inexistente deve fundir os ns com a quantidade
+		 * mnima de chaves, sem alterar o contedo da rvore.
+		 */
+		assertFalse(arvore.remover(null));
+		assertFalse(arvore.remover(1));
+		assertEquals(arvore.toString(), "[10 30 40]");
+
+		/*
+		 * Remoo de valores at esvaziar a rvore.
+		 */
+		assertTrue(arvore.remover(30));
+		assertEquals(arvore.toString(), "[10 40]");
+		assertTrue(arvore.remover(10));
+		assertTrue(arvore.remover(40));
+		assertEquals(arvore.toString(), "");
+		assertEquals(arvore.tamanho(), 0);
+	}
+
+	/**
+	 * Testar mtodos de busca e navegao da rvore B com diferentes capacidades,
+	 * comparando os resultados com os de um conjunto ordenado.
+	 */
+	@Test
+	public void testOperacoesAleatorias() {
+
+		for (int capacidade : new int[] { 3, 4, 5, 32, 256 }) {
+
+			ArvoreB<Integer> arvore = new ArvoreB<Integer>(capacidade);
+			TreeSet<Integer> referencia = new TreeSet<Integer>();
+			Random aleatorio = new Random(capacidade);
+
+			for (int i = 0; i < 20000; ++i) {
+
+				int valor = aleatorio.nextInt(5000);
+
+				if (aleatorio.nextBoolean()) {
+
+					assertEquals(arvore.inserir(valor), referencia.add(valor));
+				}
+
+				else {
+
+					assertEquals(arvore.remover(valor), referencia.remove(valor));
+				}
+			}
+
+			this.verificar(arvore);
+			assertEquals(arvore.tamanho(), referencia.size());
+
+			/*
+			 * Verificao da busca, do sucessor e do predecessor de todos os valores.
+			 */
+			for (int valor = 0; valor < 5000; ++valor) {
+
+				boolean contido = referencia.contains(valor);
+
+				assertEquals(arvore.buscar(valor), contido ? (Integer) valor : null);
+				assertEquals(arvore.sucessor(valor), contido ? referencia.higher(valor) : null);
+				assertEquals(arvore.predecessor(valor), contido ? referencia.lower(valor) : null);
+			}
+
+			assertEquals(arvore.minimo(), referencia.first());
+			assertEquals(arvore.maximo(), referencia.last());
+		}
+	}
+
+	/**
+	 * Testar mtodos para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreB#minimo()} e
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreB#maximo()} na rvore vazia.
+	 */
+	@Test
+	public void testArvoreVazia() {
+
+		assertNull(arvore.minimo());
+		assertNull(arvore.maximo());
+		assertNull(arvore.buscar(1));
+		assertNull(arvore.sucessor(1));
+		assertNull(arvore.predecessor(1));
+		assertEquals(arvore.altura(), 0);
+	}
+
+	/**
+	 * Mtodo auxiliar que verifica as propriedades da rvore B: chaves ordenadas,
+	 * quantidade de chaves de cada n entre o mnimo e a capacidade e todas as
+	 * folhas no mesmo nvel.
+	 *
+	 * @param arvore rvore em foco.
+	 */
+	private void verificar(ArvoreB<Integer> arvore) {
+
+		if (arvore.getRaiz() != null) {
+
+			this.verificar(arvore.getRaiz(), arvore.getCapacidade(), true, null, null, arvore.altura());
+		}
+	}
+
+	/**
+	 * Mtodo auxiliar que verifica as propriedades de uma subrvore.
+	 *
+	 * @param no         Raiz da subrvore.
+	 *
+	 * @param capacidade Capacidade dos ns.
+	 *
+	 * @param raiz       Verdadeiro, caso o n seja a raiz da rvore.
+	 *
+	 * @param inferior   Limite inferior exclusivo das chaves, ou nulo.
+	 *
+	 * @param superior   Limite superior exclusivo das chaves, ou nulo.
+	 *
+	 * @param nivel      Quantidade de nveis at as folhas.
+	 */
+	private void verificar(NoB<Integer> no, int capacidade, boolean raiz, Integer inferior, Integer superior,
+			int nivel) {
+
+		assertTrue(no.getQuantidade() <= capacidade);
+		assertTrue(no.getQuantidade() >= (raiz ? 1 : (capacidade - 1) / 2));
+		assertEquals(no.ehFolha(), nivel == 1);
+
+		for (int i = 0; i < no.getQuantidade(); ++i) {
+
+			Integer anterior = i == 0 ? inferior : no.getChave(i - 1);
+
+			assertTrue(anterior == null || anterior < no.getChave(i));
+			assertTrue(superior == null || no.getChave(i) < superior);
+
+			if (!no.ehFolha()) {
+
+				this.verificar(no.getFilho(i), capacidade, false, anterior, no.getChave(i), nivel - 1);
+			}
+		}
+
+		if (!no.ehFolha()) {
+
+			this.verificar(no.getFilho(no.getQuantidade()), capacidade, false,
+					no.getChave(no.getQuantidade() - 1), superior, nivel - 1);
+		}
+	}
+}
@@ -9,6 +9,20 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -73,7 +87,7 @@ public class TesteArvoreBinaria {
 
 	/**
 	 * Testar mtodo para
-	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#inserir(java.lang.Comparable)}.
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#inserir(java.lang.Object)}.
 	 */
 	@Test
 	public void testInserir() {
@@ -134,7 +148,7 @@ public class TesteArvoreBinaria {
 
 	/**
 	 * Testar mtodo para
-	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#remover(java.lang.Comparable)}.
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#remover(java.lang.Object)}.
 	 */
 	@Test
 	public void testRemover() {
@@ -184,7 +198,7 @@ public class TesteArvoreBinaria {
 
 	/**
 	 * Testar mtodo para
-	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#buscar(java.lang.Comparable)}.
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#buscar(java.lang.Object)}.
 	 */
 	@Test
 	public void testBuscar() {
@@ -200,6 +214,19 @@ public class TesteArvoreBinaria {
 		 */
 		assertEquals(arvore.buscar(100).toString(), "100( 90 , 180 )");
 
+		/*
+		 * Busca de um valor equivalente segundo compareTo, mas distinto segundo
+		 * equals.
+		 */
+		ArvoreBinaria<BigDecimal> decimais = new ArvoreBinaria<BigDecimal>();
+
+		decimais.inserir(new BigDecimal("2.5"));
+		decimais.inserir(new BigDecimal("1.0"));
+		decimais.inserir(new BigDecimal("3.0"));
+
+		assertEquals(decimais.buscar(new BigDecimal("1.00")).getConteudo(), new BigDecimal("1.0"));
+		assertTrue(decimais.remover(new BigDecimal("3")));
+		assertEquals(decimais.toString(), "2.5( 1.0 , - )");
 	}
 
 	/**
@@ -240,7 +267,7 @@ public class TesteArvoreBinaria {
 
 	/**
 	 * Testar mtodo para
-	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#sucessor(java.lang.Comparable)}.
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#sucessor(java.lang.Object)}.
 	 */
 	@Test
 	public void testSucessor() {
@@ -274,7 +301,7 @@ public class TesteArvoreBinaria {
 
 	/**
 	 * Testar mtodo para
-	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#predecessor(java.lang.Comparable)}.
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#predecessor(java.lang.Object)}.
 	 */
 	@Test
 	public void testPredecessor() {
@@ -306,6 +333,119 @@ public class TesteArvoreBinaria {
 		assertNull(arvore.predecessor(5));
 	}
 
+	/**
+	 * Testar mtodos para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#piso(java.lang.Object)}
+	 * e
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#teto(java.lang.Object)}.
+	 */
+	@Test
+	public void testPisoTeto() {
+
+		/*
+		 * O piso e o teto na rvore vazia e de um valor nulo devem ser nulos.
+		 */
+		assertNull(new ArvoreBinaria<Integer>().piso(59));
+		assertNull(new ArvoreBinaria<Integer>().teto(59));
+		assertNull(arvore.piso(null));
+
+		/*
+		 * Valores existentes so o seu prprio piso e teto.
+		 */
+		assertEquals((int) arvore.piso(59).getConteudo(), 59);
+		assertEquals((int) arvore.teto(59).getConteudo(), 59);
+
+		/*
+		 * Valores inexistentes, entre valores da rvore de teste e fora de seus
+		 * limites.
+		 */
+		assertEquals((int) arvore.piso(58).getConteudo(), 37);
+		assertEquals((int) arvore.teto(58).getConteudo(), 59);
+		assertEquals((int) arvore.piso(1000).getConteudo(), 180);
+		assertEquals((int) arvore.teto(1).getConteudo(), 5);
+		assertNull(arvore.piso(1));
+		assertNull(arvore.teto(1000));
+
+		/*
+		 * Com valores repetidos, o teto  o primeiro e o piso  o ltimo em ordem.
+		 */
+		arvore.inserir(59);
+
+		assertTrue(arvore.teto(59) != arvore.piso(59));
+		assertEquals(arvore.teto(59).getConteudo(), arvore.piso(59).getConteudo());
+		assertEquals((int) arvore.teto(59).getPai().getConteudo(), 80);
+		assertEquals((int) arvore.piso(59).getPai().getConteudo(), 60);
+	}
+
+	/**
+	 * Testar mtodos para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#menor(java.lang.Object)}
+	 * e
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#maior(java.lang.Object)}.
+	 */
+	@Test
+	public void testMenorMaior() {
+
+		/*
+		 * O menor e o maior de um valor nulo devem ser nulos.
+		 */
+		assertNull(arvore.menor(null));
+		assertNull(arvore.maior(null));
+
+		/*
+		 * Valores existentes no so o seu prprio menor e maior.
+		 */
+		assertEquals((int) arvore.menor(59).getConteudo(), 37);
+		assertEquals((int) arvore.maior(59).getConteudo(), 60);
+
+		/*
+		 * Valores inexistentes e valores extremos da rvore de teste.
+		 */
+		assertEquals((int) arvore.menor(95).getConteudo(), 90);
+		assertEquals((int) arvore.maior(95).getConteudo(), 100);
+		assertNull(arvore.menor(5));
+		assertNull(arvore.maior(180));
+
+		/*
+		 * Valores repetidos so ignorados.
+		 */
+		arvore.inserir(60);
+		arvore.inserir(60);
+
+		assertEquals((int) arvore.menor(60).getConteudo(), 59);
+		assertEquals((int) arvore.maior(60).getConteudo(), 80);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#altura()}.
+	 */
+	@Test
+	public void testAltura() {
+
+		/*
+		 * A altura da rvore vazia deve ser zero.
+		 */
+		assertEquals(new ArvoreBinaria<Integer>().altura(), 0);
+
+		/*
+		 * A altura da rvore de teste deve ser 4.
+		 */
+		assertEquals(arvore.altura(), 4);
+
+		/*
+		 * A insero de valores ordenados deve degenerar a rvore em uma lista.
+		 */
+		ArvoreBinaria<Integer> degenerada = new ArvoreBinaria<Integer>();
+
+		for (int i = 0; i < 100; ++i) {
+
+			degenerada.inserir(i);
+		}
+
+		assertEquals(degenerada.altura(), 100);
+	}
+
 	/**
 	 * Testar mtodo para
 	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#limpar()}.
@@ -328,4 +468,457 @@ public class TesteArvoreBinaria {
 		 */
 		assertNull(arvore.getRaiz());
 	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#intervalo(Object, Object)}.
+	 */
+	@Test
+	public void testIntervalo() {
+
+		/*
+		 * Intervalos invlidos ou sem elementos no devem retornar elementos.
+		 */
+		assertFalse(arvore.intervalo(null, 10).iterator().hasNext());
+		assertFalse(arvore.intervalo(60, 59).iterator().hasNext());
+		assertFalse(arvore.intervalo(61, 79).iterator().hasNext());
+		assertFalse(arvore.intervalo(181, 200).iterator().hasNext());
+		assertFalse(new ArvoreBinaria<Integer>().intervalo(0, 100).iterator().hasNext());
+
+		/*
+		 * Verificao dos elementos de intervalos da rvore de teste.
+		 */
+		List<Integer> elementos = new ArrayList<Integer>();
+		arvore.intervalo(20, 80).forEach(elementos::add);
+		assertEquals(elementos, Arrays.asList(20, 30, 37, 59, 60, 80));
+
+		elementos.clear();
+		arvore.intervalo(0, 1000).forEach(elementos::add);
+		assertEquals(elementos, Arrays.asList(5, 10, 20, 30, 37, 59, 60, 80, 90, 100, 180));
+
+		elementos.clear();
+		arvore.intervalo(31, 89).forEach(elementos::add);
+		assertEquals(elementos, Arrays.asList(37, 59, 60, 80));
+
+		/*
+		 * Os valores repetidos devem ser retornados um a um.
+		 */
+		ArvoreBinaria<Integer> repetidos = new ArvoreBinaria<Integer>();
+
+		for (int valor : new int[] { 5, 3, 5, 8, 5, 1 }) {
+
+			repetidos.inserir(valor);
+		}
+
+		elementos.clear();
+		repetidos.intervalo(3, 5).forEach(elementos::add);
+		assertEquals(elementos, Arrays.asList(3, 5, 5, 5));
+	}
+
+	/**
+	 * Testar mtodos para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#iterator()} e
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#iteradorDecrescente()}.
+	 */
+	@Test
+	public void testIterator() {
+
+		/*
+		 * Os iteradores da rvore vazia no devem possuir elementos.
+		 */
+		assertFalse(new ArvoreBinaria<Integer>().iterator().hasNext());
+		assertFalse(new ArvoreBinaria<Integer>().iteradorDecrescente().hasNext());
+
+		/*
+		 * Verificao dos elementos da rvore de teste em ordem crescente e
+		 * decrescente.
+		 */
+		List<Integer> elementos = new ArrayList<Integer>();
+
+		for (int valor : arvore) {
+
+			elementos.add(valor);
+		}
+
+		assertEquals(elementos, Arrays.asList(5, 10, 20, 30, 37, 59, 60, 80, 90, 100, 180));
+
+		elementos.clear();
+		arvore.iteradorDecrescente().forEachRemaining(elementos::add);
+		assertEquals(elementos, Arrays.asList(180, 100, 90, 80, 60, 59, 37, 30, 20, 10, 5));
+
+		/*
+		 * O percurso de uma rvore degenerada no deve esgotar a pilha de execuo.
+		 */
+		ArvoreBinaria<Integer> degenerada = new ArvoreBinaria<Integer>();
+
+		for (int i = 0; i < 20000; ++i) {
+
+			degenerada.inserir(i);
+		}
+
+		int esperado = 0;
+
+		for (int valor : degenerada) {
+
+			assertEquals(valor, esperado++);
+		}
+
+		assertEquals(esperado, 20000);
+	}
+
+	/**
+	 * Testar mtodo para {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#iterator()}
+	 * aps o fim do percurso.
+	 */
+	@Test(expected = NoSuchElementException.class)
+	public void testIteratorEsgotado() {
+
+		Iterator<Integer> iterador = new ArvoreBinaria<Integer>().iterator();
+		iterador.next();
+	}
+
+	/**
+	 * Testar mtodo para {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#iterator()}
+	 * com a modificao da rvore durante o percurso.
+	 */
+	@Test(expected = ConcurrentModificationException.class)
+	public void testIteratorModificacaoConcorrente() {
+
+		for (int valor : arvore) {
+
+			arvore.remover(valor);
+		}
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#escrever(Appendable)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testEscrever() throws IOException {
+
+		/*
+		 * A rvore vazia no possui representao.
+		 */
+		StringWriter saida = new StringWriter();
+		new ArvoreBinaria<Integer>().escrever(saida);
+		assertEquals(saida.toString(), "");
+
+		/*
+		 * Verificao da representao da rvore de teste e de uma de suas subrvores,
+		 * cujo percurso deve se encerrar na raiz da subrvore.
+		 */
+		arvore.escrever(saida);
+		assertEquals(saida.toString(),
+				"37( 20( 10( 5 , - ) , 30 ) , 80( 59( - , 60 ) , 100( 90 , 180 ) ) )");
+		assertEquals(arvore.toString(), saida.toString());
+		assertEquals(arvore.buscar(80).toString(), "80( 59( - , 60 ) , 100( 90 , 180 ) )");
+		assertEquals(arvore.buscar(60).toString(), "60");
+
+		/*
+		 * A escrita de uma rvore degenerada no deve esgotar a pilha de execuo.
+		 */
+		ArvoreBinaria<Integer> degenerada = new ArvoreBinaria<Integer>();
+
+		for (int i = 0; i < 20000; ++i) {
+
+			degenerada.inserir(i);
+		}
+
+		StringBuilder texto = new StringBuilder();
+		degenerada.escrever(texto);
+
+		assertTrue(texto.toString().startsWith("0( - , 1( - , 2( - , "));
+		assertTrue(texto.toString().endsWith("19998( - , 19999" + " )".repeat(19999)));
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#tamanho()}.
+	 */
+	@Test
+	public void testTamanho() {
+
+		/*
+		 * A quantidade de elementos de uma rvore pr-existente deve ser recontada.
+		 */
+		assertEquals(arvore.tamanho(), 11);
+		assertEquals(new ArvoreBinaria<Integer>().tamanho(), 0);
+
+		/*
+		 * A quantidade deve acompanhar as inseres e remoes bem sucedidas.
+		 */
+		assertTrue(arvore.inserir(37));
+		assertFalse(arvore.inserir(null));
+		assertEquals(arvore.tamanho(), 12);
+
+		assertTrue(arvore.remover(37));
+		assertFalse(arvore.remover(1));
+		assertEquals(arvore.tamanho(), 11);
+
+		arvore.limpar();
+		assertEquals(arvore.tamanho(), 0);
+
+		/*
+		 * A quantidade de uma rvore construda deve ser a do vetor.
+		 */
+		assertEquals(ArvoreBinaria.construir(new Integer[] { 1, 2, 3 }).tamanho(), 3);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#spliterator()}.
+	 */
+	@Test
+	public void testSpliterator() {
+
+		/*
+		 * O divisor da rvore de teste deve ser ordenado e exato.
+		 */
+		Spliterator<Integer> divisor = arvore.spliterator();
+
+		assertTrue(divisor.hasCharacteristics(Spliterator.SORTED));
+		assertTrue(divisor.hasCharacteristics(Spliterator.ORDERED));
+		assertTrue(divisor.hasCharacteristics(Spliterator.SIZED));
+		assertEquals(divisor.estimateSize(), 11);
+
+		/*
+		 * A diviso deve entregar os elementos anteriores  raiz, preservando a ordem.
+		 */
+		Spliterator<Integer> anterior = divisor.trySplit();
+
+		List<Integer> elementos = new ArrayList<Integer>();
+		anterior.forEachRemaining(elementos::add);
+		assertEquals(elementos, Arrays.asList(5, 10, 20, 30));
+
+		elementos.clear();
+		divisor.forEachRemaining(elementos::add);
+		assertEquals(elementos, Arrays.asList(37, 59, 60, 80, 90, 100, 180));
+
+		/*
+		 * Os elementos de uma rvore com valores repetidos no so distintos, at que
+		 * a rvore seja esvaziada.
+		 */
+		ArvoreBinaria<Integer> repetidos = new ArvoreBinaria<Integer>();
+
+		repetidos.inserir(1);
+		assertTrue(repetidos.spliterator().hasCharacteristics(Spliterator.DISTINCT));
+
+		repetidos.inserir(1);
+		assertFalse(repetidos.spliterator().hasCharacteristics(Spliterator.DISTINCT));
+		assertEquals(repetidos.stream().distinct().count(), 1);
+
+		repetidos.limpar();
+		assertTrue(repetidos.spliterator().hasCharacteristics(Spliterator.DISTINCT));
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#stream()} em paralelo.
+	 */
+	@Test
+	public void testStreamParalelo() {
+
+		/*
+		 * Construo de uma rvore com um milho de valores.
+		 */
+		int quantidade = 1000000;
+
+		ArvoreBinaria<Integer> construida = ArvoreBinaria
+				.construir(IntStream.range(0, quantidade).boxed().collect(Collectors.toList()));
+
+		/*
+		 * As redues paralelas devem coincidir com as sequenciais.
+		 */
+		long soma = (long) quantidade * (quantidade - 1) / 2;
+
+		assertEquals(construida.stream().mapToLong(Integer::longValue).sum(), soma);
+		assertEquals(construida.stream().parallel().mapToLong(Integer::longValue).sum(), soma);
+		assertEquals(construida.stream().parallel().filter(valor -> valor % 3 == 0).count(), 333334);
+
+		/*
+		 * A ordem dos elementos deve ser preservada na coleta paralela.
+		 */
+		List<Integer> elementos = construida.stream().parallel().collect(Collectors.toList());
+
+		for (int i = 0; i < quantidade; ++i) {
+
+			assertEquals((int) elementos.get(i), i);
+		}
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#contarIntervalo(Object, Object)}.
+	 */
+	@Test
+	public void testContarIntervalo() {
+
+		assertEquals(arvore.contarIntervalo(null, 10), 0);
+		assertEquals(arvore.contarIntervalo(80, 20), 0);
+		assertEquals(arvore.contarIntervalo(20, 80), 6);
+		assertEquals(arvore.contarIntervalo(5, 5), 1);
+		assertEquals(arvore.contarIntervalo(0, 1000), 11);
+	}
+
+	/**
+	 * Testar mtodos para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#construir(Comparable[])},
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#construir(Iterable)} e
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#construir(java.util.stream.Stream)}.
+	 */
+	@Test
+	public void testConstruir() {
+
+		/*
+		 * A construo a partir de um vetor vazio deve resultar em uma rvore vazia.
+		 */
+		assertNull(ArvoreBinaria.construir(new Integer[0]).getRaiz());
+
+		/*
+		 * A construo a partir de valores ordenados deve resultar em uma rvore
+		 * perfeitamente balanceada.
+		 */
+		Integer[] valores = { 1, 2, 3, 4, 5, 6, 7 };
+
+		ArvoreBinaria<Integer> construida = ArvoreBinaria.construir(valores);
+		assertEquals(construida.toString(), "4( 2( 1 , 3 ) , 6( 5 , 7 ) )");
+		assertNull(construida.getRaiz().getPai());
+		assertTrue(construida.buscar(5).getPai() == construida.buscar(6));
+
+		/*
+		 * A construo a partir de uma coleo e de um fluxo deve resultar na mesma
+		 * rvore.
+		 */
+		assertEquals(ArvoreBinaria.construir(Arrays.asList(valores)).toString(), construida.toString());
+		assertEquals(ArvoreBinaria.construir(Arrays.stream(valores)).toString(), construida.toString());
+
+		/*
+		 * A rvore construda deve suportar as demais operaes.
+		 */
+		assertTrue(construida.inserir(8));
+		assertTrue(construida.remover(4));
+		assertEquals((int) construida.sucessor(3).getConteudo(), 5);
+		assertEquals(construida.altura(), 4);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#construir(Comparable[])}
+	 * com valores fora de ordem.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstruirDesordenado() {
+
+		ArvoreBinaria.construir(new Integer[] { 1, 3, 2 });
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#construir(Comparable[], boolean)}
+	 * com um grande volume de valores.
+	 */
+	@Test
+	public void testConstruirParalelo() {
+
+		/*
+		 * Construo paralela de uma rvore com um milho de valores.
+		 */
+		int quantidade = 1000000;
+
+		Integer[] valores = IntStream.range(0, quantidade).boxed().toArray(Integer[]::new);
+
+		ArvoreBinaria<Integer> construida = ArvoreBinaria.construir(valores, true);
+
+		/*
+		 * A altura da rvore deve ser mnima, ou seja, teto de log2(n + 1).
+		 */
+		assertEquals(construida.altura(), 20);
+
+		/*
+		 * Verificao dos valores extremos e de um valor qualquer da rvore.
+		 */
+		assertEquals((int) construida.minimo().getConteudo(), 0);
+		assertEquals((int) construida.maximo().getConteudo(), quantidade - 1);
+		assertEquals((int) construida.buscar(123456).getConteudo(), 123456);
+		assertEquals((int) construida.sucessor(123456).getConteudo(), 123457);
+
+		/*
+		 * A construo sequencial deve resultar na mesma rvore.
+		 */
+		assertEquals(ArvoreBinaria.construir(valores, false).toString(), construida.toString());
+	}
+
+	/**
+	 * Testar mtodos para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#ArvoreBinaria(java.util.Comparator)}
+	 * e
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#getComparador()}.
+	 */
+	@Test
+	public void testComparador() {
+
+		/*
+		 * A rvore de teste utiliza a ordem natural.
+		 */
+		assertNull(arvore.getComparador());
+		assertNull(arvore.spliterator().getComparator());
+
+		/*
+		 * rvore com a ordem invertida, construda com os mesmos valores.
+		 */
+		ArvoreBinaria<Integer> invertida = ArvoreBinaria.comComparador(Comparator.<Integer>reverseOrder());
+
+		for (int valor : new int[] { 37, 20, 80, 10, 30, 59, 100, 5, 60, 90, 180 }) {
+
+			invertida.inserir(valor);
+		}
+
+		assertEquals(invertida.toString(), "37( 80( 100( 180 , 90 ) , 59( 60 , - ) ) , 20( 30 , 10( - , 5 ) ) )");
+		assertEquals((int) invertida.minimo().getConteudo(), 180);
+		assertEquals((int) invertida.buscar(59).getConteudo(), 59);
+		assertEquals((int) invertida.teto(58).getConteudo(), 37);
+		assertEquals(invertida.contarIntervalo(100, 30), 7);
+		assertEquals(invertida.spliterator().getComparator(), invertida.getComparador());
+
+		/*
+		 * rvore de um tipo que no implementa Comparable, ordenado por um campo.
+		 */
+		ArvoreBinaria<int[]> pares = ArvoreBinaria.comComparador(Comparator.comparingInt((int[] par) -> par[0]));
+
+		pares.inserir(new int[] { 2, 20 });
+		pares.inserir(new int[] { 1, 10 });
+		pares.inserir(new int[] { 3, 30 });
+
+		assertEquals(pares.buscar(new int[] { 1, 0 }).getConteudo()[1], 10);
+		assertTrue(pares.remover(new int[] { 2, 0 }));
+		assertEquals(pares.stream().map(par -> par[1]).collect(Collectors.toList()), Arrays.asList(10, 30));
+
+		/*
+		 * rvore construda com o comparador nulo, que utiliza a ordem natural.
+		 */
+		ArvoreBinaria<Integer> natural = ArvoreBinaria.comComparador(null);
+
+		natural.inserir(20);
+		natural.inserir(10);
+
+		assertNull(natural.getComparador());
+		assertEquals((int) natural.minimo().getConteudo(), 10);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinaria#inserir(java.lang.Object)}
+	 * de um tipo que no implementa Comparable, sem comparador.
+	 */
+	@Test(expected = ClassCastException.class)
+	public void testComparadorAusente() {
+
+		ArvoreBinaria<Object> objetos = new ArvoreBinaria<Object>();
+
+		objetos.inserir(new Object());
+		objetos.inserir(new Object());
+	}
 }
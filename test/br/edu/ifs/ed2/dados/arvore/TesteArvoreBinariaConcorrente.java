@@ -0,0 +1,309 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import br.edu.ifs.ed2.dados.no.NoTriplo;
+
+/**
+ * @author Marlos Tacio Silva
+ *
+ */
+public class TesteArvoreBinariaConcorrente {
+
+	/*
+	 * rvore AVL envolvida, acessada diretamente apenas aps o trmino das threads.
+	 */
+	private ArvoreAVL<Integer> avl;
+
+	/*
+	 * rvore concorrente utilizada nos testes.
+	 */
+	private ArvoreBinariaConcorrente<Integer> arvore;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+
+		/*
+		 * Insero dos mesmos valores da rvore de teste da rvore binria de busca.
+		 */
+		avl = new ArvoreAVL<Integer>();
+		arvore = new ArvoreBinariaConcorrente<Integer>(avl);
+
+		for (int valor : new int[] { 37, 20, 80, 10, 30, 59, 100, 5, 60, 90, 180 }) {
+
+			arvore.inserir(valor);
+		}
+	}
+
+	/**
+	 * Testar mtodos de leitura de
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinariaConcorrente} sem
+	 * concorrncia.
+	 */
+	@Test
+	public void testLeituras() {
+
+		/*
+		 * As leituras na rvore vazia devem ser nulas.
+		 */
+		ArvoreBinariaConcorrente<Integer> vazia = new ArvoreBinariaConcorrente<Integer>();
+
+		assertNull(vazia.minimo());
+		assertNull(vazia.maximo());
+		assertNull(vazia.buscar(1));
+
+		/*
+		 * Verificao das leituras na rvore de teste.
+		 */
+		assertEquals((int) arvore.buscar(59), 59);
+		assertNull(arvore.buscar(1));
+		assertNull(arvore.buscar(null));
+
+		assertEquals((int) arvore.minimo(), 5);
+		assertEquals((int) arvore.maximo(), 180);
+
+		assertEquals((int) arvore.sucessor(37), 59);
+		assertEquals((int) arvore.sucessor(30), 37);
+		assertNull(arvore.sucessor(180));
+		assertNull(arvore.sucessor(1));
+
+		assertEquals((int) arvore.predecessor(37), 30);
+		assertEquals((int) arvore.predecessor(90), 80);
+		assertNull(arvore.predecessor(5));
+		assertNull(arvore.predecessor(1));
+
+		assertEquals(arvore.tamanho(), 11);
+	}
+
+	/**
+	 * Testar mtodos de escrita de
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinariaConcorrente} sem
+	 * concorrncia.
+	 */
+	@Test
+	public void testEscritas() {
+
+		assertFalse(arvore.inserir(null));
+		assertTrue(arvore.remover(37));
+		assertFalse(arvore.remover(37));
+		assertNull(arvore.buscar(37));
+		assertEquals(arvore.tamanho(), 10);
+
+		arvore.limpar();
+		assertEquals(arvore.tamanho(), 0);
+		assertEquals(arvore.toString(), "");
+	}
+
+	/**
+	 * Testar {@link br.edu.ifs.ed2.dados.arvore.ArvoreBinariaConcorrente} com
+	 * leitores e escritores simultneos.
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testConcorrencia() throws InterruptedException {
+
+		/*
+		 * Os mltiplos de 10 so inseridos previamente e nunca removidos, enquanto os
+		 * escritores inserem e removem apenas valores de seus prprios conjuntos.
+		 */
+		arvore.limpar();
+
+		for (int valor = 0; valor <= 10000; valor += 10) {
+
+			arvore.inserir(valor);
+		}
+
+		int escritores = 4;
+		int leitores = 4;
+
+		List<TreeSet<Integer>> conjuntos = new ArrayList<TreeSet<Integer>>();
+		ConcurrentLinkedQueue<Throwable> falhas = new ConcurrentLinkedQueue<Throwable>();
+		CountDownLatch inicio = new CountDownLatch(1);
+		CountDownLatch fimEscrita = new CountDownLatch(escritores);
+		List<Thread> threads = new ArrayList<Thread>();
+
+		/*
+		 * Cada escritor opera sobre os valores no mltiplos de 10 de um resto mdulo
+		 * o nmero de escritores, mantendo um conjunto de referncia.
+		 */
+		for (int e = 0; e < escritores; ++e) {
+
+			int resto = e;
+			TreeSet<Integer> conjunto = new TreeSet<Integer>();
+			conjuntos.add(conjunto);
+
+			threads.add(new Thread(() -> {
+
+				Random aleatorio = new Random(resto);
+
+				try {
+
+					inicio.await();
+
+					for (int i = 0; i < 20000; ++i) {
+
+						int valor = aleatorio.nextInt(2500) * escritores + resto;
+
+						if (valor % 10 == 0) {
+
+							continue;
+						}
+
+						if (conjunto.remove(valor)) {
+
+							assertTrue(arvore.remover(valor));
+						}
+
+						else {
+
+							assertTrue(arvore.inserir(valor));
+							conjunto.add(valor);
+						}
+					}
+				}
+
+				catch (Throwable t) {
+
+					falhas.add(t);
+				}
+
+				finally {
+
+					fimEscrita.countDown();
+				}
+			}));
+		}
+
+		/*
+		 * Os leitores verificam continuamente os valores fixos, que devem sempre ser
+		 * encontrados, assim como os extremos.
+		 */
+		for (int l = 0; l < leitores; ++l) {
+
+			int semente = l;
+
+			threads.add(new Thread(() -> {
+
+				Random aleatorio = new Random(100 + semente);
+
+				try {
+
+					inicio.await();
+
+					while (fimEscrita.getCount() > 0) {
+
+						int valor = aleatorio.nextInt(1001) * 10;
+
+						assertEquals((int) arvore.buscar(valor), valor);
+						assertEquals((int) arvore.minimo(), 0);
+						assertTrue(arvore.maximo() >= 10000);
+
+						Integer sucessor = arvore.sucessor(valor);
+						Integer predecessor = arvore.predecessor(valor);
+
+						assertTrue(valor == 10000 ? sucessor == null || sucessor > valor
+								: sucessor > valor && sucessor <= valor + 10);
+						assertTrue(valor == 0 ? predecessor == null : predecessor < valor && predecessor >= valor - 10);
+					}
+				}
+
+				catch (Throwable t) {
+
+					falhas.add(t);
+				}
+			}));
+		}
+
+		for (Thread thread : threads) {
+
+			thread.start();
+		}
+
+		inicio.countDown();
+
+		for (Thread thread : threads) {
+
+			thread.join();
+		}
+
+		/*
+		 * Nenhuma thread deve ter falhado.
+		 */
+		assertTrue(falhas.toString(), falhas.isEmpty());
+
+		/*
+		 * Ao final, a rvore deve conter exatamente os valores fixos e os conjuntos dos
+		 * escritores, preservando as propriedades da rvore AVL.
+		 */
+		TreeSet<Integer> esperado = new TreeSet<Integer>();
+
+		for (int valor = 0; valor <= 10000; valor += 10) {
+
+			esperado.add(valor);
+		}
+
+		for (TreeSet<Integer> conjunto : conjuntos) {
+
+			esperado.addAll(conjunto);
+		}
+
+		List<Integer> elementos = new ArrayList<Integer>();
+		avl.forEach(elementos::add);
+
+		assertEquals(elementos, new ArrayList<Integer>(esperado));
+		assertEquals(arvore.tamanho(), esperado.size());
+		assertNull(avl.getRaiz().getPai());
+		assertTrue(avl.altura() <= 1.44 * Math.log(esperado.size() + 2) / Math.log(2));
+
+		this.verificar(avl.getRaiz());
+	}
+
+	/**
+	 * Mtodo auxiliar que verifica, a partir de um n, a ordenao dos contedos e
+	 * a consistncia das referncias aos pais.
+	 *
+	 * @param no Raiz da subrvore.
+	 */
+	private void verificar(NoTriplo<Integer> no) {
+
+		if (no == null) {
+
+			return;
+		}
+
+		if (no.getEsquerdo() != null) {
+
+			assertTrue(no.getEsquerdo().getPai() == no);
+			assertTrue(no.getEsquerdo().getConteudo() < no.getConteudo());
+		}
+
+		if (no.getDireito() != null) {
+
+			assertTrue(no.getDireito().getPai() == no);
+			assertTrue(no.getDireito().getConteudo() > no.getConteudo());
+		}
+
+		this.verificar(no.getEsquerdo());
+		this.verificar(no.getDireito());
+	}
+}
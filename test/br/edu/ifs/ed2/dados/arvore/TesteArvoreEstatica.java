@@ -0,0 +1,210 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Marlos Tacio Silva
+ *
+ */
+public class TesteArvoreEstatica {
+
+	/*
+	 * Instantneo utilizado nos testes.
+	 */
+	private ArvoreEstatica<Integer> estatica;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+
+		/*
+		 * Congelamento da rvore de teste da rvore binria de busca.
+		 */
+		ArvoreBinaria<Integer> arvore = new ArvoreBinaria<Integer>();
+
+		for (int valor : new int[] { 37, 20, 80, 10, 30, 59, 100, 5, 60, 90, 180 }) {
+
+			arvore.inserir(valor);
+		}
+
+		estatica = arvore.congelar();
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreEstatica#buscar(java.lang.Object)}.
+	 */
+	@Test
+	public void testBuscar() {
+
+		/*
+		 * Tentativa de busca de um valor nulo e de valores inexistentes.
+		 */
+		assertNull(estatica.buscar(null));
+		assertNull(estatica.buscar(1));
+		assertNull(estatica.buscar(58));
+		assertNull(estatica.buscar(1000));
+
+		/*
+		 * Busca de todos os valores existentes.
+		 */
+		for (int valor : new int[] { 37, 20, 80, 10, 30, 59, 100, 5, 60, 90, 180 }) {
+
+			assertEquals((int) estatica.buscar(valor), valor);
+			assertTrue(estatica.contem(valor));
+		}
+
+		assertFalse(estatica.contem(36));
+	}
+
+	/**
+	 * Testar mtodos para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreEstatica#piso(java.lang.Object)} e
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreEstatica#teto(java.lang.Object)}.
+	 */
+	@Test
+	public void testPisoTeto() {
+
+		/*
+		 * Valores existentes, inexistentes e fora dos limites do instantneo.
+		 */
+		assertEquals((int) estatica.piso(59), 59);
+		assertEquals((int) estatica.teto(59), 59);
+		assertEquals((int) estatica.piso(58), 37);
+		assertEquals((int) estatica.teto(58), 59);
+		assertEquals((int) estatica.piso(1000), 180);
+		assertEquals((int) estatica.teto(1), 5);
+		assertNull(estatica.piso(1));
+		assertNull(estatica.teto(1000));
+
+		/*
+		 * Comparao com um conjunto ordenado em valores aleatrios.
+		 */
+		Random aleatorio = new Random(37);
+		TreeSet<Integer> esperado = new TreeSet<Integer>();
+		ArvoreAVL<Integer> arvore = new ArvoreAVL<Integer>();
+
+		for (int i = 0; i < 1000; ++i) {
+
+			int valor = aleatorio.nextInt(5000);
+
+			if (esperado.add(valor)) {
+
+				arvore.inserir(valor);
+			}
+		}
+
+		estatica = arvore.congelar();
+
+		for (int i = -1; i <= 5001; ++i) {
+
+			assertEquals(estatica.piso(i), esperado.floor(i));
+			assertEquals(estatica.teto(i), esperado.ceiling(i));
+		}
+	}
+
+	/**
+	 * Testar mtodos para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreEstatica#minimo()},
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreEstatica#maximo()} e
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreEstatica#tamanho()}.
+	 */
+	@Test
+	public void testExtremos() {
+
+		assertEquals((int) estatica.minimo(), 5);
+		assertEquals((int) estatica.maximo(), 180);
+		assertEquals(estatica.tamanho(), 11);
+
+		/*
+		 * O instantneo de uma rvore vazia no possui elementos.
+		 */
+		estatica = new ArvoreBinaria<Integer>().congelar();
+
+		assertNull(estatica.minimo());
+		assertNull(estatica.maximo());
+		assertNull(estatica.teto(1));
+		assertNull(estatica.piso(1));
+		assertEquals(estatica.tamanho(), 0);
+		assertFalse(estatica.iterator().hasNext());
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreEstatica#iterator()}.
+	 */
+	@Test(expected = NoSuchElementException.class)
+	public void testIterator() {
+
+		/*
+		 * Os elementos devem ser percorridos em ordem crescente, para todos os
+		 * tamanhos de vetor at 64, incluindo valores repetidos.
+		 */
+		for (int n = 0; n <= 64; ++n) {
+
+			ArvoreBinaria<Integer> arvore = new ArvoreBinaria<Integer>();
+			List<Integer> esperado = new ArrayList<Integer>();
+
+			for (int i = 0; i < n; ++i) {
+
+				arvore.inserir(i / 2);
+				esperado.add(i / 2);
+			}
+
+			List<Integer> obtido = new ArrayList<Integer>();
+
+			for (int valor : arvore.congelar()) {
+
+				obtido.add(valor);
+			}
+
+			assertEquals(obtido, esperado);
+		}
+
+		/*
+		 * O iterador esgotado deve lanar uma exceo.
+		 */
+		estatica.iterator().next();
+		new ArvoreBinaria<Integer>().congelar().iterator().next();
+	}
+
+	/**
+	 * Testar o instantneo de uma rvore ordenada por um comparador.
+	 */
+	@Test
+	public void testComparador() {
+
+		ArvoreBinaria<Integer> invertida = ArvoreBinaria.comComparador(Comparator.<Integer>reverseOrder());
+
+		for (int valor : new int[] { 37, 20, 80, 10, 30, 59, 100, 5, 60, 90, 180 }) {
+
+			invertida.inserir(valor);
+		}
+
+		estatica = invertida.congelar();
+
+		assertEquals((int) estatica.minimo(), 180);
+		assertEquals((int) estatica.teto(58), 37);
+		assertEquals((int) estatica.piso(58), 59);
+		assertEquals((int) estatica.buscar(100), 100);
+		assertNull(estatica.buscar(101));
+	}
+}
@@ -0,0 +1,203 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Marlos Tacio Silva
+ *
+ */
+public class TesteArvoreEstatistica {
+
+	/*
+	 * rvore de estatsticas de ordem utilizada nos testes.
+	 */
+	private ArvoreEstatistica<Integer> arvore;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+
+		/*
+		 * Insero dos mesmos valores da rvore de teste da rvore binria de busca.
+		 */
+		arvore = new ArvoreEstatistica<Integer>();
+
+		for (int valor : new int[] { 37, 20, 80, 10, 30, 59, 100, 5, 60, 90, 180 }) {
+
+			arvore.inserir(valor);
+		}
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreEstatistica#selecionar(int)}.
+	 */
+	@Test
+	public void testSelecionar() {
+
+		/*
+		 * A seleo na rvore vazia e fora dos limites da rvore deve ser nula.
+		 */
+		assertNull(new ArvoreEstatistica<Integer>().selecionar(1));
+		assertNull(arvore.selecionar(0));
+		assertNull(arvore.selecionar(12));
+
+		/*
+		 * Verificao dos elementos da rvore de teste em ordem crescente.
+		 */
+		int[] ordenados = { 5, 10, 20, 30, 37, 59, 60, 80, 90, 100, 180 };
+
+		for (int k = 1; k <= ordenados.length; ++k) {
+
+			assertEquals((int) arvore.selecionar(k).getConteudo(), ordenados[k - 1]);
+		}
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreEstatistica#rank(java.lang.Comparable)}.
+	 */
+	@Test
+	public void testRank() {
+
+		/*
+		 * O rank de um valor nulo deve ser -1.
+		 */
+		assertEquals(arvore.rank(null), -1);
+
+		/*
+		 * Verificao do rank de valores presentes e ausentes na rvore de teste.
+		 */
+		assertEquals(arvore.rank(5), 0);
+		assertEquals(arvore.rank(1), 0);
+		assertEquals(arvore.rank(37), 4);
+		assertEquals(arvore.rank(38), 5);
+		assertEquals(arvore.rank(180), 10);
+		assertEquals(arvore.rank(1000), 11);
+	}
+
+	/**
+	 * Testar mtodos para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreEstatistica#selecionar(int)} e
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreEstatistica#rank(java.lang.Comparable)}
+	 * aps inseres e remoes aleatrias.
+	 */
+	@Test
+	public void testOperacoesAleatorias() {
+
+		/*
+		 * Lista ordenada utilizada como referncia.
+		 */
+		List<Integer> referencia = new ArrayList<Integer>();
+		arvore = new ArvoreEstatistica<Integer>();
+
+		Random aleatorio = new Random(37);
+
+		for (int i = 0; i < 5000; ++i) {
+
+			int valor = aleatorio.nextInt(1000);
+			int posicao = Collections.binarySearch(referencia, valor);
+
+			if (posicao < 0) {
+
+				assertTrue(arvore.inserir(valor));
+				referencia.add(-posicao - 1, valor);
+			}
+
+			else {
+
+				assertTrue(arvore.remover(valor));
+				referencia.remove(posicao);
+			}
+
+			assertEquals(arvore.tamanho(), referencia.size());
+		}
+
+		/*
+		 * Verificao da seleo e do rank de todos os elementos.
+		 */
+		for (int k = 1; k <= referencia.size(); ++k) {
+
+			assertEquals(arvore.selecionar(k).getConteudo(), referencia.get(k - 1));
+			assertEquals(arvore.rank(referencia.get(k - 1)), k - 1);
+		}
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreEstatistica#contarIntervalo(Comparable, Comparable)}.
+	 */
+	@Test
+	public void testContarIntervalo() {
+
+		/*
+		 * Intervalos invlidos no devem possuir elementos.
+		 */
+		assertEquals(arvore.contarIntervalo(null, 10), 0);
+		assertEquals(arvore.contarIntervalo(80, 20), 0);
+
+		/*
+		 * A contagem pelos tamanhos das subrvores deve coincidir com a contagem por
+		 * percurso da rvore binria de busca, inclusive com valores repetidos.
+		 */
+		Random aleatorio = new Random(37);
+		ArvoreBinaria<Integer> binaria = new ArvoreBinaria<Integer>();
+		arvore = new ArvoreEstatistica<Integer>();
+
+		for (int i = 0; i < 2000; ++i) {
+
+			int valor = aleatorio.nextInt(500);
+
+			arvore.inserir(valor);
+			binaria.inserir(valor);
+		}
+
+		for (int i = 0; i < 500; ++i) {
+
+			int inicio = aleatorio.nextInt(600) - 50;
+			int fim = inicio + aleatorio.nextInt(200);
+
+			assertEquals(arvore.contarIntervalo(inicio, fim), binaria.contarIntervalo(inicio, fim));
+		}
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreEstatistica#tamanho()}.
+	 */
+	@Test
+	public void testTamanho() {
+
+		/*
+		 * O tamanho da rvore vazia deve ser zero.
+		 */
+		assertEquals(new ArvoreEstatistica<Integer>().tamanho(), 0);
+
+		/*
+		 * O tamanho da rvore de teste deve acompanhar as remoes.
+		 */
+		assertEquals(arvore.tamanho(), 11);
+
+		assertTrue(arvore.remover(37));
+		assertEquals(arvore.tamanho(), 10);
+		assertEquals((int) arvore.selecionar(5).getConteudo(), 59);
+
+		arvore.limpar();
+		assertEquals(arvore.tamanho(), 0);
+	}
+}
@@ -0,0 +1,237 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Marlos Tacio Silva
+ *
+ */
+public class TesteArvoreMapa {
+
+	/*
+	 * Mapeamento utilizado nos testes.
+	 */
+	private ArvoreMapa<Integer, String> mapa;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+
+		/*
+		 * Inicializao do mapeamento.
+		 */
+		mapa = new ArvoreMapa<Integer, String>();
+
+		/*
+		 * Insero dos mesmos valores da rvore de teste da rvore binria de busca,
+		 * associados  sua representao textual.
+		 */
+		for (int valor : new int[] { 37, 20, 80, 10, 30, 59, 100, 5, 60, 90, 180 }) {
+
+			mapa.inserir(valor, "v" + valor);
+		}
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreMapa#inserir(java.lang.Comparable, java.lang.Object)}.
+	 */
+	@Test
+	public void testInserir() {
+
+		/*
+		 * Insero de uma nova chave e substituio do valor de uma chave existente.
+		 */
+		assertNull(mapa.inserir(1, "um"));
+		assertEquals(mapa.inserir(37, "x"), "v37");
+		assertEquals(mapa.obter(37), "x");
+		assertEquals(mapa.tamanho(), 12);
+
+		/*
+		 * A insero apenas da chave no pode repetir uma chave existente.
+		 */
+		assertFalse(mapa.inserir(37));
+		assertTrue(mapa.inserir(2));
+		assertNull(mapa.obter(2));
+		assertEquals(mapa.tamanho(), 13);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreMapa#inserir(java.lang.Comparable, java.lang.Object)}
+	 * com uma chave nula.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testInserirNulo() {
+
+		mapa.inserir(null, "nulo");
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreMapa#obter(java.lang.Comparable)}.
+	 */
+	@Test
+	public void testObter() {
+
+		/*
+		 * Obteno do valor de uma chave nula, inexistente e existente.
+		 */
+		assertNull(mapa.obter(null));
+		assertNull(mapa.obter(1));
+		assertEquals(mapa.obter(59), "v59");
+
+		/*
+		 * Os valores acompanham os ns durante as rotaes.
+		 */
+		for (int i = 1000; i < 2000; ++i) {
+
+			mapa.inserir(i, "v" + i);
+		}
+
+		for (int i = 1000; i < 2000; ++i) {
+
+			assertEquals(mapa.obter(i), "v" + i);
+		}
+
+		assertEquals(mapa.obter(180), "v180");
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreMapa#retirar(java.lang.Comparable)}.
+	 */
+	@Test
+	public void testRetirar() {
+
+		/*
+		 * Retirada de uma chave inexistente e de uma chave com ambos os filhos.
+		 */
+		assertNull(mapa.retirar(1));
+		assertEquals(mapa.retirar(37), "v37");
+		assertNull(mapa.obter(37));
+		assertEquals(mapa.tamanho(), 10);
+
+		/*
+		 * Os valores das demais chaves so preservados.
+		 */
+		for (int valor : mapa) {
+
+			assertEquals(mapa.obter(valor), "v" + valor);
+		}
+	}
+
+	/**
+	 * Testar mtodos para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreMapa#pisoChave(java.lang.Comparable)}
+	 * e
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreMapa#tetoChave(java.lang.Comparable)}.
+	 */
+	@Test
+	public void testPisoTetoChave() {
+
+		/*
+		 * Chaves existentes so o prprio piso e teto.
+		 */
+		assertEquals((int) mapa.pisoChave(59), 59);
+		assertEquals((int) mapa.tetoChave(59), 59);
+
+		/*
+		 * Chaves inexistentes entre chaves existentes.
+		 */
+		assertEquals((int) mapa.pisoChave(58), 37);
+		assertEquals((int) mapa.tetoChave(58), 59);
+		assertEquals((int) mapa.pisoChave(181), 180);
+		assertEquals((int) mapa.tetoChave(4), 5);
+
+		/*
+		 * Chaves fora dos limites do mapeamento.
+		 */
+		assertNull(mapa.pisoChave(4));
+		assertNull(mapa.tetoChave(181));
+		assertNull(mapa.pisoChave(null));
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreMapa#inserirTodos(java.lang.Iterable)}.
+	 */
+	@Test
+	public void testInserirTodos() {
+
+		/*
+		 * Intercalao de novas chaves e de chaves existentes, cujos valores devem ser
+		 * substitudos.
+		 */
+		TreeMap<Integer, String> novos = new TreeMap<Integer, String>();
+
+		for (int i = 0; i <= 200; i += 10) {
+
+			novos.put(i, "n" + i);
+		}
+
+		mapa.inserirTodos(novos.entrySet());
+
+		assertEquals(mapa.tamanho(), 24);
+		assertEquals(mapa.obter(0), "n0");
+		assertEquals(mapa.obter(10), "n10");
+		assertEquals(mapa.obter(37), "v37");
+		assertEquals(mapa.obter(200), "n200");
+		assertTrue(mapa.altura() <= 5);
+
+		/*
+		 * Em caso de chaves repetidas na entrada, prevalece o ltimo valor.
+		 */
+		mapa.inserirTodos(List.of(Map.entry(5, "a"), Map.entry(5, "b"), Map.entry(7, "c")));
+
+		assertEquals(mapa.obter(5), "b");
+		assertEquals(mapa.obter(7), "c");
+		assertEquals(mapa.tamanho(), 25);
+
+		/*
+		 * A rvore permanece funcional aps a reconstruo.
+		 */
+		assertEquals(mapa.inserir(8, "d"), null);
+		assertEquals(mapa.retirar(30), "n30");
+		assertEquals((int) mapa.tetoChave(31), 37);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreMapa#inserirTodos(java.lang.Iterable)}
+	 * com chaves fora de ordem, que no devem alterar o mapeamento.
+	 */
+	@Test
+	public void testInserirTodosForaDeOrdem() {
+
+		try {
+
+			mapa.inserirTodos(List.of(Map.entry(50, "a"), Map.entry(40, "b")));
+		}
+
+		catch (IllegalArgumentException e) {
+
+			assertEquals(mapa.tamanho(), 11);
+			assertNull(mapa.obter(50));
+			return;
+		}
+
+		fail();
+	}
+}
@@ -0,0 +1,164 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Marlos Tacio Silva
+ *
+ */
+public class TesteArvoreMulticonjunto {
+
+	/*
+	 * Multiconjunto utilizado nos testes.
+	 */
+	private ArvoreMulticonjunto<Integer> arvore;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+
+		/*
+		 * Inicializao do multiconjunto.
+		 */
+		arvore = new ArvoreMulticonjunto<Integer>();
+
+		/*
+		 * Insero dos mesmos valores da rvore de teste da rvore binria de busca.
+		 */
+		for (int valor : new int[] { 37, 20, 80, 10, 30, 59, 100, 5, 60, 90, 180 }) {
+
+			arvore.inserir(valor);
+		}
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreMulticonjunto#inserir(java.lang.Comparable)}.
+	 */
+	@Test
+	public void testInserir() {
+
+		/*
+		 * Tentativa de insero de um valor nulo no multiconjunto.
+		 */
+		assertFalse(arvore.inserir(null));
+		assertEquals(arvore.totalOcorrencias(), 11);
+
+		/*
+		 * Insero de um grande volume de repeties, que no devem gerar novos ns.
+		 */
+		int altura = arvore.altura();
+
+		for (int i = 0; i < 100000; ++i) {
+
+			assertTrue(arvore.inserir(30));
+		}
+
+		assertEquals(arvore.altura(), altura);
+		assertEquals(arvore.tamanho(), 11);
+		assertEquals(arvore.totalOcorrencias(), 100011);
+		assertEquals(arvore.contar(30), 100001);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreMulticonjunto#remover(java.lang.Comparable)}.
+	 */
+	@Test
+	public void testRemover() {
+
+		/*
+		 * Tentativa de remoo de um valor nulo e de um valor inexistente.
+		 */
+		assertFalse(arvore.remover(null));
+		assertFalse(arvore.remover(1));
+
+		/*
+		 * Remoo de uma ocorrncia de cada vez, sendo o n removido apenas na ltima.
+		 */
+		arvore.inserir(37);
+		arvore.inserir(37);
+
+		assertTrue(arvore.remover(37));
+		assertEquals(arvore.contar(37), 2);
+		assertEquals(arvore.tamanho(), 11);
+
+		assertTrue(arvore.remover(37));
+		assertTrue(arvore.remover(37));
+		assertEquals(arvore.contar(37), 0);
+		assertNull(arvore.buscar(37));
+		assertEquals(arvore.tamanho(), 10);
+		assertEquals(arvore.totalOcorrencias(), 10);
+		assertFalse(arvore.remover(37));
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreMulticonjunto#removerTodos(java.lang.Comparable)}.
+	 */
+	@Test
+	public void testRemoverTodos() {
+
+		/*
+		 * Tentativa de remoo de um valor inexistente.
+		 */
+		assertEquals(arvore.removerTodos(1), 0);
+
+		/*
+		 * Remoo de todas as ocorrncias de um valor repetido.
+		 */
+		for (int i = 0; i < 5; ++i) {
+
+			arvore.inserir(100);
+		}
+
+		assertEquals(arvore.removerTodos(100), 6);
+		assertNull(arvore.buscar(100));
+		assertEquals(arvore.tamanho(), 10);
+		assertEquals(arvore.totalOcorrencias(), 10);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreMulticonjunto#contar(java.lang.Comparable)}.
+	 */
+	@Test
+	public void testContar() {
+
+		/*
+		 * Contagem de um valor nulo, de um valor inexistente e de um valor existente.
+		 */
+		assertEquals(arvore.contar(null), 0);
+		assertEquals(arvore.contar(1), 0);
+		assertEquals(arvore.contar(59), 1);
+
+		/*
+		 * Os elementos distintos so percorridos uma nica vez, em ordem crescente.
+		 */
+		arvore.inserir(59);
+		arvore.inserir(5);
+
+		assertEquals(arvore.contar(59), 2);
+		assertEquals(arvore.stream().map(String::valueOf).reduce((a, b) -> a + " " + b).get(),
+				"5 10 20 30 37 59 60 80 90 100 180");
+
+		/*
+		 * A limpeza do multiconjunto descarta todas as ocorrncias.
+		 */
+		arvore.limpar();
+
+		assertEquals(arvore.contar(59), 0);
+		assertEquals(arvore.totalOcorrencias(), 0);
+	}
+}
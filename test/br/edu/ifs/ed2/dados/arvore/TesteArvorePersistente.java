@@ -0,0 +1,204 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import br.edu.ifs.ed2.dados.no.NoPersistente;
+
+/**
+ * @author Marlos Tacio Silva
+ *
+ */
+public class TesteArvorePersistente {
+
+	/*
+	 * Verso da rvore persistente utilizada nos testes.
+	 */
+	private ArvorePersistente<Integer> arvore;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+
+		/*
+		 * Insero dos mesmos valores da rvore de teste da rvore binria de busca.
+		 */
+		arvore = new ArvorePersistente<Integer>();
+
+		for (int valor : new int[] { 37, 20, 80, 10, 30, 59, 100, 5, 60, 90, 180 }) {
+
+			arvore = arvore.inserir(valor);
+		}
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvorePersistente#inserir(Comparable)}.
+	 */
+	@Test
+	public void testInserir() {
+
+		/*
+		 * A insero de um valor nulo deve preservar a verso.
+		 */
+		assertTrue(arvore.inserir(null) == arvore);
+
+		/*
+		 * A insero de valores crescentes deve produzir as mesmas rotaes da rvore
+		 * AVL, sem alterar as verses anteriores.
+		 */
+		ArvorePersistente<Integer> vazia = new ArvorePersistente<Integer>();
+		ArvorePersistente<Integer> v1 = vazia.inserir(10).inserir(20);
+		ArvorePersistente<Integer> v2 = v1.inserir(30);
+
+		assertEquals(vazia.toString(), "");
+		assertEquals(v1.toString(), "10( - , 20 )");
+		assertEquals(v2.toString(), "20( 10 , 30 )");
+
+		ArvoreAVL<Integer> avl = new ArvoreAVL<Integer>();
+		ArvorePersistente<Integer> persistente = new ArvorePersistente<Integer>();
+
+		for (int valor : new int[] { 10, 20, 30, 40, 50, 25, 5, 3, 27, 26 }) {
+
+			avl.inserir(valor);
+			persistente = persistente.inserir(valor);
+		}
+
+		assertEquals(persistente.toString(), avl.toString());
+		assertEquals(persistente.altura(), avl.altura());
+		assertEquals(persistente.tamanho(), 10);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvorePersistente#remover(Comparable)}.
+	 */
+	@Test
+	public void testRemover() {
+
+		/*
+		 * A remoo de um valor nulo ou inexistente deve preservar a verso.
+		 */
+		assertTrue(arvore.remover(null) == arvore);
+		assertTrue(arvore.remover(1) == arvore);
+
+		/*
+		 * A remoo deve produzir uma nova verso, sem alterar a original.
+		 */
+		ArvorePersistente<Integer> nova = arvore.remover(37);
+
+		assertNull(nova.buscar(37));
+		assertEquals((int) arvore.buscar(37).getConteudo(), 37);
+		assertEquals(nova.tamanho(), 10);
+		assertEquals(arvore.tamanho(), 11);
+	}
+
+	/**
+	 * Testar o compartilhamento de subrvores entre verses de
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvorePersistente}.
+	 */
+	@Test
+	public void testCompartilhamento() {
+
+		/*
+		 * A alterao da subrvore esquerda deve preservar a subrvore direita e
+		 * copiar apenas os ns do caminho.
+		 */
+		NoPersistente<Integer> raiz = arvore.getRaiz();
+		ArvorePersistente<Integer> nova = arvore.inserir(1);
+
+		assertTrue(nova.getRaiz() != raiz);
+		assertTrue(nova.getRaiz().getDireito() == raiz.getDireito());
+		assertTrue(nova.getRaiz().getEsquerdo().getDireito() == raiz.getEsquerdo().getDireito());
+	}
+
+	/**
+	 * Testar mtodos de leitura de
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvorePersistente}.
+	 */
+	@Test
+	public void testLeituras() {
+
+		ArvorePersistente<Integer> vazia = new ArvorePersistente<Integer>();
+
+		assertNull(vazia.minimo());
+		assertNull(vazia.maximo());
+
+		assertEquals((int) arvore.minimo().getConteudo(), 5);
+		assertEquals((int) arvore.maximo().getConteudo(), 180);
+
+		assertEquals((int) arvore.sucessor(37).getConteudo(), 59);
+		assertEquals((int) arvore.predecessor(37).getConteudo(), 30);
+		assertNull(arvore.sucessor(180));
+		assertNull(arvore.predecessor(5));
+		assertNull(arvore.sucessor(1));
+	}
+
+	/**
+	 * Testar verses de {@link br.edu.ifs.ed2.dados.arvore.ArvorePersistente}
+	 * aps inseres e remoes aleatrias.
+	 */
+	@Test
+	public void testVersoes() {
+
+		/*
+		 * Cada verso intermediria deve preservar os seus elementos aps as
+		 * operaes seguintes.
+		 */
+		List<ArvorePersistente<Integer>> versoes = new ArrayList<ArvorePersistente<Integer>>();
+		List<List<Integer>> referencias = new ArrayList<List<Integer>>();
+
+		ArvorePersistente<Integer> versao = new ArvorePersistente<Integer>();
+		List<Integer> referencia = new ArrayList<Integer>();
+
+		Random aleatorio = new Random(37);
+
+		for (int i = 0; i < 3000; ++i) {
+
+			int valor = aleatorio.nextInt(300);
+			int posicao = Collections.binarySearch(referencia, valor);
+
+			if (posicao >= 0 && aleatorio.nextBoolean()) {
+
+				versao = versao.remover(valor);
+				referencia.remove(posicao);
+			}
+
+			else {
+
+				versao = versao.inserir(valor);
+				referencia.add(posicao >= 0 ? posicao : -posicao - 1, valor);
+			}
+
+			if (i % 100 == 0) {
+
+				versoes.add(versao);
+				referencias.add(new ArrayList<Integer>(referencia));
+			}
+		}
+
+		for (int i = 0; i < versoes.size(); ++i) {
+
+			List<Integer> elementos = new ArrayList<Integer>();
+			versoes.get(i).forEach(elementos::add);
+
+			assertEquals(elementos, referencias.get(i));
+			assertEquals(versoes.get(i).tamanho(), referencias.get(i).size());
+			assertTrue(versoes.get(i).altura() <= 1.44 * Math.log(elementos.size() + 2) / Math.log(2));
+		}
+	}
+}
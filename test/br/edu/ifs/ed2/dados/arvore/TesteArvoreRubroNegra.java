@@ -0,0 +1,301 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import br.edu.ifs.ed2.dados.no.NoRubroNegro;
+import br.edu.ifs.ed2.dados.no.NoTriplo;
+
+/**
+ * @author Marlos Tacio Silva
+ *
+ */
+public class TesteArvoreRubroNegra {
+
+	/*
+	 * Quantidade de rotaes efetuadas pela rvore desde a ltima verificao.
+	 */
+	private int rotacoes;
+
+	/*
+	 * rvore rubro-negra que contabiliza as rotaes efetuadas.
+	 */
+	private ArvoreRubroNegra<Integer> arvore;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+
+		/*
+		 * Inicializao da rvore.
+		 */
+		arvore = new ArvoreRubroNegra<Integer>() {
+
+			@Override
+			protected NoTriplo<Integer> rotacionarEsquerda(NoTriplo<Integer> no) {
+
+				++rotacoes;
+				return super.rotacionarEsquerda(no);
+			}
+
+			@Override
+			protected NoTriplo<Integer> rotacionarDireita(NoTriplo<Integer> no) {
+
+				++rotacoes;
+				return super.rotacionarDireita(no);
+			}
+		};
+
+		/*
+		 * Insero dos mesmos valores da rvore de teste da rvore binria de busca.
+		 */
+		for (int valor : new int[] { 37, 20, 80, 10, 30, 59, 100, 5, 60, 90, 180 }) {
+
+			arvore.inserir(valor);
+		}
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreRubroNegra#inserir(java.lang.Object)}.
+	 */
+	@Test
+	public void testInserir() {
+
+		/*
+		 * Tentativa de insero de um valor nulo na rvore.
+		 */
+		assertFalse(arvore.inserir(null));
+
+		/*
+		 * Insero de valores crescentes, que devem ser balanceados por no mximo duas
+		 * rotaes cada.
+		 */
+		arvore = new ArvoreRubroNegra<Integer>();
+
+		for (int i = 0; i < 100000; ++i) {
+
+			rotacoes = 0;
+			assertTrue(arvore.inserir(i));
+			assertTrue(rotacoes <= 2);
+		}
+
+		/*
+		 * A altura de uma rvore rubro-negra com n ns  limitada por 2 log2(n + 1).
+		 */
+		assertTrue(arvore.altura() <= 2 * Math.log(100001) / Math.log(2));
+		this.verificar(arvore.getRaiz());
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreRubroNegra#remover(java.lang.Object)}.
+	 */
+	@Test
+	public void testRemover() {
+
+		/*
+		 * Tentativa de remoo de um valor nulo e de um valor inexistente na rvore.
+		 */
+		assertFalse(arvore.remover(null));
+		assertFalse(arvore.remover(1));
+
+		/*
+		 * Insero e remoo de valores aleatrios, verificando as propriedades da
+		 * rvore e a quantidade de rotaes de cada operao.
+		 */
+		Random aleatorio = new Random(37);
+
+		for (int i = 0; i < 2000; ++i) {
+
+			int valor = aleatorio.nextInt(500);
+
+			rotacoes = 0;
+
+			if (arvore.buscar(valor) == null) {
+
+				assertTrue(arvore.inserir(valor));
+				assertTrue(rotacoes <= 2);
+			}
+
+			else {
+
+				assertTrue(arvore.remover(valor));
+				assertNull(arvore.buscar(valor));
+				assertTrue(rotacoes <= 3);
+			}
+
+			this.verificar(arvore.getRaiz());
+		}
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreRubroNegra#maximo()}.
+	 */
+	@Test
+	public void testMaximo() {
+
+		/*
+		 * O valor mximo na rvore vazia deve ser nulo.
+		 */
+		assertNull(new ArvoreRubroNegra<Integer>().maximo());
+
+		/*
+		 * O valor mximo na rvore de teste deve ser 180.
+		 */
+		assertEquals((int) arvore.maximo().getConteudo(), 180);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreRubroNegra#minimo()}.
+	 */
+	@Test
+	public void testMinimo() {
+
+		/*
+		 * O valor mnimo na rvore vazia deve ser nulo.
+		 */
+		assertNull(new ArvoreRubroNegra<Integer>().minimo());
+
+		/*
+		 * O valor mnimo na rvore de teste deve ser 5.
+		 */
+		assertEquals((int) arvore.minimo().getConteudo(), 5);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreRubroNegra#sucessor(java.lang.Object)}.
+	 */
+	@Test
+	public void testSucessor() {
+
+		/*
+		 * O valor do sucessor na rvore vazia deve ser nulo.
+		 */
+		assertNull(new ArvoreRubroNegra<Integer>().sucessor(59));
+
+		/*
+		 * O valor do sucessor de um valor inexistente na rvore de teste deve ser nulo.
+		 */
+		assertNull(arvore.sucessor(1));
+
+		/*
+		 * Verificao do sucessor de valores da rvore de teste.
+		 */
+		assertEquals((int) arvore.sucessor(37).getConteudo(), 59);
+		assertEquals((int) arvore.sucessor(30).getConteudo(), 37);
+
+		/*
+		 * O valor do sucessor de 180 (valor mximo) na rvore de teste deve ser nulo.
+		 */
+		assertNull(arvore.sucessor(180));
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreRubroNegra#predecessor(java.lang.Object)}.
+	 */
+	@Test
+	public void testPredecessor() {
+
+		/*
+		 * O valor do predecessor na rvore vazia deve ser nulo.
+		 */
+		assertNull(new ArvoreRubroNegra<Integer>().predecessor(59));
+
+		/*
+		 * O valor do predecessor de um valor inexistente na rvore de teste deve ser
+		 * nulo.
+		 */
+		assertNull(arvore.predecessor(1));
+
+		/*
+		 * Verificao do predecessor de valores da rvore de teste.
+		 */
+		assertEquals((int) arvore.predecessor(37).getConteudo(), 30);
+		assertEquals((int) arvore.predecessor(90).getConteudo(), 80);
+
+		/*
+		 * O valor predecessor de 5 (valor mnimo) na rvore de teste deve ser nulo.
+		 */
+		assertNull(arvore.predecessor(5));
+	}
+
+	/**
+	 * Mtodo auxiliar que verifica as propriedades da rvore rubro-negra a partir
+	 * da raiz: raiz preta, ausncia de ns vermelhos com filhos vermelhos, mesma
+	 * altura negra em todos os caminhos e consistncia das referncias aos pais.
+	 *
+	 * @param raiz Raiz da rvore.
+	 */
+	private void verificar(NoTriplo<Integer> raiz) {
+
+		if (raiz != null) {
+
+			assertFalse(((NoRubroNegro<Integer>) raiz).ehVermelho());
+			assertNull(raiz.getPai());
+		}
+
+		this.alturaNegra(raiz);
+	}
+
+	/**
+	 * Mtodo auxiliar que calcula a altura negra de uma subrvore, verificando suas
+	 * propriedades.
+	 *
+	 * @param no Raiz da subrvore.
+	 *
+	 * @return Altura negra da subrvore.
+	 */
+	private int alturaNegra(NoTriplo<Integer> no) {
+
+		if (no == null) {
+
+			return 1;
+		}
+
+		boolean vermelho = ((NoRubroNegro<Integer>) no).ehVermelho();
+
+		for (NoTriplo<Integer> filho : Arrays.asList(no.getEsquerdo(), no.getDireito())) {
+
+			if (filho != null) {
+
+				assertTrue(filho.getPai() == no);
+				assertFalse(vermelho && ((NoRubroNegro<Integer>) filho).ehVermelho());
+			}
+		}
+
+		if (no.getEsquerdo() != null) {
+
+			assertTrue(no.getEsquerdo().getConteudo() < no.getConteudo());
+		}
+
+		if (no.getDireito() != null) {
+
+			assertTrue(no.getDireito().getConteudo() > no.getConteudo());
+		}
+
+		int esquerda = this.alturaNegra(no.getEsquerdo());
+		int direita = this.alturaNegra(no.getDireito());
+
+		assertEquals(esquerda, direita);
+
+		return esquerda + (vermelho ? 0 : 1);
+	}
+}
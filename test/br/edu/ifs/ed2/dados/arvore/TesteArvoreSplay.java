@@ -0,0 +1,216 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import br.edu.ifs.ed2.dados.no.NoTriplo;
+
+/**
+ * @author Marlos Tacio Silva
+ *
+ */
+public class TesteArvoreSplay {
+
+	/*
+	 * rvore splay utilizada nos testes.
+	 */
+	private ArvoreSplay<Integer> arvore;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+
+		/*
+		 * Insero dos mesmos valores da rvore de teste da rvore binria de busca.
+		 */
+		arvore = new ArvoreSplay<Integer>();
+
+		for (int valor : new int[] { 37, 20, 80, 10, 30, 59, 100, 5, 60, 90, 180 }) {
+
+			arvore.inserir(valor);
+		}
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreSplay#inserir(java.lang.Comparable)}.
+	 */
+	@Test
+	public void testInserir() {
+
+		/*
+		 * O n inserido deve ser movido at a raiz.
+		 */
+		arvore = new ArvoreSplay<Integer>();
+
+		assertFalse(arvore.inserir(null));
+		assertTrue(arvore.inserir(10));
+		assertTrue(arvore.inserir(20));
+		assertEquals(arvore.toString(), "20( 10 , - )");
+
+		assertTrue(arvore.inserir(15));
+		assertEquals(arvore.toString(), "15( 10 , 20 )");
+
+		assertTrue(arvore.inserir(5));
+		assertEquals(arvore.toString(), "5( - , 10( - , 15( - , 20 ) ) )");
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreSplay#buscar(java.lang.Comparable)}.
+	 */
+	@Test
+	public void testBuscar() {
+
+		/*
+		 * O n encontrado deve ser movido at a raiz.
+		 */
+		for (int valor : new int[] { 5, 180, 59, 37 }) {
+
+			NoTriplo<Integer> no = arvore.buscar(valor);
+
+			assertEquals((int) no.getConteudo(), valor);
+			assertTrue(arvore.getRaiz() == no);
+			assertNull(no.getPai());
+		}
+
+		/*
+		 * Em caso de busca mal sucedida, o ltimo n visitado deve ser movido at a
+		 * raiz.
+		 */
+		assertNull(arvore.buscar(61));
+		assertTrue(arvore.getRaiz().getConteudo() == 60 || arvore.getRaiz().getConteudo() == 80);
+
+		/*
+		 * A ordem dos elementos deve ser preservada pelos afunilamentos.
+		 */
+		List<Integer> elementos = new ArrayList<Integer>();
+		arvore.forEach(elementos::add);
+
+		assertEquals(elementos, List.of(5, 10, 20, 30, 37, 59, 60, 80, 90, 100, 180));
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreSplay#buscar(java.lang.Comparable)}
+	 * com um padro de acesso concentrado.
+	 */
+	@Test
+	public void testAcessoConcentrado() {
+
+		/*
+		 * A insero de valores crescentes degenera a rvore, e o acesso ao menor
+		 * valor deve reduzir a altura aproximadamente pela metade.
+		 */
+		arvore = new ArvoreSplay<Integer>();
+
+		for (int i = 0; i < 1000; ++i) {
+
+			arvore.inserir(i);
+		}
+
+		assertEquals(arvore.altura(), 1000);
+
+		arvore.buscar(0);
+		assertTrue(arvore.altura() <= 502);
+
+		/*
+		 * Aps os acessos repetidos a poucos valores, estes devem estar prximos 
+		 * raiz.
+		 */
+		Random aleatorio = new Random(37);
+
+		for (int i = 0; i < 10000; ++i) {
+
+			arvore.buscar(aleatorio.nextInt(5) * 200);
+		}
+
+		for (int valor = 0; valor < 1000; valor += 200) {
+
+			int profundidade = 0;
+
+			for (NoTriplo<Integer> no = arvore.getRaiz(); no.getConteudo() != valor; ++profundidade) {
+
+				no = valor > no.getConteudo() ? no.getDireito() : no.getEsquerdo();
+			}
+
+			assertTrue(profundidade < 5);
+		}
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreSplay#remover(java.lang.Comparable)}
+	 * aps inseres e remoes aleatrias.
+	 */
+	@Test
+	public void testRemover() {
+
+		assertFalse(arvore.remover(null));
+		assertFalse(arvore.remover(1));
+
+		/*
+		 * Insero e remoo de valores aleatrios, comparando os elementos com uma
+		 * lista ordenada de referncia.
+		 */
+		List<Integer> referencia = new ArrayList<Integer>();
+		arvore = new ArvoreSplay<Integer>();
+
+		Random aleatorio = new Random(37);
+
+		for (int i = 0; i < 5000; ++i) {
+
+			int valor = aleatorio.nextInt(500);
+			int posicao = Collections.binarySearch(referencia, valor);
+
+			if (posicao < 0) {
+
+				assertTrue(arvore.inserir(valor));
+				referencia.add(-posicao - 1, valor);
+			}
+
+			else {
+
+				assertTrue(arvore.remover(valor));
+				referencia.remove(posicao);
+			}
+		}
+
+		List<Integer> elementos = new ArrayList<Integer>();
+		arvore.forEach(elementos::add);
+
+		assertEquals(elementos, referencia);
+		assertEquals(arvore.tamanho(), referencia.size());
+	}
+
+	/**
+	 * Testar a invalidao dos iteradores de
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreSplay} por uma busca.
+	 */
+	@Test(expected = ConcurrentModificationException.class)
+	public void testIteratorBusca() {
+
+		Iterator<Integer> iterador = arvore.iterator();
+
+		iterador.next();
+		arvore.buscar(5);
+		iterador.next();
+	}
+}
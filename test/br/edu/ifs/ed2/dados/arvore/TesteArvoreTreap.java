@@ -0,0 +1,322 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import br.edu.ifs.ed2.dados.no.NoTreap;
+import br.edu.ifs.ed2.dados.no.NoTriplo;
+
+/**
+ * @author Marlos Tacio Silva
+ *
+ */
+public class TesteArvoreTreap {
+
+	/*
+	 * Treap utilizada nos testes.
+	 */
+	private ArvoreTreap<Integer> arvore;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+
+		/*
+		 * Inicializao da rvore, com semente fixa para a gerao das prioridades.
+		 */
+		arvore = new ArvoreTreap<Integer>(37);
+
+		/*
+		 * Insero dos mesmos valores da rvore de teste da rvore binria de busca.
+		 */
+		for (int valor : new int[] { 37, 20, 80, 10, 30, 59, 100, 5, 60, 90, 180 }) {
+
+			arvore.inserir(valor);
+		}
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreTreap#inserir(java.lang.Comparable)}.
+	 */
+	@Test
+	public void testInserir() {
+
+		/*
+		 * Tentativa de insero de um valor nulo na rvore.
+		 */
+		assertFalse(arvore.inserir(null));
+		this.verificar(arvore.getRaiz());
+
+		/*
+		 * Insero de valores crescentes, cuja profundidade esperada  logartmica
+		 * graas s prioridades aleatrias.
+		 */
+		arvore = new ArvoreTreap<Integer>(37);
+
+		for (int i = 0; i < 100000; ++i) {
+
+			assertTrue(arvore.inserir(i));
+		}
+
+		assertTrue(arvore.altura() <= 4 * Math.log(100000) / Math.log(2));
+		assertEquals(arvore.tamanho(), 100000);
+		this.verificar(arvore.getRaiz());
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreTreap#remover(java.lang.Comparable)}.
+	 */
+	@Test
+	public void testRemover() {
+
+		/*
+		 * Tentativa de remoo de um valor nulo e de um valor inexistente na rvore.
+		 */
+		assertFalse(arvore.remover(null));
+		assertFalse(arvore.remover(1));
+
+		/*
+		 * Remoo da raiz, que possui ambos os filhos.
+		 */
+		int raiz = arvore.getRaiz().getConteudo();
+
+		assertTrue(arvore.remover(raiz));
+		assertNull(arvore.buscar(raiz));
+		assertEquals(arvore.tamanho(), 10);
+		this.verificar(arvore.getRaiz());
+
+		/*
+		 * Insero e remoo de valores aleatrios, verificando as propriedades da
+		 * rvore a cada operao.
+		 */
+		Random aleatorio = new Random(37);
+
+		for (int i = 0; i < 2000; ++i) {
+
+			int valor = aleatorio.nextInt(500);
+
+			if (arvore.buscar(valor) == null) {
+
+				assertTrue(arvore.inserir(valor));
+			}
+
+			else {
+
+				assertTrue(arvore.remover(valor));
+				assertNull(arvore.buscar(valor));
+			}
+
+			this.verificar(arvore.getRaiz());
+		}
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreTreap#dividir(java.lang.Comparable)}.
+	 */
+	@Test
+	public void testDividir() {
+
+		/*
+		 * Diviso a partir de um valor inexistente na rvore de teste.
+		 */
+		ArvoreTreap<Integer> maiores = arvore.dividir(50);
+
+		assertEquals((int) arvore.maximo().getConteudo(), 37);
+		assertEquals((int) maiores.minimo().getConteudo(), 59);
+		assertEquals(arvore.tamanho(), 5);
+		assertEquals(maiores.tamanho(), 6);
+		this.verificar(arvore.getRaiz());
+		this.verificar(maiores.getRaiz());
+
+		/*
+		 * Diviso a partir de um valor existente, que deve permanecer na nova rvore.
+		 */
+		ArvoreTreap<Integer> restantes = maiores.dividir(90);
+
+		assertEquals((int) maiores.maximo().getConteudo(), 80);
+		assertEquals((int) restantes.minimo().getConteudo(), 90);
+		assertEquals(restantes.tamanho(), 3);
+		this.verificar(maiores.getRaiz());
+		this.verificar(restantes.getRaiz());
+
+		/*
+		 * Divises nos extremos, que devem resultar em uma das rvores vazia.
+		 */
+		assertEquals(restantes.dividir(1000).tamanho(), 0);
+		assertEquals(restantes.tamanho(), 3);
+		assertEquals(restantes.dividir(0).tamanho(), 3);
+		assertEquals(restantes.tamanho(), 0);
+		assertNull(restantes.getRaiz());
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreTreap#dividir(java.lang.Comparable)}
+	 * com uma chave nula.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testDividirNulo() {
+
+		arvore.dividir(null);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreTreap#unir(br.edu.ifs.ed2.dados.arvore.ArvoreTreap)}.
+	 */
+	@Test
+	public void testUnir() {
+
+		/*
+		 * Unio com uma rvore cujos elementos so maiores do que os da rvore de
+		 * teste.
+		 */
+		ArvoreTreap<Integer> outra = new ArvoreTreap<Integer>(59);
+
+		for (int i = 200; i < 300; ++i) {
+
+			outra.inserir(i);
+		}
+
+		arvore.unir(outra);
+
+		assertEquals(arvore.tamanho(), 111);
+		assertEquals(outra.tamanho(), 0);
+		assertNull(outra.getRaiz());
+		assertEquals((int) arvore.maximo().getConteudo(), 299);
+		assertEquals((int) arvore.sucessor(180).getConteudo(), 200);
+		this.verificar(arvore.getRaiz());
+
+		/*
+		 * Unio com rvores vazias, em ambos os sentidos.
+		 */
+		arvore.unir(outra);
+		assertEquals(arvore.tamanho(), 111);
+
+		outra.unir(arvore);
+		assertEquals(outra.tamanho(), 111);
+		assertEquals(arvore.tamanho(), 0);
+		this.verificar(outra.getRaiz());
+
+		/*
+		 * Sucessivas divises e unies devem restaurar a rvore original.
+		 */
+		TreeSet<Integer> esperado = new TreeSet<Integer>();
+
+		for (int valor : outra) {
+
+			esperado.add(valor);
+		}
+
+		Random aleatorio = new Random(37);
+
+		for (int i = 0; i < 200; ++i) {
+
+			ArvoreTreap<Integer> direita = outra.dividir(aleatorio.nextInt(320));
+
+			outra.unir(direita);
+			this.verificar(outra.getRaiz());
+		}
+
+		assertEquals(outra.tamanho(), esperado.size());
+
+		Iterator<Integer> iterador = esperado.iterator();
+
+		for (int valor : outra) {
+
+			assertEquals(valor, (int) iterador.next());
+		}
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ArvoreTreap#unir(br.edu.ifs.ed2.dados.arvore.ArvoreTreap)}
+	 * com uma rvore cujos elementos no so maiores do que os da rvore de teste.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnirForaDeOrdem() {
+
+		ArvoreTreap<Integer> outra = new ArvoreTreap<Integer>();
+
+		outra.inserir(100);
+		arvore.unir(outra);
+	}
+
+	/**
+	 * Mtodo auxiliar que verifica as propriedades da treap a partir da raiz:
+	 * ordem de busca das chaves, ordem de heap das prioridades, quantidade de ns
+	 * das subrvores e consistncia das referncias aos pais.
+	 *
+	 * @param raiz Raiz da rvore.
+	 */
+	private void verificar(NoTriplo<Integer> raiz) {
+
+		if (raiz != null) {
+
+			assertNull(raiz.getPai());
+		}
+
+		this.contar(raiz);
+	}
+
+	/**
+	 * Mtodo auxiliar que conta os ns de uma subrvore, verificando suas
+	 * propriedades.
+	 *
+	 * @param no Raiz da subrvore.
+	 *
+	 * @return Quantidade de ns da subrvore.
+	 */
+	private int contar(NoTriplo<Integer> no) {
+
+		if (no == null) {
+
+			return 0;
+		}
+
+		NoTreap<Integer> treap = (NoTreap<Integer>) no;
+
+		for (NoTriplo<Integer> filho : Arrays.asList(no.getEsquerdo(), no.getDireito())) {
+
+			if (filho != null) {
+
+				assertTrue(filho.getPai() == no);
+				assertTrue(((NoTreap<Integer>) filho).getPrioridade() <= treap.getPrioridade());
+			}
+		}
+
+		if (no.getEsquerdo() != null) {
+
+			assertTrue(no.getEsquerdo().getConteudo() < no.getConteudo());
+		}
+
+		if (no.getDireito() != null) {
+
+			assertTrue(no.getDireito().getConteudo() > no.getConteudo());
+		}
+
+		int quantidade = 1 + this.contar(no.getEsquerdo()) + this.contar(no.getDireito());
+
+		assertEquals(treap.getTamanho(), quantidade);
+
+		return quantidade;
+	}
+}
@@ -0,0 +1,199 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Marlos Tacio Silva
+ *
+ */
+public class TesteIntArvoreBinaria {
+
+	/*
+	 * rvore de chaves inteiras utilizada nos testes.
+	 */
+	private IntArvoreBinaria arvore;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+
+		/*
+		 * Insero dos mesmos valores da rvore de teste da rvore binria de busca,
+		 * com capacidade inicial reduzida para exercitar o crescimento dos vetores.
+		 */
+		arvore = new IntArvoreBinaria(2);
+
+		for (int valor : new int[] { 37, 20, 80, 10, 30, 59, 100, 5, 60, 90, 180 }) {
+
+			arvore.inserir(valor);
+		}
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.IntArvoreBinaria#inserir(int)}.
+	 */
+	@Test
+	public void testInserir() {
+
+		assertEquals(arvore.toString(), "37( 20( 10( 5 , - ) , 30 ) , 80( 59( - , 60 ) , 100( 90 , 180 ) ) )");
+		assertEquals(arvore.tamanho(), 11);
+		assertEquals(arvore.altura(), 4);
+
+		/*
+		 * Os valores repetidos devem ser inseridos  direita.
+		 */
+		assertTrue(arvore.inserir(37));
+		assertEquals(arvore.toString(),
+				"37( 20( 10( 5 , - ) , 30 ) , 80( 59( 37 , 60 ) , 100( 90 , 180 ) ) )");
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.IntArvoreBinaria#remover(int)}.
+	 */
+	@Test
+	public void testRemover() {
+
+		/*
+		 * Tentativa de remoo de um valor inexistente na rvore.
+		 */
+		assertFalse(arvore.remover(1));
+
+		/*
+		 * Remoo de uma folha, de um n com um filho e de um n com dois filhos.
+		 */
+		assertTrue(arvore.remover(60));
+		assertTrue(arvore.remover(10));
+		assertTrue(arvore.remover(37));
+		assertEquals(arvore.toString(), "59( 20( 5 , 30 ) , 80( - , 100( 90 , 180 ) ) )");
+		assertEquals(arvore.tamanho(), 8);
+
+		/*
+		 * As posies liberadas devem ser reaproveitadas pelas novas inseres.
+		 */
+		assertTrue(arvore.inserir(1));
+		assertTrue(arvore.buscar(1) < 11);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.IntArvoreBinaria#buscar(int)}.
+	 */
+	@Test
+	public void testBuscar() {
+
+		assertEquals(arvore.buscar(1), IntArvoreBinaria.NULO);
+		assertEquals(arvore.getChave(arvore.buscar(59)), 59);
+		assertEquals(arvore.buscar(37), arvore.getRaiz());
+	}
+
+	/**
+	 * Testar mtodos para
+	 * {@link br.edu.ifs.ed2.dados.arvore.IntArvoreBinaria#minimo()},
+	 * {@link br.edu.ifs.ed2.dados.arvore.IntArvoreBinaria#maximo()},
+	 * {@link br.edu.ifs.ed2.dados.arvore.IntArvoreBinaria#sucessor(int)} e
+	 * {@link br.edu.ifs.ed2.dados.arvore.IntArvoreBinaria#predecessor(int)}.
+	 */
+	@Test
+	public void testExtremosSucessorPredecessor() {
+
+		/*
+		 * Os valores extremos na rvore vazia devem ser nulos.
+		 */
+		assertEquals(new IntArvoreBinaria().minimo(), IntArvoreBinaria.NULO);
+		assertEquals(new IntArvoreBinaria().maximo(), IntArvoreBinaria.NULO);
+
+		/*
+		 * Verificao dos valores extremos, do sucessor e do predecessor de valores da
+		 * rvore de teste.
+		 */
+		assertEquals(arvore.getChave(arvore.minimo()), 5);
+		assertEquals(arvore.getChave(arvore.maximo()), 180);
+
+		assertEquals(arvore.getChave(arvore.sucessor(37)), 59);
+		assertEquals(arvore.getChave(arvore.sucessor(30)), 37);
+		assertEquals(arvore.getChave(arvore.predecessor(37)), 30);
+		assertEquals(arvore.getChave(arvore.predecessor(90)), 80);
+
+		assertEquals(arvore.sucessor(180), IntArvoreBinaria.NULO);
+		assertEquals(arvore.predecessor(5), IntArvoreBinaria.NULO);
+		assertEquals(arvore.sucessor(1), IntArvoreBinaria.NULO);
+	}
+
+	/**
+	 * Testar mtodos para
+	 * {@link br.edu.ifs.ed2.dados.arvore.IntArvoreBinaria#inserir(int)} e
+	 * {@link br.edu.ifs.ed2.dados.arvore.IntArvoreBinaria#remover(int)} em
+	 * comparao com a rvore binria de busca genrica.
+	 */
+	@Test
+	public void testOperacoesAleatorias() {
+
+		/*
+		 * As mesmas operaes devem resultar na mesma estrutura em ambas as rvores.
+		 */
+		ArvoreBinaria<Integer> referencia = new ArvoreBinaria<Integer>();
+		arvore = new IntArvoreBinaria();
+
+		Random aleatorio = new Random(37);
+
+		for (int i = 0; i < 5000; ++i) {
+
+			int valor = aleatorio.nextInt(300);
+
+			if (aleatorio.nextBoolean()) {
+
+				assertEquals(arvore.inserir(valor), referencia.inserir(valor));
+			}
+
+			else {
+
+				assertEquals(arvore.remover(valor), referencia.remover(valor));
+			}
+		}
+
+		assertEquals(arvore.toString(), referencia.toString());
+		assertEquals(arvore.tamanho(), referencia.tamanho());
+		assertEquals(arvore.altura(), referencia.altura());
+
+		/*
+		 * O percurso em ordem pelos ndices deve coincidir com o da rvore genrica.
+		 */
+		int no = arvore.minimo();
+
+		for (int valor : referencia) {
+
+			assertEquals(arvore.getChave(no), valor);
+			no = arvore.proximo(no);
+		}
+
+		assertEquals(no, IntArvoreBinaria.NULO);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.arvore.IntArvoreBinaria#limpar()}.
+	 */
+	@Test
+	public void testLimpar() {
+
+		arvore.limpar();
+
+		assertEquals(arvore.getRaiz(), IntArvoreBinaria.NULO);
+		assertEquals(arvore.tamanho(), 0);
+		assertEquals(arvore.toString(), "");
+	}
+}
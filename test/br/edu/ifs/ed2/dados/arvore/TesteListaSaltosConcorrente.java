@@ -0,0 +1,234 @@
+/**
+ *
+ */
+package br.edu.ifs.ed2.dados.arvore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Marlos Tacio Silva
+ *
+ */
+public class TesteListaSaltosConcorrente {
+
+	/*
+	 * Lista de saltos utilizada nos testes.
+	 */
+	private ListaSaltosConcorrente<Integer> lista;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+
+		/*
+		 * Insero dos mesmos valores da rvore de teste da rvore binria de busca.
+		 */
+		lista = new ListaSaltosConcorrente<Integer>();
+
+		for (int valor : new int[] { 37, 20, 80, 10, 30, 59, 100, 5, 60, 90, 180 }) {
+
+			lista.inserir(valor);
+		}
+	}
+
+	/**
+	 * Testar mtodos para
+	 * {@link br.edu.ifs.ed2.dados.arvore.ListaSaltosConcorrente#inserir(Comparable)}
+	 * e
+	 * {@link br.edu.ifs.ed2.dados.arvore.ListaSaltosConcorrente#remover(Comparable)}.
+	 */
+	@Test
+	public void testInserirRemover() {
+
+		assertEquals(lista.toString(), "[5, 10, 20, 30, 37, 59, 60, 80, 90, 100, 180]");
+		assertEquals(lista.tamanho(), 11);
+
+		/*
+		 * Os valores nulos e repetidos no devem ser inseridos.
+		 */
+		assertFalse(lista.inserir(null));
+		assertFalse(lista.inserir(37));
+
+		/*
+		 * Os valores nulos e inexistentes no devem ser removidos.
+		 */
+		assertFalse(lista.remover(null));
+		assertFalse(lista.remover(1));
+
+		assertTrue(lista.remover(37));
+		assertTrue(lista.remover(5));
+		assertTrue(lista.remover(180));
+		assertFalse(lista.remover(37));
+
+		assertEquals(lista.toString(), "[10, 20, 30, 59, 60, 80, 90, 100]");
+		assertEquals(lista.tamanho(), 8);
+	}
+
+	/**
+	 * Testar mtodos de leitura de
+	 * {@link br.edu.ifs.ed2.dados.arvore.ListaSaltosConcorrente}.
+	 */
+	@Test
+	public void testLeituras() {
+
+		/*
+		 * As leituras na lista vazia devem ser nulas.
+		 */
+		ListaSaltosConcorrente<Integer> vazia = new ListaSaltosConcorrente<Integer>();
+
+		assertNull(vazia.minimo());
+		assertNull(vazia.maximo());
+		assertNull(vazia.buscar(1));
+
+		/*
+		 * Verificao das leituras na lista de teste.
+		 */
+		assertEquals((int) lista.buscar(59), 59);
+		assertNull(lista.buscar(1));
+
+		assertEquals((int) lista.minimo(), 5);
+		assertEquals((int) lista.maximo(), 180);
+
+		assertEquals((int) lista.sucessor(37), 59);
+		assertEquals((int) lista.sucessor(30), 37);
+		assertNull(lista.sucessor(180));
+		assertNull(lista.sucessor(1));
+
+		assertEquals((int) lista.predecessor(37), 30);
+		assertEquals((int) lista.predecessor(90), 80);
+		assertNull(lista.predecessor(5));
+		assertNull(lista.predecessor(1));
+	}
+
+	/**
+	 * Testar {@link br.edu.ifs.ed2.dados.arvore.ListaSaltosConcorrente} com
+	 * mltiplas threads disputando os mesmos valores.
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testConcorrencia() throws InterruptedException {
+
+		/*
+		 * Cada thread insere e remove valores aleatrios de um mesmo intervalo,
+		 * contabilizando as operaes bem sucedidas de cada valor.
+		 */
+		int threads = 8;
+		int valores = 512;
+
+		lista = new ListaSaltosConcorrente<Integer>();
+
+		AtomicIntegerArray saldo = new AtomicIntegerArray(valores);
+		ConcurrentLinkedQueue<Throwable> falhas = new ConcurrentLinkedQueue<Throwable>();
+		CountDownLatch inicio = new CountDownLatch(1);
+		List<Thread> trabalhadores = new ArrayList<Thread>();
+
+		for (int t = 0; t < threads; ++t) {
+
+			int semente = t;
+
+			trabalhadores.add(new Thread(() -> {
+
+				Random aleatorio = new Random(semente);
+
+				try {
+
+					inicio.await();
+
+					for (int i = 0; i < 50000; ++i) {
+
+						int valor = aleatorio.nextInt(valores);
+						int operacao = aleatorio.nextInt(3);
+
+						if (operacao == 0) {
+
+							if (lista.inserir(valor)) {
+
+								saldo.incrementAndGet(valor);
+							}
+						}
+
+						else if (operacao == 1) {
+
+							if (lista.remover(valor)) {
+
+								saldo.decrementAndGet(valor);
+							}
+						}
+
+						else {
+
+							Integer encontrado = lista.buscar(valor);
+							assertTrue(encontrado == null || encontrado == valor);
+						}
+					}
+				}
+
+				catch (Throwable e) {
+
+					falhas.add(e);
+				}
+			}));
+		}
+
+		for (Thread thread : trabalhadores) {
+
+			thread.start();
+		}
+
+		inicio.countDown();
+
+		for (Thread thread : trabalhadores) {
+
+			thread.join();
+		}
+
+		assertTrue(falhas.toString(), falhas.isEmpty());
+
+		/*
+		 * Cada valor deve estar na lista se, e somente se, o saldo de inseres e
+		 * remoes bem sucedidas for um.
+		 */
+		TreeSet<Integer> esperado = new TreeSet<Integer>();
+
+		for (int valor = 0; valor < valores; ++valor) {
+
+			int resultado = saldo.get(valor);
+
+			assertTrue(resultado == 0 || resultado == 1);
+
+			if (resultado == 1) {
+
+				esperado.add(valor);
+			}
+		}
+
+		List<Integer> elementos = new ArrayList<Integer>();
+		lista.forEach(elementos::add);
+
+		assertEquals(elementos, new ArrayList<Integer>(esperado));
+		assertEquals(lista.tamanho(), esperado.size());
+
+		if (!esperado.isEmpty()) {
+
+			assertEquals(lista.minimo(), esperado.first());
+			assertEquals(lista.maximo(), esperado.last());
+		}
+	}
+}
@@ -168,4 +168,173 @@ public class TesteHashAberto {
 		assertTrue(hash.remover(32));
 		assertEquals(hash.buscar(32), -1);
 	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.hash.HashAberto#getEstado()}.
+	 */
+	@Test
+	public void testEstado() {
+
+		HashAberto<Integer> tabela = (HashAberto<Integer>) hash;
+
+		/*
+		 * Todas as clulas de uma tabela nova devem estar livres.
+		 */
+		for (int i = 0; i < tamanho; ++i) {
+
+			assertEquals(tabela.getEstado()[i], HashAberto.LIVRE);
+		}
+
+		/*
+		 * Insero de elementos no primeiro ndice da tabela, que devem ocupar as duas
+		 * primeiras clulas.
+		 */
+		tabela.inserir(0);
+		tabela.inserir(8);
+
+		assertEquals(tabela.getEstado()[0], HashAberto.OCUPADO);
+		assertEquals(tabela.getEstado()[1], HashAberto.OCUPADO);
+		assertEquals(tabela.getEstado()[2], HashAberto.LIVRE);
+
+		/*
+		 * A remoo do elemento 0 deve marcar a clula como removida, sem interromper
+		 * a busca do elemento 8.
+		 */
+		assertTrue(tabela.remover(0));
+		assertEquals(tabela.getEstado()[0], HashAberto.REMOVIDO);
+		assertEquals(tabela.buscar(8), 1);
+		assertEquals(tabela.toString(), "-\n8\n-\n-\n-\n-\n-\n-\n");
+
+		/*
+		 * A clula removida deve ser reutilizada pela insero seguinte.
+		 */
+		tabela.inserir(16);
+		assertEquals(tabela.getEstado()[0], HashAberto.OCUPADO);
+		assertEquals(tabela.buscar(16), 0);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.hash.Hash#inserir(java.lang.Object)}
+	 * e
+	 * {@link br.edu.ifs.ed2.dados.hash.Hash#remover(java.lang.Object)}
+	 * numa tabela redimensionada automaticamente.
+	 */
+	@Test
+	public void testRedimensionar() {
+
+		/*
+		 * Insero de valores numa tabela com fator de carga mximo de 0,75, que deve
+		 * ser duplicada sempre que o fator de carga for excedido.
+		 */
+		HashAberto<Integer> tabela = new HashAberto<Integer>(tamanho, chave, espalhamento, colisao, 0.75);
+
+		for (int i = 0; i < 100; ++i) {
+
+			assertTrue(tabela.inserir(i));
+			assertTrue(tabela.getQuantidade() <= 0.75 * tabela.getTamanho());
+		}
+
+		assertEquals(tabela.getQuantidade(), 100);
+		assertEquals(tabela.getTamanho(), 256);
+
+		/*
+		 * Todos os valores devem ser encontrados no ndice calculado para a nova
+		 * tabela.
+		 */
+		for (int i = 0; i < 100; ++i) {
+
+			assertEquals(tabela.buscar(i), i);
+		}
+
+		assertEquals(tabela.buscar(100), -1);
+
+		/*
+		 * Remoo de quase todos os valores, que deve reduzir a tabela sem torn-la
+		 * menor do que o tamanho inicial.
+		 */
+		for (int i = 0; i < 96; ++i) {
+
+			assertTrue(tabela.remover(i));
+		}
+
+		assertEquals(tabela.getQuantidade(), 4);
+		assertTrue(tabela.getTamanho() < 256);
+		assertTrue(tabela.getTamanho() >= tamanho);
+
+		for (int i = 96; i < 100; ++i) {
+
+			assertTrue(tabela.buscar(i) >= 0);
+		}
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.hash.Hash#inserir(java.lang.Object)}
+	 * numa tabela redimensionada automaticamente, aps sucessivas inseres e
+	 * remoes que marcam clulas como removidas.
+	 */
+	@Test
+	public void testRedimensionarRemovidos() {
+
+		HashAberto<Integer> tabela = new HashAberto<Integer>(1024, chave, espalhamento, colisao, 0.75);
+
+		/*
+		 * Insero de 500 valores, seguida da remoo do valor mais antigo e da
+		 * insero de um novo valor, repetidas vezes.
+		 */
+		for (int i = 0; i < 500; ++i) {
+
+			assertTrue(tabela.inserir(i));
+		}
+
+		for (int i = 500; i < 200000; ++i) {
+
+			assertTrue(tabela.remover(i - 500));
+			assertTrue(tabela.inserir(i));
+		}
+
+		assertEquals(tabela.getQuantidade(), 500);
+
+		/*
+		 * As clulas ocupadas e removidas no devem exceder o fator de carga, de modo
+		 * que as buscas mal sucedidas encontrem clulas livres.
+		 */
+		int livres = 0;
+
+		for (int i = 0; i < tabela.getTamanho(); ++i) {
+
+			if (tabela.getEstado()[i] == HashAberto.LIVRE) {
+
+				++livres;
+			}
+		}
+
+		assertTrue(livres >= 0.25 * tabela.getTamanho());
+		assertEquals(tabela.buscar(0), -1);
+		assertTrue(tabela.buscar(199999) >= 0);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.hash.HashAberto#HashAberto(int, br.edu.ifs.ed2.dados.hash.chave.EstrategiaChave, br.edu.ifs.ed2.dados.hash.espalhamento.EstrategiaEspalhamento, br.edu.ifs.ed2.dados.hash.colisao.EstrategiaColisao, double)}
+	 * com um fator de carga negativo.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testFatorCargaInvalido() {
+
+		new HashAberto<Integer>(tamanho, chave, espalhamento, colisao, -0.5);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.hash.HashAberto#HashAberto(int, br.edu.ifs.ed2.dados.hash.chave.EstrategiaChave, br.edu.ifs.ed2.dados.hash.espalhamento.EstrategiaEspalhamento, br.edu.ifs.ed2.dados.hash.colisao.EstrategiaColisao, double)}
+	 * com um fator de carga maior do que um.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testFatorCargaExcedente() {
+
+		new HashAberto<Integer>(tamanho, chave, espalhamento, colisao, 2.0);
+	}
 }
@@ -4,6 +4,7 @@
 package br.edu.ifs.ed2.dados.hash;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -148,4 +149,168 @@ public class TesteHashEncadeado {
 		assertEquals(hash.buscar(0), -1);
 		assertEquals(hash.buscar(9), -1);
 	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.hash.Hash#inserir(java.lang.Object)}
+	 * e
+	 * {@link br.edu.ifs.ed2.dados.hash.Hash#remover(java.lang.Object)}
+	 * numa tabela redimensionada automaticamente.
+	 */
+	@Test
+	public void testRedimensionar() {
+
+		/*
+		 * Insero de valores numa tabela com fator de carga mximo de 0,75, que deve
+		 * ser duplicada sempre que o fator de carga for excedido.
+		 */
+		HashEncadeado<Integer> tabela = new HashEncadeado<Integer>(tamanho, chave, espalhamento, colisao, 0.75);
+
+		for (int i = 0; i < 100; ++i) {
+
+			assertTrue(tabela.inserir(i));
+			assertTrue(tabela.getQuantidade() <= 0.75 * tabela.getTamanho());
+		}
+
+		assertEquals(tabela.getQuantidade(), 100);
+		assertEquals(tabela.getTamanho(), 256);
+
+		/*
+		 * Todos os valores devem ser encontrados no ndice calculado para a nova
+		 * tabela.
+		 */
+		for (int i = 0; i < 100; ++i) {
+
+			assertEquals(tabela.buscar(i), i % tabela.getTamanho());
+		}
+
+		assertEquals(tabela.buscar(100), -1);
+
+		/*
+		 * Remoo de quase todos os valores, que deve reduzir a tabela sem torn-la
+		 * menor do que o tamanho inicial.
+		 */
+		for (int i = 0; i < 96; ++i) {
+
+			assertTrue(tabela.remover(i));
+		}
+
+		assertEquals(tabela.getQuantidade(), 4);
+		assertTrue(tabela.getTamanho() < 256);
+		assertTrue(tabela.getTamanho() >= tamanho);
+
+		for (int i = 96; i < 100; ++i) {
+
+			assertTrue(tabela.buscar(i) >= 0);
+		}
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.hash.HashEncadeado#inserir(java.lang.Object)}
+	 * numa tabela redimensionada de forma incremental.
+	 */
+	@Test
+	public void testRedimensionarIncremental() {
+
+		/*
+		 * Insero de valores numa tabela incremental, verificando aps cada insero
+		 * que todos os valores j inseridos continuam sendo encontrados, mesmo durante
+		 * a migrao entre as tabelas.
+		 */
+		HashEncadeado<Integer> tabela = new HashEncadeado<Integer>(tamanho, chave, espalhamento, colisao, 0.75, true);
+		boolean redimensionou = false;
+
+		for (int i = 0; i < 200; ++i) {
+
+			assertTrue(tabela.inserir(i));
+			redimensionou |= tabela.estaRedimensionando();
+
+			for (int j = 0; j <= i; ++j) {
+
+				assertEquals(tabela.buscar(j), j % tabela.getTamanho());
+			}
+		}
+
+		/*
+		 * O redimensionamento no deve migrar todos os elementos de uma s vez.
+		 */
+		assertTrue(redimensionou);
+
+		/*
+		 * Insero de um grande volume de valores, que devem ser todos encontrados na
+		 * tabela final.
+		 */
+		for (int i = 200; i < 10000; ++i) {
+
+			assertTrue(tabela.inserir(i));
+		}
+
+		assertEquals(tabela.getQuantidade(), 10000);
+		assertEquals(tabela.getTamanho(), 16384);
+
+		for (int i = 0; i < 10000; ++i) {
+
+			assertEquals(tabela.buscar(i), i);
+		}
+
+		assertFalse(tabela.estaRedimensionando());
+
+		/*
+		 * Remoo dos valores pares, que no devem mais ser encontrados.
+		 */
+		for (int i = 0; i < 10000; i += 2) {
+
+			assertTrue(tabela.remover(i));
+			assertEquals(tabela.buscar(i), -1);
+			assertTrue(tabela.buscar(i + 1) >= 0);
+		}
+
+		assertEquals(tabela.getQuantidade(), 5000);
+	}
+
+	/**
+	 * Testar a quantidade de clulas migradas por operao numa tabela
+	 * redimensionada de forma incremental, inclusive quando os redimensionamentos
+	 * so solicitados durante uma migrao em curso.
+	 */
+	@Test
+	public void testMigracaoPorOperacao() {
+
+		HashEncadeado<Integer> tabela = new HashEncadeado<Integer>(tamanho, chave, espalhamento, colisao, 0.75, true);
+
+		/*
+		 * Cada insero deve migrar no mximo a clula do contedo e duas outras.
+		 */
+		int quantidade = 1 << 16;
+
+		for (int i = 0; i < quantidade; ++i) {
+
+			int migracoes = tabela.migracoes;
+			assertTrue(tabela.inserir(i));
+			assertTrue(tabela.migracoes - migracoes <= 3);
+		}
+
+		int maximo = tabela.getTamanho();
+
+		/*
+		 * A remoo em ordem provoca sucessivas redues da tabela, que no devem
+		 * concluir de uma s vez a migrao em curso.
+		 */
+		for (int i = 0; i < quantidade; ++i) {
+
+			int migracoes = tabela.migracoes;
+			assertTrue(tabela.remover(i));
+			assertTrue(tabela.migracoes - migracoes <= 3);
+
+			if (i % 1024 == 0) {
+
+				assertEquals(tabela.buscar(i), -1);
+				assertTrue(tabela.buscar(quantidade - 1) >= 0);
+			}
+		}
+
+		assertEquals(tabela.getQuantidade(), 0);
+		assertTrue(tabela.getTamanho() < maximo);
+	}
 }
@@ -0,0 +1,282 @@
+/**
+ * 
+ */
+package br.edu.ifs.ed2.dados.hash;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import br.edu.ifs.ed2.dados.hash.chave.ChaveNumerica;
+import br.edu.ifs.ed2.dados.hash.chave.EstrategiaChave;
+import br.edu.ifs.ed2.dados.hash.colisao.ColisaoLinear;
+import br.edu.ifs.ed2.dados.hash.espalhamento.EspalhamentoDivisao;
+import br.edu.ifs.ed2.dados.hash.espalhamento.EstrategiaEspalhamento;
+
+/**
+ * @author Marlos Tacio Silva
+ *
+ */
+public class TesteHashRobinHood {
+
+	/*
+	 * Tamanho da tabela hash.
+	 */
+	private int tamanho = 8;
+
+	/*
+	 * Estratgia de gerao de chaves numricas.
+	 */
+	private EstrategiaChave<Integer> chave = new ChaveNumerica();
+
+	/*
+	 * Estratgia de espalhamento dos elementos na tabela hash.
+	 */
+	private EstrategiaEspalhamento<Integer> espalhamento = new EspalhamentoDivisao<Integer>();
+
+	/*
+	 * Tabela Hash com endereamento aberto e poltica Robin Hood.
+	 */
+	private HashRobinHood<Integer> hash = new HashRobinHood<Integer>(tamanho, chave, espalhamento);
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.hash.Hash#inserir(java.lang.Object)}.
+	 */
+	@Test
+	public void testInserir() {
+
+		/*
+		 * Insero do elemento 1 no seu ndice inicial e do elemento 0 no primeiro
+		 * ndice da tabela.
+		 */
+		assertTrue(hash.inserir(1));
+		assertTrue(hash.inserir(0));
+
+		/*
+		 * O elemento 8, a distncia 1 do seu ndice inicial, deve desalojar o elemento
+		 * 1, que est no seu ndice inicial.
+		 */
+		assertTrue(hash.inserir(8));
+		assertEquals(hash.toString(), "0\n8\n1\n-\n-\n-\n-\n-\n");
+		assertEquals(hash.getDistancia()[1], 1);
+		assertEquals(hash.getDistancia()[2], 1);
+
+		/*
+		 * O elemento 9 no deve desalojar o elemento 1, que est  mesma distncia do
+		 * seu ndice inicial.
+		 */
+		assertTrue(hash.inserir(9));
+		assertEquals(hash.toString(), "0\n8\n1\n9\n-\n-\n-\n-\n");
+		assertEquals(hash.getDistancia()[3], 2);
+		assertEquals(hash.getDistanciaMaxima(), 2);
+
+		/*
+		 * Insero de elementos at preencher toda a tabela.
+		 */
+		for (int valor : new int[] { 4, 5, 6, 7 }) {
+
+			assertTrue(hash.inserir(valor));
+		}
+
+		/*
+		 * Insero de um elemento com a tabela cheia.
+		 */
+		assertFalse(hash.inserir(64));
+		assertEquals(hash.getQuantidade(), tamanho);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.hash.Hash#buscar(java.lang.Object)}.
+	 */
+	@Test
+	public void testBuscar() {
+
+		/*
+		 * Insero de elementos no primeiro ndice da tabela, seguidos de elementos em
+		 * seus ndices iniciais.
+		 */
+		for (int valor : new int[] { 0, 8, 16, 3, 4, 5 }) {
+
+			hash.inserir(valor);
+		}
+
+		/*
+		 * Busca dos ndices dos elementos na tabela.
+		 */
+		assertEquals(hash.buscar(0), 0);
+		assertEquals(hash.buscar(8), 1);
+		assertEquals(hash.buscar(16), 2);
+		assertEquals(hash.buscar(3), 3);
+		assertEquals(hash.buscar(4), 4);
+		assertEquals(hash.buscar(5), 5);
+
+		/*
+		 * A busca do elemento 24 deve ser interrompida no ndice 3, cujo elemento est
+		 * mais prximo do seu ndice inicial, antes de atingir a clula livre 6.
+		 */
+		assertEquals(hash.buscar(24), -1);
+		assertEquals(hash.buscar(2), -1);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.hash.Hash#remover(java.lang.Object)}.
+	 */
+	@Test
+	public void testRemover() {
+
+		/*
+		 * Insero de elementos no primeiro ndice da tabela e do elemento 1, que deve
+		 * ser posicionado aps eles.
+		 */
+		for (int valor : new int[] { 0, 8, 16, 1 }) {
+
+			hash.inserir(valor);
+		}
+
+		assertEquals(hash.toString(), "0\n8\n16\n1\n-\n-\n-\n-\n");
+
+		/*
+		 * A remoo do elemento 8 deve deslocar os elementos 16 e 1 para trs, sem
+		 * marcar clulas como removidas.
+		 */
+		assertTrue(hash.remover(8));
+		assertEquals(hash.toString(), "0\n16\n1\n-\n-\n-\n-\n-\n");
+		assertEquals(hash.getDistancia()[1], 1);
+		assertEquals(hash.getDistancia()[2], 1);
+		assertEquals(hash.getEstado()[3], HashAberto.LIVRE);
+
+		/*
+		 * A remoo do elemento 0 deve deslocar os elementos 16 e 1, que retorna ao
+		 * seu ndice inicial.
+		 */
+		assertTrue(hash.remover(0));
+		assertEquals(hash.toString(), "16\n1\n-\n-\n-\n-\n-\n-\n");
+		assertEquals(hash.buscar(1), 1);
+
+		/*
+		 * Tentativa de remoo de um elemento inexistente.
+		 */
+		assertFalse(hash.remover(8));
+
+		for (int i = 0; i < tamanho; ++i) {
+
+			assertTrue(hash.getEstado()[i] != HashAberto.REMOVIDO);
+		}
+	}
+
+	/**
+	 * Testar a consistncia da tabela numa sequncia aleatria de inseres e
+	 * remoes, com redimensionamento automtico.
+	 */
+	@Test
+	public void testAleatorio() {
+
+		hash = new HashRobinHood<Integer>(tamanho, chave, espalhamento, 0.9);
+
+		Set<Integer> referencia = new HashSet<Integer>();
+		Random aleatorio = new Random(37);
+
+		for (int i = 0; i < 20000; ++i) {
+
+			int valor = aleatorio.nextInt(2000);
+
+			if (referencia.contains(valor)) {
+
+				assertTrue(hash.remover(valor));
+				referencia.remove(valor);
+			}
+
+			else {
+
+				assertEquals(hash.buscar(valor), -1);
+				assertTrue(hash.inserir(valor));
+				referencia.add(valor);
+			}
+
+			assertEquals(hash.getQuantidade(), referencia.size());
+		}
+
+		/*
+		 * Verificao das distncias armazenadas e da propriedade Robin Hood: a
+		 * distncia de uma clula ocupada excede a da anterior em no mximo uma unidade.
+		 */
+		for (int i = 0; i < hash.getTamanho(); ++i) {
+
+			if (hash.getEstado()[i] != HashAberto.OCUPADO) {
+
+				continue;
+			}
+
+			int valor = (Integer) ((HashAberto<?>) hash).getTabela()[i];
+			int inicial = espalhamento.calcularIndice(chave.gerarChave(valor), hash.getTamanho());
+
+			assertEquals(hash.getDistancia()[i], Math.floorMod(i - inicial, hash.getTamanho()));
+
+			int anterior = Math.floorMod(i - 1, hash.getTamanho());
+
+			if (hash.getDistancia()[i] > 0) {
+
+				assertTrue(hash.getEstado()[anterior] == HashAberto.OCUPADO);
+				assertTrue(hash.getDistancia()[i] <= hash.getDistancia()[anterior] + 1);
+			}
+		}
+
+		for (int valor : referencia) {
+
+			assertTrue(hash.buscar(valor) >= 0);
+		}
+	}
+
+	/**
+	 * Testar a maior distncia ao ndice inicial em comparao com a tcnica linear
+	 * convencional, numa tabela com fator de carga 0,9.
+	 */
+	@Test
+	public void testDistanciaMaxima() {
+
+		Hash<Integer> linear = new HashAberto<Integer>(1024, chave, espalhamento, new ColisaoLinear<Integer>());
+		hash = new HashRobinHood<Integer>(1024, chave, espalhamento);
+
+		Random aleatorio = new Random(37);
+
+		while (hash.getQuantidade() < 0.9 * 1024) {
+
+			int valor = aleatorio.nextInt(1 << 20);
+
+			if (hash.buscar(valor) < 0) {
+
+				linear.inserir(valor);
+				hash.inserir(valor);
+			}
+		}
+
+		/*
+		 * Clculo da maior distncia na tabela linear.
+		 */
+		int maxima = 0;
+
+		for (int i = 0; i < 1024; ++i) {
+
+			if (((HashAberto<?>) linear).getEstado()[i] != HashAberto.OCUPADO) {
+
+				continue;
+			}
+
+			int valor = (Integer) ((HashAberto<?>) linear).getTabela()[i];
+			int inicial = espalhamento.calcularIndice(chave.gerarChave(valor), 1024);
+
+			maxima = Math.max(maxima, Math.floorMod(i - inicial, 1024));
+		}
+
+		assertTrue(hash.getDistanciaMaxima() < maxima);
+	}
+}
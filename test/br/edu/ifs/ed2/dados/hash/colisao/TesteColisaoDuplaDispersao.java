@@ -0,0 +1,164 @@
+/**
+ * 
+ */
+package br.edu.ifs.ed2.dados.hash.colisao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import br.edu.ifs.ed2.dados.hash.Hash;
+import br.edu.ifs.ed2.dados.hash.HashAberto;
+import br.edu.ifs.ed2.dados.hash.chave.ChaveNumerica;
+import br.edu.ifs.ed2.dados.hash.chave.EstrategiaChave;
+import br.edu.ifs.ed2.dados.hash.espalhamento.EspalhamentoDivisao;
+import br.edu.ifs.ed2.dados.hash.espalhamento.EstrategiaEspalhamento;
+
+/**
+ * @author Marlos Tacio Silva
+ *
+ */
+public class TesteColisaoDuplaDispersao {
+
+	/*
+	 * Tamanho da tabela hash.
+	 */
+	private int tamanho = 8;
+
+	/*
+	 * Estratgia de gerao de chaves numricas.
+	 */
+	private EstrategiaChave<Integer> chave = new ChaveNumerica();
+
+	/*
+	 * Estratgia de espalhamento dos elementos na tabela hash.
+	 */
+	private EstrategiaEspalhamento<Integer> espalhamento = new EspalhamentoDivisao<Integer>();
+
+	/*
+	 * Estratgia de tratamento de colises.
+	 */
+	private EstrategiaColisao<Integer> colisao = new ColisaoDuplaDispersao<Integer>(espalhamento);
+
+	/*
+	 * Tabela Hash com endereamento aberto.
+	 */
+	private Hash<Integer> hash = new HashAberto<Integer>(tamanho, chave, espalhamento, colisao);
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.hash.colisao.ColisaoDuplaDispersao#obterIndiceLivre(int, br.edu.ifs.ed2.dados.hash.Hash, java.lang.Object)}.
+	 */
+	@Test
+	public void testObterIndiceLivre() {
+
+		/*
+		 * Insero de elementos no primeiro ndice da tabela.
+		 */
+		hash.inserir(0);
+		hash.inserir(8);
+
+		/*
+		 * Resoluo de coliso com o ndice inicial livre.
+		 */
+		assertEquals(colisao.obterIndiceLivre(2, hash, 2), 2);
+
+		/*
+		 * Resoluo de coliso com deslocamentos (16 % 7) | 1 = 3 e (24 % 7) | 1 = 3,
+		 * distintos do deslocamento de 8, que  1.
+		 */
+		assertEquals(colisao.obterIndiceLivre(0, hash, 16), 3);
+		assertEquals(colisao.obterIndiceLivre(0, hash, 24), 3);
+
+		/*
+		 * Com a insero de todos os elementos do primeiro ndice, a tabela deve ser
+		 * preenchida por completo, haja vista que todo deslocamento  mpar.
+		 */
+		for (int i = 2; i < tamanho; ++i) {
+
+			assertTrue(hash.inserir(8 * i));
+		}
+
+		assertEquals(colisao.obterIndiceLivre(0, hash, 64), -1);
+		assertFalse(hash.inserir(64));
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.hash.colisao.ColisaoDuplaDispersao#obterIndice(int, br.edu.ifs.ed2.dados.hash.Hash, java.lang.Object)}.
+	 */
+	@Test
+	public void testObterIndiceIntHashOfGG() {
+
+		/*
+		 * Insero de elementos na tabela.
+		 */
+		hash.inserir(0);
+		hash.inserir(8);
+		hash.inserir(16);
+		hash.inserir(24);
+		hash.inserir(32);
+		hash.inserir(40);
+
+		/*
+		 * Verificao dos elementos na tabela de espalhamento, cada qual com a sua
+		 * sequncia de sondagem.
+		 */
+		assertEquals(colisao.obterIndice(0, hash, 0), 0);
+		assertEquals(colisao.obterIndice(0, hash, 8), 1);
+		assertEquals(colisao.obterIndice(0, hash, 16), 3);
+		assertEquals(colisao.obterIndice(0, hash, 24), 6);
+		assertEquals(colisao.obterIndice(0, hash, 32), 5);
+		assertEquals(colisao.obterIndice(0, hash, 40), 2);
+
+		/*
+		 * O elemento 48, de deslocamento 7, no deve ser encontrado ao atingir a
+		 * clula livre 7.
+		 */
+		assertEquals(colisao.obterIndice(0, hash, 48), -1);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.hash.colisao.ColisaoDuplaDispersao#suportaTamanho(int)}.
+	 */
+	@Test
+	public void testSuportaTamanho() {
+
+		/*
+		 * Apenas as potncias de dois devem ser suportadas.
+		 */
+		assertTrue(colisao.suportaTamanho(1));
+		assertTrue(colisao.suportaTamanho(8));
+		assertTrue(colisao.suportaTamanho(1024));
+
+		assertFalse(colisao.suportaTamanho(0));
+		assertFalse(colisao.suportaTamanho(10));
+		assertFalse(colisao.suportaTamanho(12));
+		assertFalse(colisao.suportaTamanho(1000));
+	}
+
+	/**
+	 * Testar a construo de uma tabela com tamanho que no  potncia de dois,
+	 * que deve ser rejeitada.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testTamanhoNaoSuportado() {
+
+		new HashAberto<Integer>(1000, chave, espalhamento, colisao, 0.75);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.hash.colisao.EstrategiaColisao#obterIndice(int, br.edu.ifs.ed2.dados.hash.Hash)},
+	 * que deve ser rejeitado, j que o deslocamento depende do contedo.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	@SuppressWarnings("deprecation")
+	public void testObterIndiceSemConteudo() {
+
+		colisao.obterIndice(0, hash);
+	}
+}
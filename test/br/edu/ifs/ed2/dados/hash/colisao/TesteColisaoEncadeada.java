@@ -50,6 +50,7 @@ public class TesteColisaoEncadeada {
 	 * {@link br.edu.ifs.ed2.dados.hash.colisao.ColisaoEncadeada#obterIndice(int, br.edu.ifs.ed2.dados.hash.Hash)}.
 	 */
 	@Test
+	@SuppressWarnings("deprecation")
 	public void testObterIndiceIntHashOfG() {
 
 		/*
@@ -50,6 +50,7 @@ public class TesteColisaoLinear {
 	 * {@link br.edu.ifs.ed2.dados.hash.colisao.ColisaoLinear#obterIndice(int, br.edu.ifs.ed2.dados.hash.Hash)}.
 	 */
 	@Test
+	@SuppressWarnings("deprecation")
 	public void testObterIndiceIntHashOfG() {
 
 		/*
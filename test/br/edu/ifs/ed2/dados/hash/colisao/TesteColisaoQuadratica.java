@@ -0,0 +1,157 @@
+/**
+ * 
+ */
+package br.edu.ifs.ed2.dados.hash.colisao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import br.edu.ifs.ed2.dados.hash.Hash;
+import br.edu.ifs.ed2.dados.hash.HashAberto;
+import br.edu.ifs.ed2.dados.hash.chave.ChaveNumerica;
+import br.edu.ifs.ed2.dados.hash.chave.EstrategiaChave;
+import br.edu.ifs.ed2.dados.hash.espalhamento.EspalhamentoDivisao;
+import br.edu.ifs.ed2.dados.hash.espalhamento.EstrategiaEspalhamento;
+
+/**
+ * @author Marlos Tacio Silva
+ *
+ */
+public class TesteColisaoQuadratica {
+
+	/*
+	 * Tamanho da tabela hash.
+	 */
+	private int tamanho = 8;
+
+	/*
+	 * Estratgia de gerao de chaves numricas.
+	 */
+	private EstrategiaChave<Integer> chave = new ChaveNumerica();
+
+	/*
+	 * Estratgia de tratamento de colises.
+	 */
+	private EstrategiaColisao<Integer> colisao = new ColisaoQuadratica<Integer>();
+
+	/*
+	 * Estratgia de espalhamento dos elementos na tabela hash.
+	 */
+	private EstrategiaEspalhamento<Integer> espalhamento = new EspalhamentoDivisao<Integer>();
+
+	/*
+	 * Tabela Hash com endereamento aberto.
+	 */
+	private Hash<Integer> hash = new HashAberto<Integer>(tamanho, chave, espalhamento, colisao);
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.hash.colisao.ColisaoQuadratica#obterIndice(int, br.edu.ifs.ed2.dados.hash.Hash)}.
+	 */
+	@Test
+	@SuppressWarnings("deprecation")
+	public void testObterIndiceIntHashOfG() {
+
+		/*
+		 * Insero de elementos no incio da tabela.
+		 */
+		hash.inserir(1);
+		hash.inserir(2);
+		hash.inserir(3);
+
+		/*
+		 * Insero de elementos no fim da tabela.
+		 */
+		hash.inserir(5);
+		hash.inserir(6);
+		hash.inserir(7);
+
+		/*
+		 * Resoluo de coliso com clulas livres.
+		 */
+		assertEquals(colisao.obterIndice(0, hash), 0);
+		assertEquals(colisao.obterIndice(4, hash), 4);
+
+		/*
+		 * Resoluo de coliso com clulas ocupadas.
+		 */
+		assertEquals(colisao.obterIndice(1, hash), 4);
+		assertEquals(colisao.obterIndice(2, hash), 0);
+		assertEquals(colisao.obterIndice(3, hash), 4);
+
+		/*
+		 * Resoluo de coliso com clulas ocupadas.
+		 */
+		assertEquals(colisao.obterIndice(5, hash), 0);
+		assertEquals(colisao.obterIndice(6, hash), 4);
+		assertEquals(colisao.obterIndice(7, hash), 0);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.hash.colisao.ColisaoQuadratica#obterIndice(int, br.edu.ifs.ed2.dados.hash.Hash, java.lang.Object)}.
+	 */
+	@Test
+	public void testObterIndiceIntHashOfGG() {
+
+		/*
+		 * Insero de elementos na tabela.
+		 */
+		hash.inserir(0);
+		hash.inserir(8);
+		hash.inserir(16);
+		hash.inserir(24);
+		hash.inserir(32);
+		hash.inserir(40);
+		hash.inserir(48);
+		hash.inserir(56);
+		hash.inserir(64);
+
+		/*
+		 * Verificao dos elementos na tabela de espalhamento, deslocados do ndice
+		 * inicial pelos nmeros triangulares 0, 1, 3, 6, 10, 15, 21 e 28.
+		 */
+		assertEquals(colisao.obterIndice(0, hash, 0), 0);
+		assertEquals(colisao.obterIndice(0, hash, 8), 1);
+		assertEquals(colisao.obterIndice(0, hash, 16), 3);
+		assertEquals(colisao.obterIndice(0, hash, 24), 6);
+		assertEquals(colisao.obterIndice(0, hash, 32), 2);
+		assertEquals(colisao.obterIndice(0, hash, 40), 7);
+		assertEquals(colisao.obterIndice(0, hash, 48), 5);
+		assertEquals(colisao.obterIndice(0, hash, 56), 4);
+		assertEquals(colisao.obterIndice(0, hash, 64), -1);
+	}
+
+	/**
+	 * Testar mtodo para
+	 * {@link br.edu.ifs.ed2.dados.hash.colisao.ColisaoQuadratica#suportaTamanho(int)}.
+	 */
+	@Test
+	public void testSuportaTamanho() {
+
+		/*
+		 * Apenas as potncias de dois devem ser suportadas.
+		 */
+		assertTrue(colisao.suportaTamanho(1));
+		assertTrue(colisao.suportaTamanho(8));
+		assertTrue(colisao.suportaTamanho(1024));
+
+		assertFalse(colisao.suportaTamanho(0));
+		assertFalse(colisao.suportaTamanho(10));
+		assertFalse(colisao.suportaTamanho(12));
+		assertFalse(colisao.suportaTamanho(1000));
+	}
+
+	/**
+	 * Testar a construo de uma tabela com tamanho que no  potncia de dois,
+	 * que deve ser rejeitada.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testTamanhoNaoSuportado() {
+
+		new HashAberto<Integer>(1000, chave, espalhamento, colisao, 0.75);
+	}
+}
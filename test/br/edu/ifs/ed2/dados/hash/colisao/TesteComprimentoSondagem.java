@@ -0,0 +1,171 @@
+/**
+ * 
+ */
+package br.edu.ifs.ed2.dados.hash.colisao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import br.edu.ifs.ed2.dados.hash.Hash;
+import br.edu.ifs.ed2.dados.hash.HashAberto;
+import br.edu.ifs.ed2.dados.hash.chave.EstrategiaChave;
+import br.edu.ifs.ed2.dados.hash.espalhamento.EspalhamentoDivisao;
+import br.edu.ifs.ed2.dados.hash.espalhamento.EstrategiaEspalhamento;
+
+/**
+ * @author Marlos Tacio Silva
+ *
+ */
+public class TesteComprimentoSondagem {
+
+	/*
+	 * Tamanho da tabela hash.
+	 */
+	private int tamanho = 1024;
+
+	/*
+	 * Quantidade de comparaes entre contedos efetuadas desde a ltima
+	 * verificao.
+	 */
+	private long comparacoes;
+
+	/*
+	 * Estratgia de gerao de chaves a partir do valor de cada elemento.
+	 */
+	private EstrategiaChave<Elemento> chave = elemento -> elemento.valor;
+
+	/*
+	 * Estratgia de espalhamento dos elementos na tabela hash.
+	 */
+	private EstrategiaEspalhamento<Elemento> espalhamento = new EspalhamentoDivisao<Elemento>();
+
+	/**
+	 * Testar o comprimento mdio das sondagens das tcnicas linear, quadrtica e de
+	 * disperso dupla com chaves numricas agrupadas em sequncias de valores
+	 * consecutivos.
+	 */
+	@Test
+	public void testComprimentoMedio() {
+
+		for (double fatorCarga : new double[] { 0.5, 0.75, 0.9 }) {
+
+			double linear = this.medir(new ColisaoLinear<Elemento>(), fatorCarga);
+			double quadratica = this.medir(new ColisaoQuadratica<Elemento>(), fatorCarga);
+			double dupla = this.medir(new ColisaoDuplaDispersao<Elemento>(espalhamento), fatorCarga);
+
+			/*
+			 * As sequncias de valores consecutivos formam agrupamentos primrios na
+			 * tcnica linear, evitados pela tcnica quadrtica. Apenas a disperso dupla
+			 * evita os agrupamentos secundrios, aproximando-se da mdia esperada para
+			 * um espalhamento uniforme, (1 / a) ln(1 / (1 - a)).
+			 */
+			assertTrue(quadratica < linear);
+			assertTrue(dupla < quadratica);
+			assertTrue(dupla >= 1);
+			assertTrue(dupla <= 1.25 * Math.log(1 / (1 - fatorCarga)) / fatorCarga);
+		}
+	}
+
+	/**
+	 * Mtodo auxiliar que preenche uma tabela at o fator de carga informado e
+	 * calcula a quantidade mdia de sondagens de uma busca bem sucedida.
+	 *
+	 * @param colisao    Estratgia de tratamento de colises.
+	 *
+	 * @param fatorCarga Fator de carga da tabela.
+	 *
+	 * @return Quantidade mdia de sondagens por busca.
+	 */
+	private double medir(EstrategiaColisao<Elemento> colisao, double fatorCarga) {
+
+		Hash<Elemento> hash = new HashAberto<Elemento>(tamanho, chave, espalhamento, colisao);
+		List<Elemento> elementos = this.gerar((int) (fatorCarga * tamanho));
+
+		for (Elemento elemento : elementos) {
+
+			assertTrue(hash.inserir(elemento));
+		}
+
+		assertEquals(hash.getQuantidade(), elementos.size());
+
+		/*
+		 * Cada sondagem de uma clula ocupada compara o contedo buscado com o
+		 * contedo da clula.
+		 */
+		comparacoes = 0;
+
+		for (Elemento elemento : elementos) {
+
+			assertTrue(hash.buscar(elemento) >= 0);
+		}
+
+		return (double) comparacoes / elementos.size();
+	}
+
+	/**
+	 * Mtodo auxiliar que gera elementos distintos agrupados em sequncias de 16
+	 * valores consecutivos.
+	 *
+	 * @param quantidade Quantidade de elementos.
+	 *
+	 * @return Lista de elementos.
+	 */
+	private List<Elemento> gerar(int quantidade) {
+
+		Random aleatorio = new Random(37);
+		Set<Integer> valores = new LinkedHashSet<Integer>();
+
+		while (valores.size() < quantidade) {
+
+			int inicio = aleatorio.nextInt(1 << 20);
+
+			for (int i = 0; i < 16 && valores.size() < quantidade; ++i) {
+
+				valores.add(inicio + i);
+			}
+		}
+
+		List<Elemento> elementos = new ArrayList<Elemento>();
+
+		for (int valor : valores) {
+
+			elementos.add(new Elemento(valor));
+		}
+
+		return elementos;
+	}
+
+	/*
+	 * Elemento que contabiliza as comparaes efetuadas pela tabela.
+	 */
+	private class Elemento {
+
+		private final int valor;
+
+		private Elemento(int valor) {
+
+			this.valor = valor;
+		}
+
+		@Override
+		public boolean equals(Object outro) {
+
+			++comparacoes;
+			return outro instanceof Elemento && ((Elemento) outro).valor == this.valor;
+		}
+
+		@Override
+		public int hashCode() {
+
+			return this.valor;
+		}
+	}
+}